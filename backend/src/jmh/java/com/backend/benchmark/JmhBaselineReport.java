@@ -0,0 +1,162 @@
+package com.backend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JMH 결과(JSON)를 기준 결과와 비교해 회귀 보고서(Markdown) 작성
+ * - 처리량(thrpt)은 낮아질수록, 그 외(avgt/sample/ss)는 높아질수록 회귀
+ * - 변화율이 threshold(%) 를 넘으면 REGRESSION, 반대 방향으로 넘으면 IMPROVED
+ * - 회귀가 하나라도 있으면 종료 코드 1 (CI 에서 실패 처리)
+ *
+ * 사용법: ./gradlew jmhCompare [-PjmhThreshold=10]
+ */
+public class JmhBaselineReport {
+
+    record Result(String key, String mode, double score, double error, String unit) {
+    }
+
+    record Comparison(String key, Result baseline, Result current, double changePercent, String verdict) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+        Path baselinePath = Path.of(options.getOrDefault("--baseline", "src/jmh/baseline.json"));
+        Path resultsPath = Path.of(options.getOrDefault("--results", "build/results/jmh/results.json"));
+        Path reportPath = Path.of(options.getOrDefault("--report", "build/reports/jmh/baseline-comparison.md"));
+        double threshold = Double.parseDouble(options.getOrDefault("--threshold", "10"));
+
+        if (!Files.exists(resultsPath)) {
+            System.err.println("JMH 결과 파일이 없습니다. 먼저 ./gradlew jmh 를 실행하세요: " + resultsPath);
+            System.exit(2);
+        }
+        if (!Files.exists(baselinePath)) {
+            System.err.println("기준 결과 파일이 없습니다. ./gradlew jmhUpdateBaseline 으로 생성하세요: " + baselinePath);
+            System.exit(2);
+        }
+
+        Map<String, Result> baseline = read(baselinePath);
+        Map<String, Result> current = read(resultsPath);
+        List<Comparison> comparisons = compare(baseline, current, threshold);
+
+        String report = render(comparisons, threshold, baselinePath, resultsPath);
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        Files.writeString(reportPath, report);
+        System.out.println(report);
+        System.out.println("보고서: " + reportPath.toAbsolutePath());
+
+        if (comparisons.stream().anyMatch(c -> c.verdict().equals("REGRESSION"))) {
+            System.exit(1);
+        }
+    }
+
+    static List<Comparison> compare(Map<String, Result> baseline, Map<String, Result> current, double threshold) {
+        List<Comparison> comparisons = new ArrayList<>();
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null || before.score() == 0) {
+                comparisons.add(new Comparison(entry.getKey(), null, now, 0, "NEW"));
+                continue;
+            }
+
+            double change = (now.score() - before.score()) / before.score() * 100;
+            // 처리량은 감소가, 시간 측정은 증가가 회귀
+            double regression = now.mode().equals("thrpt") ? -change : change;
+            String verdict = regression > threshold ? "REGRESSION"
+                    : regression < -threshold ? "IMPROVED"
+                    : "OK";
+            comparisons.add(new Comparison(entry.getKey(), before, now, change, verdict));
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                comparisons.add(new Comparison(key, baseline.get(key), null, 0, "MISSING"));
+            }
+        }
+        return comparisons;
+    }
+
+    // 벤치마크 이름 + 파라미터를 키로 사용
+    static Map<String, Result> read(Path path) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(path.toFile());
+        Map<String, Result> results = new TreeMap<>();
+        for (JsonNode node : root) {
+            StringBuilder key = new StringBuilder(node.path("benchmark").asText());
+            JsonNode params = node.path("params");
+            if (params.isObject()) {
+                Map<String, String> sorted = new TreeMap<>();
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    sorted.put(field.getKey(), field.getValue().asText());
+                }
+                key.append(sorted);
+            }
+            JsonNode metric = node.path("primaryMetric");
+            results.put(key.toString(), new Result(
+                    key.toString(),
+                    node.path("mode").asText(),
+                    metric.path("score").asDouble(),
+                    metric.path("scoreError").asDouble(Double.NaN),
+                    metric.path("scoreUnit").asText()
+            ));
+        }
+        return results;
+    }
+
+    private static String render(List<Comparison> comparisons, double threshold, Path baselinePath, Path resultsPath) {
+        long regressions = comparisons.stream().filter(c -> c.verdict().equals("REGRESSION")).count();
+        StringBuilder sb = new StringBuilder();
+        sb.append("# JMH 기준 비교\n\n");
+        sb.append("- 기준: `").append(baselinePath).append("`\n");
+        sb.append("- 현재: `").append(resultsPath).append("`\n");
+        sb.append("- 임계값: ").append(threshold).append("%\n");
+        sb.append("- 회귀: ").append(regressions).append("건\n\n");
+        sb.append("| 판정 | 벤치마크 | 기준 | 현재 | 변화 |\n");
+        sb.append("|---|---|---:|---:|---:|\n");
+        for (Comparison c : comparisons) {
+            sb.append("| ").append(c.verdict())
+                    .append(" | ").append(shortName(c.key()))
+                    .append(" | ").append(format(c.baseline()))
+                    .append(" | ").append(format(c.current()))
+                    .append(" | ").append(c.baseline() == null || c.current() == null
+                            ? "-" : String.format("%+.1f%%", c.changePercent()))
+                    .append(" |\n");
+        }
+        return sb.toString();
+    }
+
+    private static String shortName(String key) {
+        int paramsStart = key.indexOf('{');
+        String name = paramsStart < 0 ? key : key.substring(0, paramsStart);
+        int classStart = name.lastIndexOf('.', name.lastIndexOf('.') - 1);
+        return name.substring(classStart + 1) + (paramsStart < 0 ? "" : key.substring(paramsStart));
+    }
+
+    private static String format(Result result) {
+        if (result == null) {
+            return "-";
+        }
+        return Double.isNaN(result.error())
+                ? String.format("%.3f %s", result.score(), result.unit())
+                : String.format("%.3f ± %.3f %s", result.score(), result.error(), result.unit());
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i], args[i + 1]);
+        }
+        return options;
+    }
+}
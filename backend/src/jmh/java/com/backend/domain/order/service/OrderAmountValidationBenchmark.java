@@ -0,0 +1,52 @@
+package com.backend.domain.order.service;
+
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.order.dto.request.OrderDetailsCreateRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * createOrder 의 항목 금액 / 총액 검증 (DB 조회 제외)
+ * - 장바구니 크기별 주문 1건 검증 시간
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderAmountValidationBenchmark {
+
+    @Param({"1", "5", "20", "50"})
+    private int basketSize;
+
+    private List<OrderDetailsCreateRequest> items;
+    private List<Menu> menus;
+    private int requestedAmount;
+
+    @Setup
+    public void setUp() {
+        items = new ArrayList<>(basketSize);
+        menus = new ArrayList<>(basketSize);
+        int total = 0;
+        for (int i = 0; i < basketSize; i++) {
+            Menu menu = Menu.builder().name("원두 " + i).price(1000 + i).build();
+            items.add(new OrderDetailsCreateRequest((long) i, menu.getName(), 2, menu.getPrice() * 2));
+            menus.add(menu);
+            total += menu.getPrice() * 2;
+        }
+        requestedAmount = total < 50000 ? total + 3000 : total;
+    }
+
+    @Benchmark
+    public int validate() {
+        int itemsTotal = 0;
+        for (int i = 0; i < items.size(); i++) {
+            itemsTotal += OrderService.validateItemPrice(items.get(i), menus.get(i));
+        }
+        return OrderService.validateOrderAmount(itemsTotal, requestedAmount);
+    }
+}
@@ -0,0 +1,43 @@
+package com.backend.global.jpa.id;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snowflake ID 발급 처리량 (ops/s = 초당 발급 ID 수)
+ * 노드 하나의 이론적 상한은 ms 당 4096개(약 409만/s)이며, 스레드가 늘어도 CAS 경합으로 상한을 넘지 않음
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SnowflakeIdWorkerBenchmark {
+
+    private SnowflakeIdWorker worker;
+
+    @Setup
+    public void setUp() {
+        worker = new SnowflakeIdWorker(1, 5000, System::currentTimeMillis);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long nextId_1Thread() {
+        return worker.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long nextId_4Threads() {
+        return worker.nextId();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long nextId_16Threads() {
+        return worker.nextId();
+    }
+}
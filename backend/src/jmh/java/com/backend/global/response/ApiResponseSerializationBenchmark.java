@@ -0,0 +1,66 @@
+package com.backend.global.response;
+
+import com.backend.domain.order.dto.response.OrderSummaryDetailResponse;
+import com.backend.domain.order.dto.response.OrderSummaryResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 목록 응답(ApiResponse<List<OrderSummaryResponse>>) JSON 직렬화
+ * - Spring MVC 와 같은 설정(JavaTimeModule, 날짜를 문자열로)의 ObjectMapper 사용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int orderCount;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<OrderSummaryResponse>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderSummaryResponse> orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            List<OrderSummaryDetailResponse> items = List.of(
+                    new OrderSummaryDetailResponse("원두 A", 2, 20000, "https://example.com/images/a.jpg"),
+                    new OrderSummaryDetailResponse("원두 B", 1, 15000, "https://example.com/images/b.jpg"),
+                    new OrderSummaryDetailResponse("원두 C", 3, 36000, "https://example.com/images/c.jpg")
+            );
+            orders.add(new OrderSummaryResponse(
+                    1_000_000_000_000L + i,
+                    now.minusMinutes(i),
+                    71000,
+                    "PAID",
+                    "서울시 강남구 테헤란로 123번길 456호",
+                    2_000_000_000_000L + i,
+                    items
+            ));
+        }
+        response = ApiResponse.success(orders);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,56 @@
+package com.backend.global.response;
+
+import com.backend.domain.cart.controller.dto.response.CartResponse;
+import com.backend.domain.cart.entity.Cart;
+import com.backend.domain.menu.dto.MenuResponse;
+import com.backend.domain.menu.entity.Menu;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 (장바구니 / 메뉴 목록 한 번 변환하는 시간)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private List<Menu> menus;
+    private List<Cart> carts;
+
+    @Setup
+    public void setUp() {
+        menus = new ArrayList<>(size);
+        carts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Menu menu = Menu.builder()
+                    .name("원두 " + i)
+                    .price(10000 + i)
+                    .isSoldOut(false)
+                    .description("벤치마크용 원두 " + i)
+                    .imageUrl("https://example.com/images/" + i + ".jpg")
+                    .build();
+            menus.add(menu);
+            carts.add(Cart.builder().menu(menu).quantity(1 + i % 5).build());
+        }
+    }
+
+    @Benchmark
+    public List<CartResponse> cartResponse_From() {
+        return carts.stream().map(CartResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<MenuResponse> menuResponse_From() {
+        return menus.stream().map(MenuResponse::from).toList();
+    }
+}
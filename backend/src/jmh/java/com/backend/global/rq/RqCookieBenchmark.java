@@ -0,0 +1,47 @@
+package com.backend.global.rq;
+
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 쿠키에서 apiKey 찾기 - 쿠키 개수별, 찾는 쿠키가 마지막에 있는 경우
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RqCookieBenchmark {
+
+    @Param({"1", "10", "30"})
+    private int cookieCount;
+
+    private Rq rq;
+
+    @Setup
+    public void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        Cookie[] cookies = new Cookie[cookieCount];
+        for (int i = 0; i < cookieCount - 1; i++) {
+            cookies[i] = new Cookie("cookie" + i, "value" + i);
+        }
+        cookies[cookieCount - 1] = new Cookie("apiKey", "3f1c2b7e-4a7d-4c55-9a3e-7d2b1f0c9e11");
+        request.setCookies(cookies);
+
+        rq = new Rq(null, request, null);
+    }
+
+    @Benchmark
+    public String getCookieValue_ApiKey() {
+        return rq.getCookieValue("apiKey", "");
+    }
+
+    @Benchmark
+    public String getCookieValue_Missing() {
+        return rq.getCookieValue("accessToken", "");
+    }
+}
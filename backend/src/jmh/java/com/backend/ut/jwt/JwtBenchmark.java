@@ -0,0 +1,32 @@
+package com.backend.ut.jwt;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급 (HMAC-SHA 서명) 시간 - application.yml 의 secretPattern 과 같은 길이의 키 사용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String SECRET = "abcdefghijklmnopqrstuvwxyz1234567890abcdefghijklmnopqrstuvwxyz1234567890";
+
+    private final Ut.jwt jwt = new Ut.jwt();
+    private final Map<String, Object> body = Map.of(
+            "id", 42L,
+            "email", "user@example.com",
+            "level", 1
+    );
+
+    @Benchmark
+    public String sign() {
+        return jwt.toString(SECRET, 30 * 60, body);
+    }
+}
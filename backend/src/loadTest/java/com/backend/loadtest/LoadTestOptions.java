@@ -0,0 +1,106 @@
+package com.backend.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부하 테스트 옵션 (--name=value)
+ * - 아래 목록에 없는 --key=value 는 애플리케이션 설정으로 그대로 전달 (예: --custom.payment.processor.type=random)
+ *
+ * <pre>
+ * --users=50            가상 사용자 수
+ * --duration=60s        측정 시간
+ * --warmup=10s          측정 전 워밍업 시간 (기록하지 않음)
+ * --rampUp=5s           가상 사용자 시작을 나눠서 띄우는 시간
+ * --thinkTime=0ms       단계 사이 대기 시간
+ * --mix=journey=100     시나리오 비율 (journey / browse / cart, 예: journey=70,browse=30)
+ * --itemsPerOrder=3     주문당 담는 메뉴 종류 수
+ * --menus=20            추가로 생성할 메뉴 수
+ * --seed=42             데이터 생성 / 시나리오 선택 시드
+ * --report=build/reports/load-test
+ * --threads=            요청 처리 스레드 모드 (platform / virtual / compare, 비우면 애플리케이션 설정)
+ *                       compare 는 두 모드를 차례로 실행해 report 아래 platform/, virtual/, comparison.md 작성
+ * </pre>
+ */
+record LoadTestOptions(
+        int users,
+        Duration duration,
+        Duration warmup,
+        Duration rampUp,
+        Duration thinkTime,
+        Map<Scenario, Integer> mix,
+        int itemsPerOrder,
+        int menus,
+        long seed,
+        String report,
+        List<ThreadMode> threadModes,
+        List<String> applicationArgs
+) {
+
+    private static final Set<String> OPTION_NAMES = Set.of(
+            "users", "duration", "warmup", "rampUp", "thinkTime", "mix", "itemsPerOrder", "menus", "seed", "report",
+            "threads");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String name = arg.startsWith("--") && eq > 2 ? arg.substring(2, eq) : null;
+            if (name != null && OPTION_NAMES.contains(name)) {
+                options.put(name, arg.substring(eq + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+
+        return new LoadTestOptions(
+                Integer.parseInt(options.getOrDefault("users", "50")),
+                duration(options.getOrDefault("duration", "60s")),
+                duration(options.getOrDefault("warmup", "10s")),
+                duration(options.getOrDefault("rampUp", "5s")),
+                duration(options.getOrDefault("thinkTime", "0ms")),
+                mix(options.getOrDefault("mix", "journey=100")),
+                Integer.parseInt(options.getOrDefault("itemsPerOrder", "3")),
+                Integer.parseInt(options.getOrDefault("menus", "20")),
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                options.getOrDefault("report", "build/reports/load-test"),
+                threadModes(options.getOrDefault("threads", "")),
+                applicationArgs
+        );
+    }
+
+    // 10s, 500ms, 2m
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("시간 형식은 ms/s/m 단위여야 합니다: " + value);
+        };
+    }
+
+    private static List<ThreadMode> threadModes(String value) {
+        return switch (value) {
+            case "" -> List.of();
+            case "compare" -> List.of(ThreadMode.PLATFORM, ThreadMode.VIRTUAL);
+            default -> List.of(ThreadMode.valueOf(value.toUpperCase()));
+        };
+    }
+
+    private static Map<Scenario, Integer> mix(String value) {
+        Map<Scenario, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] pair = part.split("=");
+            mix.put(Scenario.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+}
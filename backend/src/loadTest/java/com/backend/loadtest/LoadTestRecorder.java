@@ -0,0 +1,129 @@
+package com.backend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 응답 시간(HDR 히스토그램, µs)과 상태 코드 집계
+ * - 측정 구간이 시작되기 전(워밍업) 기록은 버림
+ */
+class LoadTestRecorder {
+
+    // 최대 60초까지 유효숫자 3자리로 기록
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentSkipListMap<>();
+    private volatile boolean recording;
+
+    void start() {
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+    }
+
+    void record(String endpoint, long elapsedNanos, int status) {
+        if (!recording) {
+            return;
+        }
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+        stats.histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+        stats.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    // summary.md + 엔드포인트별 백분위 분포(.hgrm, ms 단위)
+    Path writeReport(Path dir, Duration measured, LoadTestOptions options) throws IOException {
+        Files.createDirectories(dir);
+        double seconds = measured.toMillis() / 1000.0;
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("# 부하 테스트 결과\n\n");
+        sb.append("- 가상 사용자: ").append(options.users())
+                .append(", 측정 ").append(measured.toSeconds()).append("s (워밍업 ")
+                .append(options.warmup().toSeconds()).append("s)\n");
+        sb.append("- 시나리오 비율: ").append(options.mix()).append(", seed ").append(options.seed()).append("\n\n");
+        sb.append("| 엔드포인트 | 요청 | 오류 | req/s | p50 (ms) | p90 (ms) | p99 (ms) | p99.9 (ms) | max (ms) | 상태 코드 |\n");
+        sb.append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---|\n");
+
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            Histogram histogram = entry.getValue().histogram.copy();
+            Map<Integer, Long> statuses = entry.getValue().statusCounts();
+            long errors = errors(statuses);
+
+            sb.append(String.format("| %s | %d | %d | %.1f | %.2f | %.2f | %.2f | %.2f | %.2f | %s |%n",
+                    entry.getKey(),
+                    histogram.getTotalCount(),
+                    errors,
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    statuses));
+
+            Path hgrm = dir.resolve(entry.getKey().replaceAll("[^A-Za-z0-9]+", "_") + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(hgrm))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        Path summary = dir.resolve("summary.md");
+        Files.writeString(summary, sb.toString());
+        return summary;
+    }
+
+    // 모드 비교 보고서용 엔드포인트별 요약
+    Map<String, EndpointSummary> summaries(Duration measured) {
+        double seconds = measured.toMillis() / 1000.0;
+        Map<String, EndpointSummary> summaries = new TreeMap<>();
+        endpoints.forEach((name, endpoint) -> {
+            Histogram histogram = endpoint.histogram.copy();
+            summaries.put(name, new EndpointSummary(
+                    histogram.getTotalCount(),
+                    errors(endpoint.statusCounts()),
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99))));
+        });
+        return summaries;
+    }
+
+    private static long errors(Map<Integer, Long> statuses) {
+        return statuses.entrySet().stream()
+                .filter(status -> status.getKey() < 200 || status.getKey() >= 300)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static class Endpoint {
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        private Map<Integer, Long> statusCounts() {
+            Map<Integer, Long> counts = new TreeMap<>();
+            statuses.forEach((status, count) -> counts.put(status, count.sum()));
+            return counts;
+        }
+    }
+
+    record EndpointSummary(long requests, long errors, double throughput, double p50Millis, double p99Millis) {
+    }
+}
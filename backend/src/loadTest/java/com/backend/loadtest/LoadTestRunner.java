@@ -0,0 +1,164 @@
+package com.backend.loadtest;
+
+import com.backend.BackendApplication;
+import com.backend.loadtest.LoadTestRecorder.EndpointSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP API 부하 테스트 (로컬 전용)
+ * 1. test 프로파일(H2 메모리 DB)로 애플리케이션을 임의 포트에 띄움
+ * 2. 가상 사용자 수만큼 계정/배송지와 추가 메뉴 생성
+ * 3. 가상 스레드마다 가상 사용자 하나가 시나리오를 반복 (HttpClient 도 가상 스레드 사용)
+ * 4. 엔드포인트별 처리량 / p50 / p99 보고서 작성
+ * --threads=compare 이면 플랫폼 스레드 / 가상 스레드 모드로 한 번씩 실행하고 비교 보고서 작성
+ *
+ * 사용법: ./gradlew loadTest --args="--users=100 --duration=2m --mix=journey=70,browse=30"
+ *        ./gradlew loadTest --args="--users=400 --threads=compare"
+ */
+public class LoadTestRunner {
+
+    private static final long REQUEST_DRAIN_SECONDS = 30;
+
+    // 부하 테스트 중에는 SQL 로그를 끄고, 결제 처리기는 지연을 흉내 내는 모의 처리기 사용
+    private static final String[] DEFAULT_APPLICATION_ARGS = {
+            "--spring.profiles.active=test",
+            "--server.port=0",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.org.hibernate.orm.jdbc.bind=WARN",
+            "--logging.level.org.hibernate.orm.jdbc.extract=WARN",
+            "--logging.level.org.springframework.transaction.interceptor=WARN",
+            "--custom.payment.processor.type=simulated",
+            "--custom.payment.processor.simulation.latencyDistribution=NORMAL",
+            "--custom.payment.processor.simulation.latencyMillis=50",
+            "--custom.payment.processor.simulation.latencyStdDevMillis=10",
+            "--custom.payment.processor.simulation.hangRate=0"
+    };
+
+    public static void main(String[] commandLine) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(commandLine);
+
+        // 같은 설정을 두 번 넘기면 값이 합쳐지므로 키 기준으로 덮어씀
+        List<String> args = new ArrayList<>(List.of(DEFAULT_APPLICATION_ARGS));
+        args.add("--custom.payment.processor.simulation.seed=" + options.seed());
+        args.addAll(options.applicationArgs());
+        Map<String, String> applicationArgs = new LinkedHashMap<>();
+        putAll(applicationArgs, args);
+
+        Path report = Path.of(options.report());
+        if (options.threadModes().isEmpty()) {
+            runApplication(options, applicationArgs, report);
+            return;
+        }
+
+        // 모드마다 애플리케이션을 새로 띄워 같은 시드로 실행 (스레드 모드는 시작 시에만 정해짐)
+        Map<ThreadMode, Map<String, EndpointSummary>> results = new EnumMap<>(ThreadMode.class);
+        boolean compare = options.threadModes().size() > 1;
+        for (ThreadMode mode : options.threadModes()) {
+            Map<String, String> modeArgs = new LinkedHashMap<>(applicationArgs);
+            putAll(modeArgs, List.of(mode.applicationArg()));
+            System.out.println("스레드 모드: " + mode);
+            results.put(mode, runApplication(options, modeArgs, compare ? report.resolve(mode.directoryName()) : report));
+        }
+
+        if (compare) {
+            Path comparison = ThreadModeComparison.write(report, results, options);
+            System.out.println(Files.readString(comparison));
+            System.out.println("비교 보고서: " + comparison.toAbsolutePath());
+        }
+    }
+
+    private static Map<String, EndpointSummary> runApplication(LoadTestOptions options,
+                                                               Map<String, String> applicationArgs,
+                                                               Path report) throws Exception {
+        try (ConfigurableApplicationContext context = SpringApplication.run(
+                BackendApplication.class, applicationArgs.values().toArray(String[]::new))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+
+            List<SeededUser> users = new LoadTestSeeder(context).seed(options.users(), options.menus(), options.seed());
+            System.out.printf("부하 테스트 시작: %s, 가상 사용자 %d명, 워밍업 %ds + 측정 %ds%n",
+                    baseUrl, users.size(), options.warmup().toSeconds(), options.duration().toSeconds());
+
+            LoadTestRecorder recorder = new LoadTestRecorder();
+            Duration measured = run(options, users, baseUrl, recorder);
+
+            Path summary = recorder.writeReport(report, measured, options);
+            System.out.println(Files.readString(summary));
+            System.out.println("보고서: " + summary.toAbsolutePath());
+            return recorder.summaries(measured);
+        }
+    }
+
+    private static void putAll(Map<String, String> applicationArgs, List<String> args) {
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            applicationArgs.put(eq < 0 ? arg : arg.substring(0, eq), arg);
+        }
+    }
+
+    private static Duration run(LoadTestOptions options, List<SeededUser> users, String baseUrl,
+                                LoadTestRecorder recorder) throws InterruptedException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + options.warmup().toNanos();
+        long deadlineNanos = measureStartNanos + options.duration().toNanos();
+        long rampUpStepNanos = users.isEmpty() ? 0 : options.rampUp().toNanos() / users.size();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .executor(executor)
+                     .build()) {
+
+            for (int i = 0; i < users.size(); i++) {
+                VirtualUser virtualUser = new VirtualUser(httpClient, objectMapper, recorder, baseUrl,
+                        users.get(i), options, options.seed() + i, deadlineNanos);
+                long startAt = startNanos + rampUpStepNanos * i;
+                executor.submit(() -> {
+                    sleepUntil(startAt);
+                    virtualUser.run();
+                });
+            }
+
+            sleepUntil(measureStartNanos);
+            recorder.start();
+            sleepUntil(deadlineNanos);
+            recorder.stop();
+            long measuredNanos = System.nanoTime() - measureStartNanos;
+
+            // 진행 중인 요청이 끝날 때까지 기다린 뒤 HttpClient 종료
+            executor.shutdown();
+            executor.awaitTermination(REQUEST_DRAIN_SECONDS, TimeUnit.SECONDS);
+            return Duration.ofNanos(measuredNanos);
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.backend.loadtest;
+
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.repository.MenuRepository;
+import com.backend.domain.user.address.dto.AddressDto;
+import com.backend.domain.user.address.entity.Address;
+import com.backend.domain.user.address.repository.AddressRepository;
+import com.backend.domain.user.user.entity.Users;
+import com.backend.domain.user.user.repository.UserRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 데이터 생성 (가상 사용자마다 계정 + 배송지 1개, 추가 메뉴)
+ * - 같은 seed 면 같은 메뉴 가격으로 생성
+ * - 비밀번호 해시는 한 번만 계산해 모든 계정에 사용 (BCrypt 가 준비 시간을 지배하지 않도록)
+ */
+class LoadTestSeeder {
+
+    static final String PASSWORD = "loadtest1234";
+
+    private final UserRepository userRepository;
+    private final AddressRepository addressRepository;
+    private final MenuRepository menuRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+
+    LoadTestSeeder(ApplicationContext context) {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.addressRepository = context.getBean(AddressRepository.class);
+        this.menuRepository = context.getBean(MenuRepository.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    List<SeededUser> seed(int users, int menus, long seed) {
+        Random random = new Random(seed);
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        return transactionTemplate.execute(status -> {
+            for (int i = 0; i < menus; i++) {
+                menuRepository.save(Menu.builder()
+                        .name("부하 테스트 원두 " + i)
+                        .price(5000 + random.nextInt(40) * 500)
+                        .isSoldOut(false)
+                        .description("부하 테스트용 메뉴")
+                        .imageUrl("https://example.com/images/load-" + i + ".jpg")
+                        .build());
+            }
+
+            List<SeededUser> seeded = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                String email = "load-" + i + "@example.com";
+                Users user = userRepository.save(new Users(email, encodedPassword, "010-0000-" + String.format("%04d", i), 1));
+                Address address = addressRepository.save(new Address(user,
+                        new AddressDto(null, user.getUserId(), "서울시 강남구 테헤란로", "부하 " + i + "호", "12345")));
+                seeded.add(new SeededUser(email, PASSWORD, address.getAddressId()));
+            }
+            return seeded;
+        });
+    }
+}
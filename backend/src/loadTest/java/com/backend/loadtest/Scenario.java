@@ -0,0 +1,13 @@
+package com.backend.loadtest;
+
+/**
+ * 가상 사용자가 한 번 반복할 때 실행하는 사용자 여정
+ */
+enum Scenario {
+    // 로그인 - 메뉴 - 장바구니 담기 - 주문 - 결제 - 주문 내역
+    JOURNEY,
+    // 로그인 - 메뉴 - 주문 내역
+    BROWSE,
+    // 로그인 - 메뉴 - 장바구니 담기
+    CART
+}
@@ -0,0 +1,8 @@
+package com.backend.loadtest;
+
+record SeededUser(
+        String email,
+        String password,
+        long addressId
+) {
+}
@@ -0,0 +1,23 @@
+package com.backend.loadtest;
+
+/**
+ * 부하 테스트 대상 애플리케이션의 요청 처리 스레드 모드 (--threads=platform / virtual / compare)
+ */
+enum ThreadMode {
+    PLATFORM(false),
+    VIRTUAL(true);
+
+    private final boolean virtual;
+
+    ThreadMode(boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    String applicationArg() {
+        return "--spring.threads.virtual.enabled=" + virtual;
+    }
+
+    String directoryName() {
+        return name().toLowerCase();
+    }
+}
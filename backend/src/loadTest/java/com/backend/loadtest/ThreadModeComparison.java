@@ -0,0 +1,56 @@
+package com.backend.loadtest;
+
+import com.backend.loadtest.LoadTestRecorder.EndpointSummary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * --threads=compare 결과 비교 보고서 (comparison.md)
+ * - 같은 시드 / 시나리오로 플랫폼 스레드와 가상 스레드 모드를 차례로 실행한 결과를 엔드포인트별로 나란히 표시
+ * - 모드별 상세 결과는 하위 디렉토리(platform/, virtual/)의 summary.md 참고
+ */
+final class ThreadModeComparison {
+
+    private static final EndpointSummary EMPTY = new EndpointSummary(0, 0, 0, 0, 0);
+
+    private ThreadModeComparison() {
+    }
+
+    static Path write(Path dir, Map<ThreadMode, Map<String, EndpointSummary>> results, LoadTestOptions options)
+            throws IOException {
+        Files.createDirectories(dir);
+        Map<String, EndpointSummary> platform = results.get(ThreadMode.PLATFORM);
+        Map<String, EndpointSummary> virtual = results.get(ThreadMode.VIRTUAL);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("# 스레드 모드 비교 (플랫폼 / 가상)\n\n");
+        sb.append("- 가상 사용자: ").append(options.users())
+                .append(", 측정 ").append(options.duration().toSeconds()).append("s (워밍업 ")
+                .append(options.warmup().toSeconds()).append("s)\n");
+        sb.append("- 시나리오 비율: ").append(options.mix()).append(", seed ").append(options.seed()).append("\n\n");
+        sb.append("| 엔드포인트 | req/s 플랫폼 | req/s 가상 | p50 플랫폼 (ms) | p50 가상 (ms) | p99 플랫폼 (ms) | p99 가상 (ms) | 오류 플랫폼 | 오류 가상 |\n");
+        sb.append("|---|---:|---:|---:|---:|---:|---:|---:|---:|\n");
+
+        Set<String> endpoints = new TreeSet<>(platform.keySet());
+        endpoints.addAll(virtual.keySet());
+        for (String endpoint : endpoints) {
+            EndpointSummary p = platform.getOrDefault(endpoint, EMPTY);
+            EndpointSummary v = virtual.getOrDefault(endpoint, EMPTY);
+            sb.append(String.format("| %s | %.1f | %.1f | %.2f | %.2f | %.2f | %.2f | %d | %d |%n",
+                    endpoint,
+                    p.throughput(), v.throughput(),
+                    p.p50Millis(), v.p50Millis(),
+                    p.p99Millis(), v.p99Millis(),
+                    p.errors(), v.errors()));
+        }
+
+        Path comparison = dir.resolve("comparison.md");
+        Files.writeString(comparison, sb.toString());
+        return comparison;
+    }
+}
@@ -0,0 +1,204 @@
+package com.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 가상 사용자 한 명 - 종료 시각까지 시나리오를 반복
+ * - 로그인 응답의 apiKey 쿠키를 직접 보관해 Cookie 헤더로 전송
+ *   (서버가 Domain=localhost 로 내려주는 쿠키는 java.net.CookieManager 가 받아들이지 않음)
+ * - 단계가 실패하면 이번 반복의 나머지 단계는 건너뜀
+ */
+class VirtualUser implements Runnable {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final LoadTestRecorder recorder;
+    private final String baseUrl;
+    private final SeededUser user;
+    private final LoadTestOptions options;
+    private final Random random;
+    private final long deadlineNanos;
+
+    private String apiKey = "";
+
+    VirtualUser(HttpClient httpClient, ObjectMapper objectMapper, LoadTestRecorder recorder, String baseUrl,
+                SeededUser user, LoadTestOptions options, long seed, long deadlineNanos) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+        this.baseUrl = baseUrl;
+        this.user = user;
+        this.options = options;
+        this.random = new Random(seed);
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public void run() {
+        while (System.nanoTime() < deadlineNanos) {
+            try {
+                iterate(nextScenario());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                recorder.record("CLIENT " + e.getClass().getSimpleName(), 0, -1);
+            }
+        }
+    }
+
+    private void iterate(Scenario scenario) throws Exception {
+        if (!login()) {
+            return;
+        }
+        List<JsonNode> menus = menus();
+        if (menus.isEmpty()) {
+            return;
+        }
+
+        switch (scenario) {
+            case BROWSE -> orders();
+            case CART -> addToCart(pickMenus(menus));
+            case JOURNEY -> {
+                List<OrderItem> items = pickMenus(menus);
+                if (!addToCart(items)) {
+                    return;
+                }
+                JsonNode order = createOrder(items);
+                if (order == null) {
+                    return;
+                }
+                pay(order.path("orderId").asLong(), order.path("orderAmount").asInt());
+                orders();
+            }
+        }
+    }
+
+    private boolean login() throws Exception {
+        HttpResponse<String> response = send("POST /api/users/login",
+                post("/api/users/login", Map.of("email", user.email(), "password", user.password())));
+        if (response.statusCode() != 200) {
+            return false;
+        }
+        apiKey = response.headers().allValues("set-cookie").stream()
+                .filter(cookie -> cookie.startsWith("apiKey="))
+                .map(cookie -> cookie.substring("apiKey=".length(), cookie.indexOf(';') < 0 ? cookie.length() : cookie.indexOf(';')))
+                .findFirst()
+                .orElse("");
+        return !apiKey.isEmpty();
+    }
+
+    private List<JsonNode> menus() throws Exception {
+        HttpResponse<String> response = send("GET /api/menus", get("/api/menus"));
+        List<JsonNode> menus = new ArrayList<>();
+        if (response.statusCode() == 200) {
+            objectMapper.readTree(response.body()).path("data").forEach(menus::add);
+        }
+        return menus;
+    }
+
+    private boolean addToCart(List<OrderItem> items) throws Exception {
+        for (OrderItem item : items) {
+            HttpResponse<String> response = send("POST /api/carts/items",
+                    post("/api/carts/items", Map.of("menuId", item.menuId(), "quantity", item.quantity())));
+            if (response.statusCode() != 200) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private JsonNode createOrder(List<OrderItem> items) throws Exception {
+        int total = items.stream().mapToInt(item -> item.price() * item.quantity()).sum();
+        int amount = total < 50000 ? total + 3000 : total;
+        List<Map<String, Object>> details = items.stream()
+                .map(item -> Map.<String, Object>of(
+                        "productId", item.menuId(),
+                        "menuName", item.name(),
+                        "quantity", item.quantity(),
+                        "orderPrice", item.price() * item.quantity()))
+                .toList();
+
+        HttpResponse<String> response = send("POST /api/orders", post("/api/orders",
+                Map.of("amount", amount, "addressId", user.addressId(), "items", details)));
+        return response.statusCode() == 200 ? objectMapper.readTree(response.body()).path("data") : null;
+    }
+
+    private void pay(long orderId, int amount) throws Exception {
+        send("POST /api/payments/create", post("/api/payments/create",
+                Map.of("orderId", orderId, "paymentAmount", amount, "paymentMethod", "CARD")));
+    }
+
+    private void orders() throws Exception {
+        send("GET /api/orders", get("/api/orders"));
+    }
+
+    private List<OrderItem> pickMenus(List<JsonNode> menus) {
+        List<OrderItem> items = new ArrayList<>();
+        List<JsonNode> candidates = new ArrayList<>(menus);
+        for (int i = 0; i < options.itemsPerOrder() && !candidates.isEmpty(); i++) {
+            JsonNode menu = candidates.remove(random.nextInt(candidates.size()));
+            items.add(new OrderItem(menu.path("menuId").asLong(), menu.path("name").asText(),
+                    menu.path("price").asInt(), 1 + random.nextInt(3)));
+        }
+        return items;
+    }
+
+    private Scenario nextScenario() {
+        int total = options.mix().values().stream().mapToInt(Integer::intValue).sum();
+        int pick = random.nextInt(total);
+        for (Map.Entry<Scenario, Integer> entry : options.mix().entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        return Scenario.JOURNEY;
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request) throws Exception {
+        long started = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        recorder.record(endpoint, System.nanoTime() - started, response.statusCode());
+
+        if (!options.thinkTime().isZero()) {
+            Thread.sleep(options.thinkTime());
+        }
+        return response;
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest post(String path, Object body) throws Exception {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (!apiKey.isEmpty()) {
+            builder.header("Cookie", "apiKey=" + apiKey);
+        }
+        return builder;
+    }
+
+    private record OrderItem(long menuId, String name, int price, int quantity) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.backend.domain.cart.controller;
 
 import com.backend.domain.cart.controller.dto.request.CartAddRequest;
+import com.backend.domain.cart.controller.dto.request.CartBatchRequest;
 import com.backend.domain.cart.controller.dto.request.CartUpdateRequest;
 import com.backend.domain.cart.controller.dto.response.CartListResponse;
 import com.backend.domain.cart.controller.dto.response.CartResponse;
@@ -8,6 +9,7 @@ import com.backend.domain.cart.service.CartService;
 import com.backend.domain.user.user.dto.UserDto;
 import com.backend.global.response.ApiResponse;
 import com.backend.global.rq.Rq;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,6 +29,14 @@ public class CartController implements CartSpecification {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @PatchMapping("/items")
+    public ResponseEntity<ApiResponse<CartListResponse>> applyCartOperations(
+            @Valid @RequestBody CartBatchRequest request) throws Exception {
+        UserDto currentUser = rq.getUser();
+        CartListResponse response = cartService.applyCartOperations(currentUser, request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @PutMapping("/items/{menuId}")
     public ResponseEntity<ApiResponse<CartResponse>> updateCartItemQuantity(
             @PathVariable Long menuId,
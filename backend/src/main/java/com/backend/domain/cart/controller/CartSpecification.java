@@ -1,6 +1,7 @@
 package com.backend.domain.cart.controller;
 
 import com.backend.domain.cart.controller.dto.request.CartAddRequest;
+import com.backend.domain.cart.controller.dto.request.CartBatchRequest;
 import com.backend.domain.cart.controller.dto.request.CartUpdateRequest;
 import com.backend.domain.cart.controller.dto.response.CartListResponse;
 import com.backend.domain.cart.controller.dto.response.CartResponse;
@@ -16,6 +17,9 @@ public interface CartSpecification {
     @Operation(summary = "장바구니 메뉴 추가", description = "장바구니에 새로운 메뉴를 추가합니다.")
     ResponseEntity<ApiResponse<CartResponse>> addCartItem(@RequestBody CartAddRequest request) throws Exception;
 
+    @Operation(summary = "장바구니 일괄 변경", description = "SET/ADD/REMOVE 작업 목록을 한 트랜잭션에서 적용하고 변경된 장바구니 전체를 반환합니다. 하나라도 실패하면 아무것도 반영되지 않습니다.")
+    ResponseEntity<ApiResponse<CartListResponse>> applyCartOperations(@RequestBody CartBatchRequest request) throws Exception;
+
     @Operation(summary = "장바구니 메뉴 수량 변경", description = "특정 메뉴의 수량을 변경합니다.")
     ResponseEntity<ApiResponse<CartResponse>> updateCartItemQuantity (@PathVariable Long menuId, @RequestBody CartUpdateRequest request) throws Exception;
 
@@ -0,0 +1,60 @@
+package com.backend.domain.cart.controller;
+
+import com.backend.domain.cart.controller.dto.request.CartBatchRequest;
+import com.backend.domain.cart.controller.dto.response.CartListResponse;
+import com.backend.domain.cart.guest.GuestCart;
+import com.backend.domain.cart.guest.GuestCartService;
+import com.backend.global.response.ApiResponse;
+import com.backend.global.rq.Rq;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// 로그인하지 않은 사용자의 장바구니 - 서명된 guestCart 쿠키로 주고받고 DB 에 저장하지 않음
+@RestController
+@RequestMapping("/api/guest-cart")
+@RequiredArgsConstructor
+@Tag(name = "GuestCart", description = "비회원 장바구니 API")
+public class GuestCartController {
+
+    private final GuestCartService guestCartService;
+    private final Rq rq;
+
+    @GetMapping
+    @Operation(summary = "비회원 장바구니 조회", description = "guestCart 쿠키의 장바구니를 현재 메뉴 가격으로 계산해 조회합니다.")
+    public ResponseEntity<ApiResponse<CartListResponse>> getCart() {
+        GuestCart cart = readCookie();
+        return ResponseEntity.ok(ApiResponse.success(guestCartService.view(cart)));
+    }
+
+    @PatchMapping("/items")
+    @Operation(summary = "비회원 장바구니 일괄 변경",
+            description = "회원 장바구니 일괄 변경과 같은 SET/ADD/REMOVE 작업을 적용하고 새 guestCart 쿠키를 발급합니다.")
+    public ResponseEntity<ApiResponse<CartListResponse>> applyCartOperations(
+            @Valid @RequestBody CartBatchRequest request) {
+        GuestCart current = guestCartService.read(rq.getCookieValue(GuestCartService.COOKIE_NAME, ""));
+        GuestCart cart = guestCartService.apply(current, request);
+        rq.setCookie(GuestCartService.COOKIE_NAME, guestCartService.write(cart), guestCartService.cookieMaxAge());
+        return ResponseEntity.ok(ApiResponse.success(guestCartService.view(cart)));
+    }
+
+    @DeleteMapping
+    @Operation(summary = "비회원 장바구니 비우기", description = "guestCart 쿠키를 삭제합니다.")
+    public ResponseEntity<ApiResponse<Void>> clearCart() {
+        rq.deleteCookie(GuestCartService.COOKIE_NAME);
+        return ResponseEntity.ok(ApiResponse.success());
+    }
+
+    // 위조/만료된 쿠키는 지움
+    private GuestCart readCookie() {
+        String value = rq.getCookieValue(GuestCartService.COOKIE_NAME, "");
+        GuestCart cart = guestCartService.read(value);
+        if (cart.isEmpty() && !value.isBlank()) {
+            rq.deleteCookie(GuestCartService.COOKIE_NAME);
+        }
+        return cart;
+    }
+}
@@ -0,0 +1,26 @@
+package com.backend.domain.cart.controller.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장바구니 일괄 변경 요청 DTO (요청 순서대로 한 트랜잭션에서 적용)")
+public class CartBatchRequest {
+
+    public static final int MAX_OPERATIONS = 100;
+
+    @NotEmpty
+    @Size(max = MAX_OPERATIONS)
+    @Schema(description = "적용할 작업 목록")
+    private List<@Valid @NotNull CartItemOperation> operations;
+}
@@ -0,0 +1,34 @@
+package com.backend.domain.cart.controller.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장바구니 일괄 변경의 개별 작업 DTO")
+public class CartItemOperation {
+
+    // 메뉴당 최대 수량 - 작업 하나와 접은 최종 수량 모두 이 값까지 (int 넘침 방지)
+    public static final int MAX_QUANTITY = 999;
+
+    @NotNull
+    @Schema(description = "작업 종류 (SET: 수량 지정, ADD: 수량 추가, REMOVE: 삭제)", example = "SET")
+    private Type type;
+
+    @NotNull
+    @Schema(description = "대상 메뉴의 ID", example = "1")
+    private Long menuId;
+
+    @Max(MAX_QUANTITY)
+    @Schema(description = "SET/ADD 의 수량 (REMOVE 는 무시, 최대 999)", example = "2")
+    private int quantity;
+
+    public enum Type {
+        SET, ADD, REMOVE
+    }
+}
@@ -1,5 +1,6 @@
 package com.backend.domain.cart.controller.dto.response;
 
+import com.backend.domain.order.pricing.OrderPricing;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 
@@ -12,13 +13,25 @@ public class CartListResponse {
     @Schema(description = "장바구니에 담긴 메뉴 목록")
     private List<CartResponse> cartItems;
 
-    @Schema(description = "장바구니 전체 주문 총액", example = "54000")
+    @Schema(description = "상품 금액 합계", example = "54000")
+    private int subtotal;
+
+    @Schema(description = "배송비 (5만원 이상 무료, 빈 장바구니는 0원)", example = "0")
+    private int shippingFee;
+
+    @Schema(description = "총 결제 금액 (상품 금액 + 배송비) - 주문 생성 시 amount 로 그대로 사용", example = "54000")
     private int grandTotal;
 
     public CartListResponse(List<CartResponse> cartItems) {
         this.cartItems = cartItems;
-        this.grandTotal = cartItems.stream()
+        int itemsTotal = cartItems.stream()
                 .mapToInt(CartResponse::getOrderAmount)
                 .sum(); // 모든 항목의 orderAmount를 합산
+
+        // 배송비 규칙은 주문 생성 검증과 같은 OrderPricing 으로 계산
+        OrderPricing.Quote quote = OrderPricing.quoteCart(itemsTotal, cartItems.size());
+        this.subtotal = quote.subtotal();
+        this.shippingFee = quote.shippingFee();
+        this.grandTotal = quote.total();
     }
-}
\ No newline at end of file
+}
@@ -30,8 +30,12 @@ public class CartResponse {
     @Schema(description = "항목별 총 금액 (가격 * 수량)", example = "36000")
     private int orderAmount;
 
+    @Schema(description = "담은 뒤 품절된 메뉴인지 여부 (주문 전에 빼야 함)", example = "false")
+    private boolean soldOut;
+
     @Builder
-    public CartResponse(Long cartId, Long menuId, String name, String imageUrl, int price, int quantity) {
+    public CartResponse(Long cartId, Long menuId, String name, String imageUrl, int price, int quantity,
+                        boolean soldOut) {
         this.cartId = cartId;
         this.menuId = menuId;
         this.name = name;
@@ -39,6 +43,7 @@ public class CartResponse {
         this.price = price;
         this.quantity = quantity;
         this.orderAmount = price * quantity; // 항목별 총액 계산
+        this.soldOut = soldOut;
     }
 
     public static CartResponse from(Cart cart) {
@@ -49,6 +54,7 @@ public class CartResponse {
                 .imageUrl(cart.getMenu().getImageUrl())
                 .price(cart.getMenu().getPrice())
                 .quantity(cart.getQuantity())
+                .soldOut(cart.isSoldOut())
                 .build();
     }
 }
@@ -2,7 +2,6 @@ package com.backend.domain.cart.entity;
 
 import com.backend.domain.menu.entity.Menu;
 import com.backend.domain.user.user.entity.Users;
-import com.backend.domain.user.user.entity.Users;
 import com.backend.global.jpa.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -10,13 +9,23 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 장바구니 화면 - 항목마다 메뉴 정보를 그리므로 메뉴를 함께 조회
+@NamedEntityGraph(name = Cart.VIEW_GRAPH, attributeNodes = @NamedAttributeNode("menu"))
+// 사용자당 메뉴 한 행 - 담기 upsert 가 이 키로 기존 행을 찾아 수량을 더함
+// 오래된 장바구니 정리 - (modifyDate, cartId) 키셋 순으로 범위 조회
+@Table(uniqueConstraints = @UniqueConstraint(name = Cart.USER_MENU_UNIQUE, columnNames = {"userId", "menuId"}),
+        indexes = @Index(name = "idx_cart_modify_date", columnList = "modifyDate, cartId"))
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Cart extends BaseEntity {
 
+    public static final String VIEW_GRAPH = "Cart.view";
+    public static final String USER_MENU_UNIQUE = "uk_cart_user_menu";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_seq")
+    @SequenceGenerator(name = "cart_seq", sequenceName = "cart_seq", allocationSize = 50)
     @Column(name = "cartId")
     private Long id;
 
@@ -34,6 +43,10 @@ public class Cart extends BaseEntity {
     @Column(name = "orderAmount", nullable = false)
     private Integer orderAmount;
 
+    // 담은 뒤 메뉴가 품절되면 true (메뉴 변경 후 CartRepricer 가 일괄 갱신)
+    @Column(name = "soldOut", nullable = false)
+    private boolean soldOut;
+
     @Builder
     public Cart(Users user, Menu menu, Integer quantity) {
         this.user = user;
@@ -0,0 +1,25 @@
+package com.backend.domain.cart.guest;
+
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 비회원 장바구니 (쿠키에 담기는 내용)
+ * - items : menuId -> 수량, menuId 오름차순 (쿠키에서 menuId 를 차이값으로 줄여 적기 위함)
+ * - issuedAt : 마지막으로 발급한 시각 (epoch 초) - 오래된 쿠키는 버림
+ */
+public record GuestCart(
+        long issuedAt,
+        SortedMap<Long, Integer> items
+) {
+    public static final GuestCart EMPTY = new GuestCart(0, new TreeMap<>());
+
+    public GuestCart {
+        items = Collections.unmodifiableSortedMap(new TreeMap<>(items));
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
@@ -0,0 +1,177 @@
+package com.backend.domain.cart.guest;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 비회원 장바구니 쿠키 형식 (서명된 이진 값을 Base64URL 로)
+ * - [버전 1바이트][발급 시각 varint][항목 수 varint]{[menuId 차이값 varint][수량 varint]}...[HMAC-SHA256 앞 16바이트]
+ * - menuId 는 오름차순으로 직전 값과의 차이만 적어 항목당 보통 2~4바이트 (항목 30개도 쿠키 200자 안팎)
+ * - 서명이 맞지 않거나 형식/범위가 어긋나면 값 전체를 버림 - 클라이언트가 수량이나 메뉴를 바꿀 수 없음
+ * - 가격은 담지 않음 (읽을 때마다 메뉴 카탈로그의 현재 가격으로 계산)
+ */
+public class GuestCartCodec {
+
+    static final byte VERSION = 1;
+    static final int MAC_BYTES = 16;
+
+    private static final String ALGORITHM = "HmacSHA256";
+    // varint 로 표현할 수 있는 long 의 최대 바이트 수
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private final SecretKeySpec key;
+    private final int maxItems;
+    private final int maxQuantity;
+
+    public GuestCartCodec(String secret, int maxItems, int maxQuantity) {
+        if (secret == null || secret.length() < 32) {
+            throw new IllegalArgumentException("비회원 장바구니 서명 키는 32자 이상이어야 합니다.");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.maxItems = maxItems;
+        this.maxQuantity = maxQuantity;
+    }
+
+    public String encode(GuestCart cart) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + cart.items().size() * 4 + MAC_BYTES);
+        out.write(VERSION);
+        writeVarint(out, cart.issuedAt());
+        writeVarint(out, cart.items().size());
+        long previousId = 0;
+        for (Map.Entry<Long, Integer> item : cart.items().entrySet()) {
+            writeVarint(out, item.getKey() - previousId);
+            writeVarint(out, item.getValue());
+            previousId = item.getKey();
+        }
+        byte[] payload = out.toByteArray();
+        out.writeBytes(sign(payload));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+    }
+
+    // 서명/형식 검증에 실패하면 empty
+    public Optional<GuestCart> decode(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(value);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (bytes.length <= MAC_BYTES) {
+            return Optional.empty();
+        }
+
+        byte[] payload = Arrays.copyOfRange(bytes, 0, bytes.length - MAC_BYTES);
+        byte[] mac = Arrays.copyOfRange(bytes, bytes.length - MAC_BYTES, bytes.length);
+        if (!MessageDigest.isEqual(mac, sign(payload))) {
+            return Optional.empty();
+        }
+        return parse(payload);
+    }
+
+    private Optional<GuestCart> parse(byte[] payload) {
+        Reader reader = new Reader(payload);
+        if (reader.readByte() != VERSION) {
+            return Optional.empty();
+        }
+
+        long issuedAt = reader.readVarint();
+        long count = reader.readVarint();
+        if (issuedAt < 0 || count < 0 || count > maxItems) {
+            return Optional.empty();
+        }
+
+        TreeMap<Long, Integer> items = new TreeMap<>();
+        long menuId = 0;
+        for (int i = 0; i < count; i++) {
+            long delta = reader.readVarint();
+            long quantity = reader.readVarint();
+            // 차이값이 0 이면 같은 메뉴가 두 번 나온 것
+            if (delta <= 0 || quantity <= 0 || quantity > maxQuantity) {
+                return Optional.empty();
+            }
+            menuId += delta;
+            items.put(menuId, (int) quantity);
+        }
+
+        if (reader.failed() || reader.remaining() != 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new GuestCart(issuedAt, items));
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            // Mac 은 스레드 안전하지 않아 호출마다 생성
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return Arrays.copyOf(mac.doFinal(payload), MAC_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("비회원 장바구니 서명을 만들 수 없습니다.", e);
+        }
+    }
+
+    // 부호 없는 LEB128 - 7비트씩 낮은 자리부터, 이어지는 바이트가 있으면 최상위 비트 1
+    static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    // 범위를 벗어나거나 varint 가 너무 길면 failed 로 표시하고 -1 반환 (예외로 흐름을 끊지 않음)
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+        private boolean failed;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int readByte() {
+            if (position >= bytes.length) {
+                failed = true;
+                return -1;
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+                int b = readByte();
+                if (b < 0) {
+                    return -1;
+                }
+                value |= (long) (b & 0x7F) << (7 * i);
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            failed = true;
+            return -1;
+        }
+
+        int remaining() {
+            return bytes.length - position;
+        }
+
+        boolean failed() {
+            return failed;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.backend.domain.cart.guest;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+@Configuration
+@EnableConfigurationProperties(GuestCartProperties.class)
+public class GuestCartConfig {
+
+    // 서명 키가 없으면 다른 키로 대신하지 않고 시작을 멈춤 (JWT 키를 함께 쓰면 한쪽이 새도 둘 다 위조 가능)
+    @Bean
+    public GuestCartCodec guestCartCodec(GuestCartProperties properties) {
+        if (!StringUtils.hasText(properties.secret())) {
+            throw new IllegalStateException("비회원 장바구니 서명 키가 없습니다. GUEST_CART_SECRET 환경 변수를 지정하세요.");
+        }
+        return new GuestCartCodec(properties.secret(), properties.maxItems(), properties.maxQuantity());
+    }
+}
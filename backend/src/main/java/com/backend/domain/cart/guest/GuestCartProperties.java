@@ -0,0 +1,19 @@
+package com.backend.domain.cart.guest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비회원 장바구니 쿠키 설정 (custom.cart.guest)
+ * - secret : 쿠키 서명(HMAC-SHA256) 키 (GUEST_CART_SECRET 필수, 32자 이상, 서버 인스턴스끼리 같아야 함)
+ * - maxItems : 담을 수 있는 메뉴 종류 수 (쿠키 크기 상한)
+ * - maxQuantity : 메뉴당 최대 수량
+ * - maxAgeSeconds : 쿠키 수명 - 마지막 변경 후 이 시간이 지나면 버림
+ */
+@ConfigurationProperties("custom.cart.guest")
+public record GuestCartProperties(
+        String secret,
+        int maxItems,
+        int maxQuantity,
+        long maxAgeSeconds
+) {
+}
@@ -0,0 +1,154 @@
+package com.backend.domain.cart.guest;
+
+import com.backend.domain.cart.controller.dto.request.CartBatchRequest;
+import com.backend.domain.cart.controller.dto.request.CartItemOperation;
+import com.backend.domain.cart.controller.dto.response.CartListResponse;
+import com.backend.domain.cart.controller.dto.response.CartResponse;
+import com.backend.domain.cart.service.CartService;
+import com.backend.domain.menu.catalog.CatalogMenu;
+import com.backend.domain.menu.catalog.MenuCatalog;
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 비회원 장바구니 - DB 행 없이 서명된 쿠키(GuestCartCodec)로 클라이언트가 들고 다님
+ * - 검증/가격 계산은 메모리 메뉴 카탈로그만 사용 (DB 접근 없음)
+ * - 카탈로그에서 사라진 메뉴는 읽을 때 빠짐, 품절된 메뉴는 회원 장바구니처럼 표시만 함
+ * - 로그인하면 회원 장바구니에 한 번에 합치고 쿠키를 지움 (CartService.mergeGuestCart)
+ * 지표: cart.guest.rejected (서명/형식/만료로 버린 쿠키), cart.guest.merged.items (로그인 시 합친 항목 수)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GuestCartService {
+
+    public static final String COOKIE_NAME = "guestCart";
+
+    private final GuestCartCodec guestCartCodec;
+    private final GuestCartProperties properties;
+    private final MenuCatalog menuCatalog;
+    private final CartService cartService;
+    private final MeterRegistry meterRegistry;
+
+    // 쿠키 값 -> 장바구니 (없거나 위조/만료면 빈 장바구니)
+    public GuestCart read(String cookieValue) {
+        if (cookieValue == null || cookieValue.isBlank()) {
+            return GuestCart.EMPTY;
+        }
+
+        Optional<GuestCart> decoded = guestCartCodec.decode(cookieValue)
+                .filter(cart -> Instant.now().getEpochSecond() - cart.issuedAt() <= properties.maxAgeSeconds());
+        if (decoded.isEmpty()) {
+            meterRegistry.counter("cart.guest.rejected").increment();
+            return GuestCart.EMPTY;
+        }
+        return decoded.get();
+    }
+
+    // 빈 장바구니면 null (쿠키 삭제)
+    public String write(GuestCart cart) {
+        return cart.isEmpty() ? null : guestCartCodec.encode(cart);
+    }
+
+    public int cookieMaxAge() {
+        return (int) properties.maxAgeSeconds();
+    }
+
+    /**
+     * 장바구니 화면 - 카탈로그의 현재 가격으로 계산, 카탈로그에 없는 메뉴는 제외
+     */
+    public CartListResponse view(GuestCart cart) {
+        List<CartResponse> items = new ArrayList<>();
+        cart.items().forEach((menuId, quantity) -> menuCatalog.find(menuId)
+                .ifPresent(menu -> items.add(CartResponse.builder()
+                        .menuId(menu.menuId())
+                        .name(menu.name())
+                        .imageUrl(menu.imageUrl())
+                        .price(menu.price())
+                        .quantity(quantity)
+                        .soldOut(menu.soldOut())
+                        .build())));
+        return new CartListResponse(items);
+    }
+
+    /**
+     * 일괄 변경 - 회원 장바구니의 PATCH /api/carts/items 와 같은 규칙 (하나라도 잘못되면 아무것도 바뀌지 않음)
+     * - 메뉴 종류는 maxItems, 메뉴당 수량은 maxQuantity 까지 (쿠키 크기 제한)
+     *   작업 수량을 먼저 maxQuantity 로 막아 ADD 합계가 int 를 넘쳐 음수가 되지 않게 함
+     */
+    public GuestCart apply(GuestCart cart, CartBatchRequest request) {
+        TreeMap<Long, Integer> quantities = new TreeMap<>();
+        cart.items().forEach((menuId, quantity) -> {
+            if (menuCatalog.find(menuId).isPresent()) {
+                quantities.put(menuId, quantity);
+            }
+        });
+
+        for (CartItemOperation operation : request.getOperations()) {
+            if (operation.getType() != CartItemOperation.Type.REMOVE) {
+                if (operation.getQuantity() <= 0) {
+                    throw new BusinessException(ErrorCode.INVALID_QUANTITY);
+                }
+                if (operation.getQuantity() > properties.maxQuantity()) {
+                    throw new BusinessException(ErrorCode.GUEST_CART_LIMIT);
+                }
+            }
+            CatalogMenu menu = menuCatalog.find(operation.getMenuId())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PRODUCT));
+
+            switch (operation.getType()) {
+                case SET -> {
+                    if (!quantities.containsKey(menu.menuId()) && menu.soldOut()) {
+                        throw new BusinessException(ErrorCode.SOLD_OUT_ADD_CART);
+                    }
+                    quantities.put(menu.menuId(), operation.getQuantity());
+                }
+                case ADD -> {
+                    if (menu.soldOut()) {
+                        throw new BusinessException(ErrorCode.SOLD_OUT_ADD_CART);
+                    }
+                    quantities.merge(menu.menuId(), operation.getQuantity(), Integer::sum);
+                }
+                case REMOVE -> quantities.remove(menu.menuId());
+            }
+        }
+
+        if (quantities.size() > properties.maxItems()
+                || quantities.values().stream().anyMatch(quantity -> quantity < 1 || quantity > properties.maxQuantity())) {
+            throw new BusinessException(ErrorCode.GUEST_CART_LIMIT);
+        }
+        return new GuestCart(Instant.now().getEpochSecond(), quantities);
+    }
+
+    /**
+     * 로그인 시 비회원 장바구니를 회원 장바구니에 합침 (같은 메뉴는 수량을 더함)
+     * - 실패해도 로그인은 진행하고, 쿠키를 남겨 다음 로그인 때 다시 시도
+     * 반환: 쿠키를 지워도 되면 true
+     */
+    public boolean mergeOnLogin(UserDto userDto, String cookieValue) {
+        GuestCart cart = read(cookieValue);
+        if (cart.isEmpty()) {
+            return cookieValue != null && !cookieValue.isBlank();
+        }
+
+        try {
+            int merged = cartService.mergeGuestCart(userDto, cart.items());
+            meterRegistry.counter("cart.guest.merged.items").increment(merged);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("비회원 장바구니를 회원 {} 장바구니에 합치지 못했습니다.", userDto.userId(), e);
+            return false;
+        }
+    }
+}
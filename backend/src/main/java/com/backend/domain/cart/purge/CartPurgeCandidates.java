@@ -0,0 +1,12 @@
+package com.backend.domain.cart.purge;
+
+import java.time.LocalDateTime;
+
+// 정리 대상 집계 (미리보기 리포트용 집계 쿼리 1건의 결과)
+public record CartPurgeCandidates(
+        Long rows,
+        Long users,
+        LocalDateTime oldestModifyDate,
+        Long orderAmount
+) {
+}
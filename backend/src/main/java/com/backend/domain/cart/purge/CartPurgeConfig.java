@@ -0,0 +1,32 @@
+package com.backend.domain.cart.purge;
+
+import com.backend.domain.cart.repository.CartRepository;
+import com.backend.global.datasource.ReplicaLagMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+
+/**
+ * 오래된 장바구니 정리 (custom.cart.purge)
+ * - 정기 실행은 custom.cart.purge.enabled=true 일 때만 (CartPurgeScheduler), 미리보기 리포트는 항상 조회 가능
+ */
+@Configuration
+@EnableConfigurationProperties(CartPurgeProperties.class)
+public class CartPurgeConfig {
+
+    // modifyDate 는 감사 기능이 서버 기본 시간대의 LocalDateTime 으로 기록하므로 같은 시계로 기준 시각 계산
+    @Bean
+    public CartPurger cartPurger(CartPurgeProperties properties,
+                                 CartRepository cartRepository,
+                                 ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        return new CartPurger(properties, cartRepository, replicaLagMonitor, transactionManager,
+                Clock.systemDefaultZone(), meterRegistry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.backend.domain.cart.purge;
+
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ApiResponse;
+import com.backend.global.response.ErrorCode;
+import com.backend.global.rq.Rq;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@Controller
+@RequestMapping("/api/admin/carts/purge")
+@RequiredArgsConstructor
+@Tag(name = "CartPurgeController", description = "관리자 장바구니 정리 API")
+public class CartPurgeController {
+
+    private final CartPurger cartPurger;
+    private final Rq rq;
+
+    @GetMapping("/report")
+    @Operation(summary = "오래된 장바구니 정리 미리보기",
+            description = "삭제하지 않고 정리 대상 행/사용자 수, 가장 오래된 수정 시각, 예상 구간 수와 소요 시간을 조회합니다. (관리자 전용)")
+    public ResponseEntity<ApiResponse<CartPurgeReport>> getReport() throws Exception {
+        UserDto actor = rq.getUser();
+        if (actor.level() != 0) {
+            throw new BusinessException(ErrorCode.FORBIDDEN_ADMIN);
+        }
+        return ResponseEntity.ok(ApiResponse.success(cartPurger.report()));
+    }
+}
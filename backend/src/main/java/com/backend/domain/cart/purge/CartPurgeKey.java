@@ -0,0 +1,10 @@
+package com.backend.domain.cart.purge;
+
+import java.time.LocalDateTime;
+
+// 정리 구간의 키셋 위치 - (modifyDate, cartId) 순으로 이어서 조회
+public record CartPurgeKey(
+        Long cartId,
+        LocalDateTime modifyDate
+) {
+}
@@ -0,0 +1,27 @@
+package com.backend.domain.cart.purge;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 오래된 장바구니 정리 설정 (custom.cart.purge)
+ * - enabled : 정기 정리 실행 여부 (꺼져 있어도 관리자 미리보기 리포트는 조회 가능)
+ * - cron : 정리 실행 시각 (한국 시간)
+ * - maxAgeDays : modifyDate 가 이 일수보다 오래된 장바구니 행을 삭제
+ * - dryRun : true 면 삭제하지 않고 대상 리포트만 기록
+ * - chunkSize : 한 트랜잭션에서 삭제하는 행 수 (구간마다 커밋해 잠금/언두 로그를 짧게 유지)
+ * - maxRowsPerSecond : 초당 삭제 행 상한 (0 이하면 제한 없음)
+ * - maxReplicaLagMillis : 복제본 지연이 이보다 크면 다음 구간을 미룸 (복제본 라우팅이 켜져 있을 때만)
+ * - maxLagWaitMillis : 지연이 줄기를 기다리는 최대 시간 - 넘으면 이번 실행을 중단하고 다음 실행에서 이어감
+ */
+@ConfigurationProperties("custom.cart.purge")
+public record CartPurgeProperties(
+        boolean enabled,
+        String cron,
+        int maxAgeDays,
+        boolean dryRun,
+        int chunkSize,
+        int maxRowsPerSecond,
+        long maxReplicaLagMillis,
+        long maxLagWaitMillis
+) {
+}
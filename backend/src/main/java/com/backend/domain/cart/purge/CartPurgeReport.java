@@ -0,0 +1,19 @@
+package com.backend.domain.cart.purge;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정리 미리보기 리포트 (삭제하지 않음)
+ * - estimatedChunks : chunkSize 기준 삭제 트랜잭션 수
+ * - estimatedSeconds : maxRowsPerSecond 기준 최소 소요 시간 (속도 제한이 없으면 null)
+ */
+public record CartPurgeReport(
+        LocalDateTime cutoff,
+        long candidateRows,
+        long candidateUsers,
+        LocalDateTime oldestModifyDate,
+        long candidateOrderAmount,
+        long estimatedChunks,
+        Long estimatedSeconds
+) {
+}
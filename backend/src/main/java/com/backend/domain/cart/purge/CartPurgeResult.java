@@ -0,0 +1,18 @@
+package com.backend.domain.cart.purge;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정리 실행 결과
+ * - throttledMillis : 속도 제한/복제본 지연으로 쉰 시간
+ * - stoppedByLag : 복제본 지연이 maxLagWaitMillis 안에 줄지 않아 중단됨 (남은 행은 다음 실행에서 삭제)
+ */
+public record CartPurgeResult(
+        LocalDateTime cutoff,
+        long deletedRows,
+        int chunks,
+        long elapsedMillis,
+        long throttledMillis,
+        boolean stoppedByLag
+) {
+}
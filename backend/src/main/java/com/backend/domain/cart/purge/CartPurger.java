@@ -0,0 +1,216 @@
+package com.backend.domain.cart.purge;
+
+import com.backend.domain.cart.repository.CartRepository;
+import com.backend.global.datasource.ReplicaLagMonitor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 오래된 장바구니 정리 (modifyDate 가 maxAgeDays 보다 오래된 cart 행 삭제)
+ * - (modifyDate, cartId) 키셋 순으로 chunkSize 개씩 id 를 읽고 같은 트랜잭션에서 DELETE 한 문장 - 구간마다 커밋
+ *   (OFFSET 없이 마지막 키 다음부터 읽으므로 구간이 뒤로 갈수록 느려지지 않음)
+ * - 구간 사이에 maxRowsPerSecond 를 넘지 않도록 쉬고, 복제본 지연이 maxReplicaLagMillis 를 넘으면 줄 때까지 기다림
+ *   (maxLagWaitMillis 안에 줄지 않으면 중단 - 남은 행은 다음 실행에서 삭제)
+ * - 한 인스턴스 안에서는 동시에 한 번만 실행
+ * 지표: cart.purge.deleted.rows (삭제 행 수), cart.purge.run (실행 시간),
+ *      cart.purge.throttle (쉰 횟수/시간, reason=rate|lag), cart.purge.stopped (지연으로 중단)
+ */
+@Slf4j
+public class CartPurger {
+
+    // 키셋 시작점 - 이보다 오래된 modifyDate 는 없음
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final long LAG_POLL_MILLIS = 200;
+
+    private final CartPurgeProperties properties;
+    private final CartRepository cartRepository;
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Counter deletedRows;
+    private final Counter stoppedByLag;
+    private final Timer runTimer;
+    private final Timer rateThrottle;
+    private final Timer lagThrottle;
+
+    public CartPurger(CartPurgeProperties properties,
+                      CartRepository cartRepository,
+                      ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                      PlatformTransactionManager transactionManager,
+                      Clock clock,
+                      MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cartRepository = cartRepository;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.deletedRows = meterRegistry.counter("cart.purge.deleted.rows");
+        this.stoppedByLag = meterRegistry.counter("cart.purge.stopped", "reason", "lag");
+        this.runTimer = meterRegistry.timer("cart.purge.run");
+        this.rateThrottle = meterRegistry.timer("cart.purge.throttle", "reason", "rate");
+        this.lagThrottle = meterRegistry.timer("cart.purge.throttle", "reason", "lag");
+    }
+
+    public LocalDateTime cutoff() {
+        return LocalDateTime.now(clock).minusDays(properties.maxAgeDays());
+    }
+
+    // 미리보기 - 집계 쿼리 1건, 삭제하지 않음
+    public CartPurgeReport report() {
+        LocalDateTime cutoff = cutoff();
+        CartPurgeCandidates candidates = transactionTemplate.execute(status -> cartRepository.summarizeStale(cutoff));
+
+        long rows = candidates.rows();
+        long chunks = (rows + properties.chunkSize() - 1) / properties.chunkSize();
+        Long seconds = properties.maxRowsPerSecond() > 0
+                ? (rows + properties.maxRowsPerSecond() - 1) / properties.maxRowsPerSecond()
+                : null;
+        return new CartPurgeReport(cutoff, rows, candidates.users(), candidates.oldestModifyDate(),
+                candidates.orderAmount() == null ? 0 : candidates.orderAmount(), chunks, seconds);
+    }
+
+    /**
+     * 정리 실행 - 이미 실행 중이면 건너뛰고 null 반환
+     */
+    public CartPurgeResult purge() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("장바구니 정리가 이미 실행 중이라 건너뜁니다.");
+            return null;
+        }
+        try {
+            return runTimer.record(() -> purge(cutoff()));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private CartPurgeResult purge(LocalDateTime cutoff) {
+        long started = System.nanoTime();
+        long deleted = 0;
+        long throttledNanos = 0;
+        int chunks = 0;
+        CartPurgeKey last = new CartPurgeKey(0L, KEYSET_START);
+
+        while (true) {
+            long lagWaited = waitForReplicas();
+            throttledNanos += Math.max(lagWaited, 0);
+            if (lagWaited < 0) {
+                stoppedByLag.increment();
+                log.warn("복제본 지연이 {}ms 안에 줄지 않아 장바구니 정리를 중단합니다. (삭제 {}행)",
+                        properties.maxLagWaitMillis(), deleted);
+                return result(cutoff, deleted, chunks, started, throttledNanos, true);
+            }
+
+            long chunkStarted = System.nanoTime();
+            CartPurgeKey from = last;
+            Chunk chunk = transactionTemplate.execute(status -> deleteChunk(cutoff, from));
+            if (chunk.keys() == 0) {
+                return result(cutoff, deleted, chunks, started, throttledNanos, false);
+            }
+
+            chunks++;
+            deleted += chunk.deleted();
+            deletedRows.increment(chunk.deleted());
+            last = chunk.last();
+
+            if (chunk.keys() < properties.chunkSize()) {
+                return result(cutoff, deleted, chunks, started, throttledNanos, false);
+            }
+            throttledNanos += paceRate(chunk.deleted(), System.nanoTime() - chunkStarted);
+        }
+    }
+
+    // 키셋 조회와 DELETE 를 한 트랜잭션에서 - 구간마다 커밋해 잠금을 오래 잡지 않음
+    private Chunk deleteChunk(LocalDateTime cutoff, CartPurgeKey after) {
+        List<CartPurgeKey> keys = cartRepository.findPurgeKeysAfter(
+                cutoff, after.modifyDate(), after.cartId(), Limit.of(properties.chunkSize()));
+        if (keys.isEmpty()) {
+            return new Chunk(0, 0, after);
+        }
+
+        List<Long> ids = keys.stream().map(CartPurgeKey::cartId).toList();
+        return new Chunk(keys.size(), cartRepository.deleteStaleByIds(ids, cutoff), keys.get(keys.size() - 1));
+    }
+
+    // 구간 삭제가 maxRowsPerSecond 보다 빨랐으면 그만큼 쉼 (반환: 쉰 시간)
+    private long paceRate(int deleted, long spentNanos) {
+        if (properties.maxRowsPerSecond() <= 0 || deleted == 0) {
+            return 0;
+        }
+        long budgetNanos = TimeUnit.SECONDS.toNanos(deleted) / properties.maxRowsPerSecond();
+        long sleepNanos = budgetNanos - spentNanos;
+        if (sleepNanos <= 0) {
+            return 0;
+        }
+        sleep(TimeUnit.NANOSECONDS.toMillis(sleepNanos));
+        rateThrottle.record(sleepNanos, TimeUnit.NANOSECONDS);
+        return sleepNanos;
+    }
+
+    /**
+     * 복제본 지연이 기준 이하가 될 때까지 대기 (반환: 기다린 시간, maxLagWaitMillis 를 넘으면 -1)
+     * - 복제본 라우팅이 꺼져 있으면 바로 진행
+     */
+    private long waitForReplicas() {
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+        if (monitor == null) {
+            return 0;
+        }
+
+        if (monitor.worstLagMillis() <= properties.maxReplicaLagMillis()) {
+            return 0;
+        }
+
+        long started = System.nanoTime();
+        while (monitor.worstLagMillis() > properties.maxReplicaLagMillis()) {
+            if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) >= properties.maxLagWaitMillis()
+                    || Thread.currentThread().isInterrupted()) {
+                lagThrottle.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                return -1;
+            }
+            sleep(LAG_POLL_MILLIS);
+        }
+
+        long waited = System.nanoTime() - started;
+        lagThrottle.record(waited, TimeUnit.NANOSECONDS);
+        return waited;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static CartPurgeResult result(LocalDateTime cutoff, long deleted, int chunks, long startedNanos,
+                                          long throttledNanos, boolean stoppedByLag) {
+        return new CartPurgeResult(cutoff, deleted, chunks,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos),
+                TimeUnit.NANOSECONDS.toMillis(throttledNanos), stoppedByLag);
+    }
+
+    private record Chunk(
+            int keys,
+            int deleted,
+            CartPurgeKey last
+    ) {
+    }
+}
@@ -1,17 +1,123 @@
 package com.backend.domain.cart.repository;
 
+import com.backend.domain.cart.controller.dto.response.CartResponse;
 import com.backend.domain.cart.entity.Cart;
+import com.backend.domain.cart.purge.CartPurgeCandidates;
+import com.backend.domain.cart.purge.CartPurgeKey;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CartRepository extends JpaRepository<Cart, Long> {
     Optional<Cart> findByUser_UserIdAndMenu_MenuId(Long userId, Long menuId);
 
+    @EntityGraph(Cart.VIEW_GRAPH)
     List<Cart> findByUser_UserId(Long userId);
 
-    void deleteAllByUser_UserId(Long userId);
+    // 장바구니 화면 - 메뉴를 조인해 응답 DTO 로 바로 투영 (엔티티/스냅샷을 만들지 않는 SQL 1건)
+    @Query("""
+            select new com.backend.domain.cart.controller.dto.response.CartResponse(
+                c.id, m.menuId, m.name, m.imageUrl, m.price, c.quantity, c.soldOut)
+            from Cart c join c.menu m
+            where c.user.userId = :userId
+            order by c.id
+            """)
+    List<CartResponse> findCartView(@Param("userId") Long userId);
 
-    List<Cart> findByUser_UserIdAndMenu_MenuIdIn(Long userId, List<Long> menuIds);
+    /**
+     * 장바구니 비우기 / 주문한 메뉴 삭제 - 엔티티를 읽지 않는 DELETE 한 문장
+     * - 같은 트랜잭션에서 아직 반영하지 않은 변경(새로 담은 행 등)을 먼저 flush 해 함께 삭제되도록 함
+     * - 영속성 컨텍스트에 남은 삭제된 엔티티는 호출하는 쪽에서 분리 (CartService)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Cart c where c.user.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Cart c where c.user.userId = :userId and c.menu.menuId in :menuIds")
+    int deleteByUserIdAndMenuIds(@Param("userId") Long userId, @Param("menuIds") Collection<Long> menuIds);
+
+    /**
+     * 장바구니 담기 - (userId, menuId) 행이 없으면 INSERT, 있으면 수량을 더하는 단일 문장
+     * - 조회 후 저장 사이의 경쟁이 없어 동시에 담아도 행이 하나이고 수량이 누락되지 않음
+     * - 더한 수량은 :maxQuantity(CartItemOperation.MAX_QUANTITY) 에서 멈춤 - 기존 행을 읽지 않으므로 넘침은 SQL 에서 자름
+     * - MySQL 은 SET 을 왼쪽부터 평가하므로 orderAmount 를 quantity 보다 먼저 계산 (H2 MySQL 모드도 동일 결과)
+     * - 새 값은 폐기 예정인 VALUES() 대신 바인딩 파라미터로 참조 (행 별칭 문법은 H2 가 지원하지 않음)
+     * - 비회원 장바구니 합치기는 같은 문장을 JDBC 배치로 실행 (CartService.mergeGuestCart)
+     */
+    String UPSERT_QUANTITY = """
+            insert into cart (cart_id, user_id, menu_id, quantity, order_amount, sold_out, create_date, modify_date)
+            values (:cartId, :userId, :menuId, :quantity, :quantity * :price, false, :now, :now)
+            on duplicate key update
+                order_amount = least(quantity + :quantity, :maxQuantity) * :price,
+                quantity = least(quantity + :quantity, :maxQuantity),
+                modify_date = :now
+            """;
+
+    // 영향받는 테이블을 cart 로 지정해 2차 캐시 전체가 무효화되지 않도록 함
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cart"))
+    @Query(value = UPSERT_QUANTITY, nativeQuery = true)
+    int upsertQuantity(@Param("cartId") long cartId,
+                       @Param("userId") Long userId,
+                       @Param("menuId") Long menuId,
+                       @Param("quantity") int quantity,
+                       @Param("price") int price,
+                       @Param("maxQuantity") int maxQuantity,
+                       @Param("now") LocalDateTime now);
+
+    // 재계산 구간 나누기 - afterId 다음부터 cartId 순으로 limit 개 (menu_id 인덱스만 읽음)
+    @Query("select c.id from Cart c where c.menu.menuId = :menuId and c.id > :afterId order by c.id")
+    List<Long> findIdsByMenuAfter(@Param("menuId") Long menuId, @Param("afterId") long afterId, Limit limit);
+
+    /**
+     * 메뉴 가격/품절 변경 반영 - 메뉴의 현재 값으로 (afterId, untilId] 구간 행을 한 문장으로 갱신
+     * - 값은 menu 서브쿼리에서 읽으므로 재계산 도중 가격이 다시 바뀌어도 마지막 값이 남음
+     * - modifyDate 는 사용자 활동 기준(오래된 장바구니 정리)이라 건드리지 않음
+     */
+    @Modifying
+    @Query("""
+            update Cart c
+            set c.orderAmount = c.quantity * (select m.price from Menu m where m.menuId = :menuId),
+                c.soldOut = (select m.isSoldOut from Menu m where m.menuId = :menuId)
+            where c.menu.menuId = :menuId and c.id > :afterId and c.id <= :untilId
+            """)
+    int repriceByMenu(@Param("menuId") Long menuId, @Param("afterId") long afterId, @Param("untilId") long untilId);
+
+    // 오래된 장바구니 정리 - (modifyDate, cartId) 키셋 다음부터 limit 개 (idx_cart_modify_date 범위 스캔)
+    @Query("""
+            select new com.backend.domain.cart.purge.CartPurgeKey(c.id, c.modifyDate)
+            from Cart c
+            where c.modifyDate < :cutoff
+              and (c.modifyDate > :lastModifyDate or (c.modifyDate = :lastModifyDate and c.id > :lastId))
+            order by c.modifyDate, c.id
+            """)
+    List<CartPurgeKey> findPurgeKeysAfter(@Param("cutoff") LocalDateTime cutoff,
+                                          @Param("lastModifyDate") LocalDateTime lastModifyDate,
+                                          @Param("lastId") long lastId,
+                                          Limit limit);
+
+    // 조회와 삭제 사이에 다시 담긴(modifyDate 가 갱신된) 행은 남김
+    @Modifying
+    @Query("delete from Cart c where c.id in :ids and c.modifyDate < :cutoff")
+    int deleteStaleByIds(@Param("ids") List<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("""
+            select new com.backend.domain.cart.purge.CartPurgeCandidates(
+                count(c), count(distinct c.user.userId), min(c.modifyDate), sum(c.orderAmount))
+            from Cart c
+            where c.modifyDate < :cutoff
+            """)
+    CartPurgeCandidates summarizeStale(@Param("cutoff") LocalDateTime cutoff);
 }
@@ -0,0 +1,121 @@
+package com.backend.domain.cart.service;
+
+import com.backend.domain.cart.repository.CartRepository;
+import com.backend.domain.cart.store.CartWriteBehindStore;
+import com.backend.domain.menu.event.MenuChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 메뉴 가격/품절 변경을 장바구니에 일괄 반영 (Cart.orderAmount, Cart.soldOut)
+ * - 메뉴 변경 트랜잭션이 커밋된 뒤 실행 - 롤백된 변경은 반영하지 않고, 메뉴 수정 트랜잭션이 장바구니 잠금을 기다리지 않음
+ * - 행마다 읽고 쓰지 않고 메뉴를 서브쿼리로 읽는 UPDATE 한 문장으로 처리
+ * - 담긴 행이 chunkSize 를 넘는 메뉴는 cartId 구간마다 별도 트랜잭션으로 나눠 한 번에 잡는 행 잠금 수를 제한
+ * - 실패하면 다음 변경 전까지 장바구니 금액이 이전 가격으로 남음 (주문 생성은 메뉴 가격으로 다시 검증하므로 잘못 결제되지는 않음)
+ * 지표: cart.repriced.rows (갱신 행 수), cart.repricing (메뉴 1건 재계산 시간), cart.repricing.failures
+ */
+@Slf4j
+@Component
+public class CartRepricer {
+
+    private final CartRepository cartRepository;
+    private final ObjectProvider<CartWriteBehindStore> cartWriteBehindStore;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final Counter repricedRows;
+    private final Counter failures;
+    private final Timer repricingTimer;
+
+    public CartRepricer(CartRepository cartRepository,
+                        ObjectProvider<CartWriteBehindStore> cartWriteBehindStore,
+                        PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${custom.cart.repricing.chunkSize:5000}") int chunkSize) {
+        this.cartRepository = cartRepository;
+        this.cartWriteBehindStore = cartWriteBehindStore;
+        // 커밋 이후 단계에서는 끝난 트랜잭션의 자원이 아직 묶여 있으므로 항상 새 트랜잭션
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.repricedRows = meterRegistry.counter("cart.repriced.rows");
+        this.failures = meterRegistry.counter("cart.repricing.failures");
+        this.repricingTimer = meterRegistry.timer("cart.repricing");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuChanged(MenuChangedEvent event) {
+        try {
+            int rows = reprice(event.menuId());
+            log.info("메뉴 {} 변경 반영 - 장바구니 {}행 재계산 (가격 변경: {}, 품절 변경: {})",
+                    event.menuId(), rows, event.priceChanged(), event.soldOutChanged());
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.error("메뉴 {} 변경을 장바구니에 반영하지 못했습니다.", event.menuId(), e);
+        }
+    }
+
+    public int reprice(Long menuId) {
+        return reprice(menuId, chunkSize);
+    }
+
+    /**
+     * cartId 순으로 chunkSize 개씩 구간을 정해 UPDATE
+     * - 담긴 행이 chunkSize 이하면 구간 조회 1건 + UPDATE 1건
+     * - 마지막 구간은 상한 없이 갱신해 재계산 도중 새로 담긴 행도 포함
+     */
+    int reprice(Long menuId, int chunkSize) {
+        CartWriteBehindStore store = cartWriteBehindStore.getIfAvailable();
+        if (store != null) {
+            store.evictMenu(menuId);
+        }
+
+        return repricingTimer.record(() -> {
+            int total = 0;
+            long afterId = 0;
+            while (true) {
+                long from = afterId;
+                Chunk chunk = transactionTemplate.execute(status -> repriceChunk(menuId, from, chunkSize));
+                total += chunk.updated();
+                repricedRows.increment(chunk.updated());
+
+                if (chunk.last()) {
+                    return total;
+                }
+                afterId = chunk.untilId();
+            }
+        });
+    }
+
+    // 구간 상한 조회와 UPDATE 를 같은 트랜잭션에서 (커밋 이후 단계의 끝난 트랜잭션에 참여하지 않도록)
+    private Chunk repriceChunk(Long menuId, long afterId, int chunkSize) {
+        List<Long> ids = cartRepository.findIdsByMenuAfter(menuId, afterId, Limit.of(chunkSize));
+        if (ids.isEmpty()) {
+            return new Chunk(0, afterId, true);
+        }
+
+        boolean last = ids.size() < chunkSize;
+        long untilId = last ? Long.MAX_VALUE : ids.get(ids.size() - 1);
+        return new Chunk(cartRepository.repriceByMenu(menuId, afterId, untilId), untilId, last);
+    }
+
+    private record Chunk(
+            int updated,
+            long untilId,
+            boolean last
+    ) {
+    }
+}
@@ -1,23 +1,47 @@
 package com.backend.domain.cart.service;
 
 import com.backend.domain.cart.controller.dto.request.CartAddRequest;
+import com.backend.domain.cart.controller.dto.request.CartBatchRequest;
+import com.backend.domain.cart.controller.dto.request.CartItemOperation;
 import com.backend.domain.cart.controller.dto.request.CartUpdateRequest;
 import com.backend.domain.cart.controller.dto.response.CartListResponse;
 import com.backend.domain.cart.controller.dto.response.CartResponse;
 import com.backend.domain.cart.entity.Cart;
 import com.backend.domain.cart.repository.CartRepository;
+import com.backend.domain.cart.store.CartWriteBehindStore;
 import com.backend.domain.menu.entity.Menu;
 import com.backend.domain.menu.repository.MenuRepository;
 import com.backend.domain.user.user.dto.UserDto;
-import com.backend.domain.user.user.entity.Users;
 import com.backend.domain.user.user.repository.UserRepository;
 import com.backend.global.exception.BusinessException;
+import com.backend.global.jpa.id.EntityIdAllocator;
 import com.backend.global.response.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -25,13 +49,39 @@ import java.util.stream.Collectors;
 public class CartService {
 
     private final CartRepository cartRepository;
-    private final UserRepository userRepository;
     private final MenuRepository menuRepository;
+    private final UserRepository userRepository;
+    private final EntityIdAllocator entityIdAllocator;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    // 쓰기 지연 모드(custom.cart.write-behind.enabled=true)일 때만 존재
+    private final ObjectProvider<CartWriteBehindStore> cartWriteBehindStore;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 장바구니 담기 - 메뉴 검증(2차 캐시) 후 (userId, menuId) upsert 한 문장으로 반영
+     * - 사용자는 인증된 ID 만 쓰므로 조회하지 않음
+     * - 요청 수량은 CartItemOperation.MAX_QUANTITY 까지, 기존 수량에 더한 값은 upsert 안에서 최댓값으로 자름
+     * - 같은 키로 동시에 INSERT 하면 DB 에 따라 교착/중복 키 오류가 날 수 있어 트랜잭션째 재시도
+     */
+    @Retryable(
+            retryFor = {ConcurrencyFailureException.class, DataIntegrityViolationException.class},
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 20, multiplier = 2, random = true)
+    )
     @Transactional
     public CartResponse addCartItem(UserDto userDto, CartAddRequest request) {
+        flushWriteBehind(userDto.userId());
 
-        Users user = userRepository.findById(userDto.userId()).get();
+        if (request.getQuantity() <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_QUANTITY);
+        }
+        if (request.getQuantity() > CartItemOperation.MAX_QUANTITY) {
+            throw new BusinessException(ErrorCode.EXCEEDED_MAX_QUANTITY);
+        }
 
         Menu menu = menuRepository.findById(request.getMenuId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PRODUCT));
@@ -40,26 +90,148 @@ public class CartService {
             throw new BusinessException(ErrorCode.SOLD_OUT_ADD_CART);
         }
 
+        cartRepository.upsertQuantity(entityIdAllocator.nextId(Cart.class), userDto.userId(), menu.getMenuId(),
+                request.getQuantity(), menu.getPrice(), CartItemOperation.MAX_QUANTITY, LocalDateTime.now());
+
         Cart cartItem = cartRepository.findByUser_UserIdAndMenu_MenuId(userDto.userId(), menu.getMenuId())
-                .orElse(null);
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PRODUCT));
 
-        if (cartItem != null) {
-            cartItem.updateQuantity(cartItem.getQuantity() + request.getQuantity());
-        } else {
-            cartItem = request.toEntity(user, menu);
-            cartRepository.save(cartItem);
-        }
+        meterRegistry.counter("cart.items.added").increment();
         return CartResponse.from(cartItem);
     }
 
+    /**
+     * 장바구니 일괄 변경 - 요청 순서대로 작업을 접어 메뉴별 최종 수량을 정한 뒤 한 번에 반영
+     * - 모든 작업을 먼저 검증하므로 하나라도 잘못되면 아무것도 바뀌지 않음
+     * - 작업 수량과 SET/ADD 로 정해진 최종 수량은 CartItemOperation.MAX_QUANTITY 까지
+     * - 메뉴 IN 조회 1건 + 장바구니(메뉴 포함) 조회 1건, 변경은 JDBC 배치로 flush
+     * - SET/ADD 는 없는 항목이면 새로 담고, REMOVE 는 없는 항목이면 무시
+     */
+    @Retryable(
+            retryFor = {ConcurrencyFailureException.class, DataIntegrityViolationException.class},
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 20, multiplier = 2, random = true)
+    )
     @Transactional
+    public CartListResponse applyCartOperations(UserDto userDto, CartBatchRequest request) {
+        Long userId = userDto.userId();
+        flushWriteBehind(userId);
+
+        List<CartItemOperation> operations = request.getOperations();
+        for (CartItemOperation operation : operations) {
+            if (operation.getType() == CartItemOperation.Type.REMOVE) {
+                continue;
+            }
+            if (operation.getQuantity() <= 0) {
+                throw new BusinessException(ErrorCode.INVALID_QUANTITY);
+            }
+            if (operation.getQuantity() > CartItemOperation.MAX_QUANTITY) {
+                throw new BusinessException(ErrorCode.EXCEEDED_MAX_QUANTITY);
+            }
+        }
+
+        // 1. 메뉴 일괄 조회
+        Set<Long> menuIds = operations.stream()
+                .map(CartItemOperation::getMenuId)
+                .collect(Collectors.toSet());
+        Map<Long, Menu> menus = menuRepository.findAllById(menuIds).stream()
+                .collect(Collectors.toMap(Menu::getMenuId, Function.identity()));
+
+        // 2. 현재 장바구니 조회
+        Map<Long, Cart> items = new LinkedHashMap<>();
+        for (Cart cartItem : cartRepository.findByUser_UserId(userId)) {
+            items.put(cartItem.getMenu().getMenuId(), cartItem);
+        }
+
+        // 3. 작업을 순서대로 적용해 메뉴별 최종 수량 계산 (이 단계까지 DB 는 그대로)
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        items.forEach((menuId, cartItem) -> quantities.put(menuId, cartItem.getQuantity()));
+        for (CartItemOperation operation : operations) {
+            Menu menu = menus.get(operation.getMenuId());
+            if (menu == null) {
+                throw new BusinessException(ErrorCode.NOT_FOUND_PRODUCT);
+            }
+
+            switch (operation.getType()) {
+                case SET -> {
+                    // 이미 담긴 품절 메뉴의 수량 조정은 허용 (단건 수량 변경과 동일)
+                    if (!quantities.containsKey(menu.getMenuId()) && menu.getIsSoldOut()) {
+                        throw new BusinessException(ErrorCode.SOLD_OUT_ADD_CART);
+                    }
+                    quantities.put(menu.getMenuId(), operation.getQuantity());
+                }
+                case ADD -> {
+                    if (menu.getIsSoldOut()) {
+                        throw new BusinessException(ErrorCode.SOLD_OUT_ADD_CART);
+                    }
+                    // 기존 행 수량이 매우 커도 넘치지 않도록 long 으로 더한 뒤 상한 검사
+                    long added = (long) quantities.getOrDefault(menu.getMenuId(), 0) + operation.getQuantity();
+                    if (added > CartItemOperation.MAX_QUANTITY) {
+                        throw new BusinessException(ErrorCode.EXCEEDED_MAX_QUANTITY);
+                    }
+                    quantities.put(menu.getMenuId(), (int) added);
+                }
+                case REMOVE -> quantities.remove(menu.getMenuId());
+            }
+        }
+
+        // 4. 변경분 반영 - 삭제/수정/추가
+        List<Cart> removed = new ArrayList<>();
+        items.forEach((menuId, cartItem) -> {
+            Integer quantity = quantities.get(menuId);
+            if (quantity == null) {
+                removed.add(cartItem);
+            } else if (quantity.intValue() != cartItem.getQuantity()) {
+                cartItem.updateQuantity(quantity);
+            }
+        });
+        cartRepository.deleteAll(removed);
+
+        List<Cart> result = new ArrayList<>();
+        List<Cart> created = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Cart cartItem = items.get(entry.getKey());
+            if (cartItem == null) {
+                cartItem = Cart.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .menu(menus.get(entry.getKey()))
+                        .quantity(entry.getValue())
+                        .build();
+                created.add(cartItem);
+            }
+            result.add(cartItem);
+        }
+        cartRepository.saveAll(created);
+
+        meterRegistry.counter("cart.batch.operations").increment(operations.size());
+        return new CartListResponse(result.stream()
+                .map(CartResponse::from)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 수량 변경 - 쓰기 지연 모드면 트랜잭션/커넥션 없이 메모리에만 반영
+     * - 아니면 DB 경로만 트랜잭션으로 실행 (같은 빈 안의 호출이라 @Transactional 대신 TransactionTemplate)
+     */
     public CartResponse updateCartItemQuantity(UserDto userDto, Long menuId, CartUpdateRequest request) {
+        CartWriteBehindStore store = cartWriteBehindStore.getIfAvailable();
+        if (store != null) {
+            return store.updateQuantity(userDto.userId(), menuId, request.getQuantity());
+        }
+
+        return transactionTemplate.execute(status -> updateQuantityInDb(userDto, menuId, request));
+    }
+
+    private CartResponse updateQuantityInDb(UserDto userDto, Long menuId, CartUpdateRequest request) {
         Menu menu = menuRepository.findById(menuId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PRODUCT));
 
         if (request.getQuantity() <= 0) {
             throw new BusinessException(ErrorCode.INVALID_QUANTITY);
         }
+        if (request.getQuantity() > CartItemOperation.MAX_QUANTITY) {
+            throw new BusinessException(ErrorCode.EXCEEDED_MAX_QUANTITY);
+        }
 
         Cart cartItem = cartRepository.findByUser_UserIdAndMenu_MenuId(userDto.userId(), menuId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PRODUCT));
@@ -69,8 +241,51 @@ public class CartService {
         return CartResponse.from(cartItem);
     }
 
+    /**
+     * 비회원 장바구니 합치기 (로그인 시) - 같은 메뉴는 수량을 더함
+     * - 메뉴 IN 조회 1건(2차 캐시) + 담기와 같은 upsert 문장을 JDBC 배치 1회로, ID 는 Cart 시퀀스에서 미리 발급
+     * - 쿠키를 만든 뒤 없어졌거나 품절된 메뉴는 건너뜀
+     * 반환: 합친 메뉴 수
+     */
+    @Retryable(
+            retryFor = {ConcurrencyFailureException.class, DataIntegrityViolationException.class},
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 20, multiplier = 2, random = true)
+    )
+    @Transactional
+    public int mergeGuestCart(UserDto userDto, Map<Long, Integer> items) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+        flushWriteBehind(userDto.userId());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<SqlParameterSource> upserts = new ArrayList<>();
+        for (Menu menu : menuRepository.findAllById(items.keySet())) {
+            if (menu.getIsSoldOut()) {
+                continue;
+            }
+            upserts.add(new MapSqlParameterSource()
+                    .addValue("cartId", entityIdAllocator.nextId(Cart.class))
+                    .addValue("userId", userDto.userId())
+                    .addValue("menuId", menu.getMenuId())
+                    .addValue("quantity", items.get(menu.getMenuId()))
+                    .addValue("price", menu.getPrice())
+                    .addValue("maxQuantity", CartItemOperation.MAX_QUANTITY)
+                    .addValue("now", now));
+        }
+        if (upserts.isEmpty()) {
+            return 0;
+        }
+
+        namedParameterJdbcTemplate.batchUpdate(CartRepository.UPSERT_QUANTITY,
+                upserts.toArray(SqlParameterSource[]::new));
+        return upserts.size();
+    }
+
     @Transactional
     public void deleteCartItem(UserDto userDto, Long menuId) {
+        flushWriteBehind(userDto.userId());
         Menu menu = menuRepository.findById(menuId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PRODUCT));
 
@@ -80,30 +295,65 @@ public class CartService {
         cartRepository.delete(cartItem);
     }
 
+    /**
+     * 장바구니 조회 - 메뉴를 조인한 DTO 투영 SQL 1건 (쓰기 지연 모드면 메모리에서 바로 응답)
+     * - 상품 합계/배송비/총 결제 금액은 주문 생성 검증과 같은 OrderPricing 으로 서버에서 계산
+     */
     @Transactional(readOnly = true)
     public CartListResponse getCart(UserDto userDto) {
+        CartWriteBehindStore store = cartWriteBehindStore.getIfAvailable();
+        if (store != null) {
+            return store.getCart(userDto.userId());
+        }
 
-        List<Cart> cartItems = cartRepository.findByUser_UserId(userDto.userId());
-
-        List<CartResponse> cartResponses = cartItems.stream()
-                .map(CartResponse::from)
-                .collect(Collectors.toList());
-
-        return new CartListResponse(cartResponses);
+        return new CartListResponse(cartRepository.findCartView(userDto.userId()));
     }
 
     @Transactional
     public void clearCart(UserDto userDto) {
-        cartRepository.deleteAllByUser_UserId(userDto.userId());
+        flushWriteBehind(userDto.userId());
+        cartRepository.deleteByUserId(userDto.userId());
+        detachDeleted(userDto.userId(), cart -> true);
     }
 
     /**
      * 주문 완료 시 장바구니에서 해당 메뉴 삭제
      * parameter : 주문 완료된 munuId 리스트
+     * - 행을 읽어 하나씩 지우지 않고 DELETE 한 문장 (항목 수와 무관)
      */
     @Transactional
     public void deleteOrderedItems(UserDto userDto, List<Long> orderedMenuIds) {
-        List<Cart> cartItemsToDelete = cartRepository.findByUser_UserIdAndMenu_MenuIdIn(userDto.userId(), orderedMenuIds);
-        cartRepository.deleteAll(cartItemsToDelete);
+        if (orderedMenuIds.isEmpty()) {
+            return;
+        }
+        flushWriteBehind(userDto.userId());
+        Set<Long> menuIds = Set.copyOf(orderedMenuIds);
+        cartRepository.deleteByUserIdAndMenuIds(userDto.userId(), menuIds);
+        detachDeleted(userDto.userId(), cart -> menuIds.contains(cart.getMenu().getMenuId()));
+    }
+
+    /**
+     * 벌크 DELETE 는 영속성 컨텍스트를 거치지 않으므로, 같은 트랜잭션에서 이미 읽은 장바구니 엔티티가 남아 있으면 분리
+     * - 남겨 두면 이후 조회가 삭제된 행을 돌려주고, 변경 감지가 없는 행을 UPDATE 하려다 실패함
+     * - 컨텍스트 전체를 비우지 않아 주문/사용자 등 함께 쓰는 엔티티는 그대로 유지
+     */
+    private void detachDeleted(Long userId, Predicate<Cart> deleted) {
+        var persistenceContext = entityManager.unwrap(SharedSessionContractImplementor.class)
+                .getPersistenceContextInternal();
+        for (Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries()) {
+            if (entry.getKey() instanceof Cart cart
+                    && cart.getUser().getUserId().equals(userId)
+                    && deleted.test(cart)) {
+                entityManager.detach(cart);
+            }
+        }
+    }
+
+    // 장바구니 행을 바꾸기 전에 메모리에 모아 둔 수량 변경을 같은 트랜잭션에서 먼저 반영
+    private void flushWriteBehind(Long userId) {
+        CartWriteBehindStore store = cartWriteBehindStore.getIfAvailable();
+        if (store != null) {
+            store.flushForChange(userId);
+        }
     }
 }
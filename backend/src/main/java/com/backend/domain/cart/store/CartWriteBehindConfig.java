@@ -0,0 +1,30 @@
+package com.backend.domain.cart.store;
+
+import com.backend.domain.cart.repository.CartRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 장바구니 쓰기 지연 모드 (custom.cart.write-behind.enabled=true, 환경 변수 CART_WRITE_BEHIND)
+ * - 꺼져 있으면 CartWriteBehindStore 빈이 없고 CartService 는 매 요청 DB 에 바로 반영
+ */
+@Configuration
+@ConditionalOnProperty(name = "custom.cart.write-behind.enabled", havingValue = "true")
+@EnableConfigurationProperties(CartWriteBehindProperties.class)
+public class CartWriteBehindConfig {
+
+    // 종료 시 남은 수량 변경 기록
+    @Bean(destroyMethod = "close")
+    public CartWriteBehindStore cartWriteBehindStore(CartWriteBehindProperties properties,
+                                                     CartRepository cartRepository,
+                                                     JdbcTemplate jdbcTemplate,
+                                                     PlatformTransactionManager transactionManager,
+                                                     MeterRegistry meterRegistry) {
+        return new CartWriteBehindStore(properties, cartRepository, jdbcTemplate, transactionManager, meterRegistry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.backend.domain.cart.store;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 장바구니 쓰기 지연 설정 (custom.cart.write-behind)
+ * - flushIntervalMillis : 모아 둔 수량 변경을 cart 테이블에 반영하는 주기
+ * - batchSize : 한 번의 JDBC 배치로 보내는 UPDATE 수
+ * - idleEvictMillis : 이 시간 동안 접근이 없고 반영할 변경도 없는 사용자 장바구니는 메모리에서 제거
+ */
+@ConfigurationProperties("custom.cart.write-behind")
+public record CartWriteBehindProperties(
+        boolean enabled,
+        long flushIntervalMillis,
+        int batchSize,
+        long idleEvictMillis
+) {
+}
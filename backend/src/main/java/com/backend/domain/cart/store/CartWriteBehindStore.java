@@ -0,0 +1,395 @@
+package com.backend.domain.cart.store;
+
+import com.backend.domain.cart.controller.dto.request.CartItemOperation;
+import com.backend.domain.cart.controller.dto.response.CartListResponse;
+import com.backend.domain.cart.controller.dto.response.CartResponse;
+import com.backend.domain.cart.entity.Cart;
+import com.backend.domain.cart.repository.CartRepository;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 장바구니 메모리 집계 + 쓰기 지연 (write-behind)
+ * - 첫 접근 때 사용자 장바구니를 메뉴까지 한 번 읽어 두고, 이후 조회와 수량 변경은 메모리에서 바로 처리 (SQL 없음)
+ * - 수량 변경은 항목별로 마지막 값만 남으므로 +/- 연타가 UPDATE 한 건으로 합쳐짐
+ * - 반영 시점: flushIntervalMillis 주기 / 장바구니 행을 바꾸는 작업(추가, 삭제, 비우기, 주문 생성) 직전 / 종료 시
+ * - 행을 바꾸는 작업은 그 트랜잭션 안에서 먼저 반영하고, 트랜잭션이 끝나면 집계를 버려 다음 접근 때 다시 읽음
+ *
+ * 유실 / 덮어쓰기 규칙
+ * - 반영 전에 프로세스가 비정상 종료되면 마지막 반영 이후의 수량 변경(최대 flushIntervalMillis)은 유실됨
+ * - 집계는 인스턴스마다 따로 있으므로 같은 사용자의 요청이 여러 인스턴스로 나뉘면 나중에 반영한 값이 이김
+ *   -> 사용자별 고정 라우팅(sticky session) 또는 단일 인스턴스에서만 사용
+ * - 반영은 행 단위 마지막 값 덮어쓰기(UPDATE ... WHERE cart_id = ?) 이므로 집계를 버리는 사이 들어온 변경이
+ *   같은 행에 대한 다른 경로의 변경(예: 담기 수량 증가)을 덮어쓸 수 있고, 이미 삭제된 행은 0건 UPDATE 로 무시됨
+ */
+@Slf4j
+public class CartWriteBehindStore {
+
+    // 금액은 메뉴의 현재 가격으로 계산 (집계를 읽은 뒤 가격이 바뀌어도 이전 가격으로 덮어쓰지 않도록)
+    private static final String UPDATE_QUANTITY =
+            "update cart set quantity = ?, order_amount = ? * (select m.price from menu m where m.menu_id = cart.menu_id),"
+                    + " modify_date = ? where cart_id = ?";
+
+    private final CartWriteBehindProperties properties;
+    private final CartRepository cartRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, UserCart> carts = new ConcurrentHashMap<>();
+    // 롤백됐거나 집계를 버릴 때 남아 있던 변경 (userId -> cartId -> 반영할 값), 반영될 때까지 적재 시에도 덮어 씀
+    private final Map<Long, Map<Long, PendingWrite>> carryOver = new ConcurrentHashMap<>();
+
+    private final Counter absorbedUpdates;
+    private final Counter flushedRows;
+
+    public CartWriteBehindStore(CartWriteBehindProperties properties,
+                                CartRepository cartRepository,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cartRepository = cartRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.absorbedUpdates = meterRegistry.counter("cart.write-behind.updates");
+        this.flushedRows = meterRegistry.counter("cart.write-behind.flushed.rows");
+        Gauge.builder("cart.write-behind.users", carts, Map::size).register(meterRegistry);
+    }
+
+    public CartListResponse getCart(Long userId) {
+        UserCart cart = cartOf(userId);
+        cart.lock.lock();
+        try {
+            return new CartListResponse(cart.lines.values().stream()
+                    .map(CartLine::toResponse)
+                    .toList());
+        } finally {
+            cart.lock.unlock();
+        }
+    }
+
+    // 수량 변경 - 메모리에만 반영하고 다음 반영 때 기록 (수량은 1 ~ CartItemOperation.MAX_QUANTITY)
+    public CartResponse updateQuantity(Long userId, Long menuId, int quantity) {
+        if (quantity <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_QUANTITY);
+        }
+        if (quantity > CartItemOperation.MAX_QUANTITY) {
+            throw new BusinessException(ErrorCode.EXCEEDED_MAX_QUANTITY);
+        }
+
+        while (true) {
+            UserCart cart = cartOf(userId);
+            cart.lock.lock();
+            try {
+                if (cart.detached) {
+                    // 그 사이 버려진 집계 - 다시 적재해서 반영
+                    continue;
+                }
+                CartLine line = cart.lines.get(menuId);
+                if (line == null) {
+                    throw new BusinessException(ErrorCode.NOT_FOUND_PRODUCT);
+                }
+                line.quantity = quantity;
+                cart.dirty.add(menuId);
+                absorbedUpdates.increment();
+                return line.toResponse();
+            } finally {
+                cart.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 장바구니 행을 직접 바꾸는 작업 직전에 호출 (호출한 트랜잭션에 참여)
+     * - 이 사용자의 미반영 변경을 먼저 기록해 이후 작업이 최신 수량을 보게 함
+     * - 트랜잭션이 끝나면 집계를 버림 (롤백이면 기록했던 변경을 다시 보관)
+     */
+    public void flushForChange(Long userId) {
+        Map<Long, PendingWrite> carried = carryOver.get(userId);
+        List<PendingWrite> drained = new ArrayList<>();
+        UserCart cart = carts.get(userId);
+        if (cart != null) {
+            cart.drainTo(drained);
+        }
+
+        List<PendingWrite> writes = new ArrayList<>();
+        if (carried != null) {
+            writes.addAll(carried.values());
+        }
+        writes.addAll(drained);
+        write(writes);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterChange(userId, carried, drained, true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                afterChange(userId, carried, drained, status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    /**
+     * 모아 둔 변경을 모두 기록하고 오래 쓰이지 않은 집계를 정리
+     * - 이전에 남은 변경을 먼저 보내고 집계의 변경을 뒤에 보내 같은 행은 최신 값이 마지막에 기록됨
+     * - 실패하면 꺼낸 변경을 보관해 다음 반영 때 다시 시도
+     */
+    public int flush() {
+        Map<Long, Map<Long, PendingWrite>> carried = Map.copyOf(carryOver);
+        List<PendingWrite> writes = new ArrayList<>();
+        carried.values().forEach(pending -> writes.addAll(pending.values()));
+
+        Map<Long, List<PendingWrite>> drained = new HashMap<>();
+        carts.forEach((userId, cart) -> {
+            if (!cart.loaded) {
+                // 적재 중인 집계는 아직 변경이 없음 - 적재(DB 조회)가 끝나길 기다리지 않음
+                return;
+            }
+            List<PendingWrite> userWrites = new ArrayList<>();
+            cart.drainTo(userWrites);
+            if (!userWrites.isEmpty()) {
+                drained.put(userId, userWrites);
+                writes.addAll(userWrites);
+            }
+        });
+
+        try {
+            write(writes);
+        } catch (RuntimeException e) {
+            drained.forEach(this::carry);
+            log.warn("장바구니 수량 변경 {}건 반영 실패 - 다음 반영 때 다시 시도합니다.", writes.size(), e);
+            return 0;
+        }
+        carried.forEach(carryOver::remove);
+        evictIdle();
+        return writes.size();
+    }
+
+    /**
+     * 메뉴 가격/품절이 바뀐 뒤 호출 - 그 메뉴를 담은 집계를 버려 다음 접근 때 새 값으로 다시 읽음
+     * - 남아 있던 수량 변경은 보관했다가 다음 반영 때 기록 (금액은 기록 시점의 메뉴 가격으로 계산)
+     */
+    public void evictMenu(Long menuId) {
+        carts.forEach((userId, cart) -> {
+            // 적재 중인 집계는 이전 가격을 읽었을 수 있으므로 함께 버림
+            if ((cart.loaded && !cart.lines.containsKey(menuId)) || !carts.remove(userId, cart)) {
+                return;
+            }
+            List<PendingWrite> leftovers = new ArrayList<>();
+            cart.detach(leftovers);
+            carry(userId, leftovers);
+        });
+    }
+
+    // 종료 시 남은 변경 기록
+    public void close() {
+        int flushed = flush();
+        if (!carryOver.isEmpty()) {
+            log.error("종료 전에 반영하지 못한 장바구니 수량 변경이 있습니다. (사용자 {}명)", carryOver.size());
+        } else if (flushed > 0) {
+            log.info("종료 전 장바구니 수량 변경 {}건 반영", flushed);
+        }
+    }
+
+    /**
+     * 사용자 집계 조회 - 없으면 빈 집계를 먼저 등록하고, 맵 밖에서 그 집계의 잠금을 잡고 적재
+     * - DB 조회를 computeIfAbsent 안에서 하면 같은 해시 구간의 다른 사용자와 반영/버리기 순회가 조회 내내 막힘
+     * - 같은 사용자의 동시 첫 접근은 집계 잠금에서 기다렸다가 한 번만 적재
+     * - 적재 중에 버리기 요청이 오면 적재가 끝난 뒤 버려지고(detach 가 같은 잠금을 잡음), 기다리던 요청은 다시 적재
+     */
+    private UserCart cartOf(Long userId) {
+        while (true) {
+            UserCart cart = carts.computeIfAbsent(userId, id -> new UserCart());
+            cart.lastAccessMillis = System.currentTimeMillis();
+            if (cart.loaded) {
+                return cart;
+            }
+
+            cart.lock.lock();
+            try {
+                if (cart.detached) {
+                    continue;
+                }
+                if (!cart.loaded) {
+                    load(userId, cart);
+                    cart.loaded = true;
+                }
+                return cart;
+            } finally {
+                cart.lock.unlock();
+            }
+        }
+    }
+
+    // 집계 잠금을 잡은 상태에서 호출
+    private void load(Long userId, UserCart cart) {
+        for (Cart row : cartRepository.findByUser_UserId(userId)) {
+            cart.lines.put(row.getMenu().getMenuId(), new CartLine(row));
+        }
+
+        Map<Long, PendingWrite> carried = carryOver.get(userId);
+        if (carried != null) {
+            for (CartLine line : cart.lines.values()) {
+                PendingWrite pending = carried.get(line.cartId);
+                if (pending != null) {
+                    line.quantity = pending.quantity();
+                }
+            }
+        }
+    }
+
+    private void afterChange(Long userId, Map<Long, PendingWrite> carried, List<PendingWrite> drained, boolean committed) {
+        if (committed) {
+            if (carried != null) {
+                carryOver.remove(userId, carried);
+            }
+        } else {
+            carry(userId, drained);
+        }
+
+        UserCart cart = carts.remove(userId);
+        if (cart != null) {
+            List<PendingWrite> leftovers = new ArrayList<>();
+            cart.detach(leftovers);
+            carry(userId, leftovers);
+        }
+    }
+
+    private void carry(Long userId, List<PendingWrite> writes) {
+        if (writes.isEmpty()) {
+            return;
+        }
+        Map<Long, PendingWrite> added = new LinkedHashMap<>();
+        writes.forEach(write -> added.put(write.cartId(), write));
+        carryOver.merge(userId, Map.copyOf(added), (previous, next) -> {
+            Map<Long, PendingWrite> merged = new HashMap<>(previous);
+            merged.putAll(next);
+            return Map.copyOf(merged);
+        });
+    }
+
+    private void evictIdle() {
+        long idleBefore = System.currentTimeMillis() - properties.idleEvictMillis();
+        carts.forEach((userId, cart) -> {
+            if (cart.lastAccessMillis >= idleBefore) {
+                return;
+            }
+            cart.lock.lock();
+            try {
+                if (cart.dirty.isEmpty() && carts.remove(userId, cart)) {
+                    cart.detached = true;
+                }
+            } finally {
+                cart.lock.unlock();
+            }
+        });
+    }
+
+    // 호출한 트랜잭션이 있으면 참여, 없으면 새 트랜잭션
+    private void write(List<PendingWrite> writes) {
+        if (writes.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(UPDATE_QUANTITY, writes, properties.batchSize(), (ps, write) -> {
+                    ps.setInt(1, write.quantity());
+                    ps.setInt(2, write.quantity());
+                    ps.setObject(3, now);
+                    ps.setLong(4, write.cartId());
+                }));
+        flushedRows.increment(writes.size());
+    }
+
+    record PendingWrite(long cartId, int quantity) {
+    }
+
+    private static final class UserCart {
+        private final ReentrantLock lock = new ReentrantLock();
+        // menuId -> 항목
+        private final Map<Long, CartLine> lines = new LinkedHashMap<>();
+        private final Set<Long> dirty = new HashSet<>();
+        private volatile long lastAccessMillis = System.currentTimeMillis();
+        // 적재가 끝났는지 - 잠금 없이 읽는 곳(cartOf, flush, evictMenu)이 있어 volatile
+        private volatile boolean loaded;
+        private boolean detached;
+
+        private void drainTo(List<PendingWrite> writes) {
+            lock.lock();
+            try {
+                dirty.forEach(menuId -> writes.add(lines.get(menuId).toPendingWrite()));
+                dirty.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void detach(List<PendingWrite> leftovers) {
+            lock.lock();
+            try {
+                detached = true;
+                drainTo(leftovers);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class CartLine {
+        private final Long cartId;
+        private final Long menuId;
+        private final String name;
+        private final String imageUrl;
+        private final int price;
+        private final boolean soldOut;
+        private int quantity;
+
+        private CartLine(Cart cart) {
+            this.cartId = cart.getId();
+            this.menuId = cart.getMenu().getMenuId();
+            this.name = cart.getMenu().getName();
+            this.imageUrl = cart.getMenu().getImageUrl();
+            this.price = cart.getMenu().getPrice();
+            this.soldOut = cart.isSoldOut();
+            this.quantity = cart.getQuantity();
+        }
+
+        private CartResponse toResponse() {
+            return CartResponse.builder()
+                    .cartId(cartId)
+                    .menuId(menuId)
+                    .name(name)
+                    .imageUrl(imageUrl)
+                    .price(price)
+                    .quantity(quantity)
+                    .soldOut(soldOut)
+                    .build();
+        }
+
+        private PendingWrite toPendingWrite() {
+            return new PendingWrite(cartId, quantity);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.backend.domain.menu.catalog;
+
+import com.backend.domain.menu.entity.Menu;
+
+// 메모리 메뉴 카탈로그 항목 - 장바구니 가격 계산/표시에 필요한 값만 (불변)
+public record CatalogMenu(
+        Long menuId,
+        String name,
+        String imageUrl,
+        int price,
+        boolean soldOut
+) {
+    public static CatalogMenu from(Menu menu) {
+        return new CatalogMenu(menu.getMenuId(), menu.getName(), menu.getImageUrl(), menu.getPrice(),
+                Boolean.TRUE.equals(menu.getIsSoldOut()));
+    }
+}
@@ -0,0 +1,67 @@
+package com.backend.domain.menu.catalog;
+
+import com.backend.domain.menu.event.MenuChangedEvent;
+import com.backend.domain.menu.repository.MenuRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 메뉴 카탈로그 - 전체 메뉴의 가격/품절/표시 정보를 스냅샷으로 보관
+ * - 조회는 DB 없이 불변 맵을 읽음 (비회원 장바구니 가격 계산 등)
+ * - 시작 시, 가격/품절 변경 커밋 후, 메뉴 추가/삭제 후 다시 읽고, 다른 인스턴스의 변경은 refreshMillis 주기로 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuCatalog {
+
+    private final MenuRepository menuRepository;
+
+    private volatile Map<Long, CatalogMenu> menus = Map.of();
+
+    public Optional<CatalogMenu> find(Long menuId) {
+        return Optional.ofNullable(menus.get(menuId));
+    }
+
+    public int size() {
+        return menus.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${custom.menu.catalog.refreshMillis}",
+            fixedDelayString = "${custom.menu.catalog.refreshMillis}")
+    public void refresh() {
+        reload();
+    }
+
+    // 실패하면 이전 스냅샷을 그대로 사용
+    public void reload() {
+        try {
+            menus = menuRepository.findAll().stream()
+                    .map(CatalogMenu::from)
+                    .collect(Collectors.toUnmodifiableMap(CatalogMenu::menuId, Function.identity()));
+        } catch (RuntimeException e) {
+            log.warn("메뉴 카탈로그를 다시 읽지 못했습니다. 이전 스냅샷({}개)을 사용합니다.", menus.size(), e);
+        }
+    }
+}
@@ -8,9 +8,14 @@ import jakarta.validation.constraints.Positive;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+// 장바구니/주문마다 조회되고 변경은 드묾 - 가격·품절 여부가 주문 검증에 쓰이므로 READ_WRITE
 @Entity
 @Table(name = "menu")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu")
 @Getter
 @NoArgsConstructor
 public class Menu extends BaseEntity {
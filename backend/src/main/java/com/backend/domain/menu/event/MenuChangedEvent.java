@@ -0,0 +1,12 @@
+package com.backend.domain.menu.event;
+
+/**
+ * 메뉴의 가격 또는 품절 여부가 바뀌었음을 알리는 이벤트
+ * - 메뉴 변경 트랜잭션이 커밋된 뒤 장바구니 재계산(CartRepricer)이 받음
+ */
+public record MenuChangedEvent(
+        Long menuId,
+        boolean priceChanged,
+        boolean soldOutChanged
+) {
+}
@@ -1,15 +1,22 @@
 package com.backend.domain.menu.repository;
 
 import com.backend.domain.menu.entity.Menu;
+import jakarta.persistence.QueryHint;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
 public interface MenuRepository extends JpaRepository<Menu, Long> {
     boolean existsByName(String name);
 
-    // 품절이 아닌 메뉴만 조회
+    // 품절이 아닌 메뉴만 조회 (쿼리 캐시 - menu 테이블이 바뀌면 자동 무효화)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "menu-available")
+    })
     List<Menu> findByIsSoldOutFalse();
 
     boolean existsByNameAndMenuIdNot(String name, Long menuId);
@@ -3,26 +3,34 @@ package com.backend.domain.menu.service;
 import com.backend.domain.menu.dto.MenuAddRequest;
 import com.backend.domain.menu.dto.MenuResponse;
 import com.backend.domain.menu.dto.MenuUpdateRequest;
+import com.backend.domain.menu.catalog.MenuCatalog;
 import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.event.MenuChangedEvent;
 import com.backend.domain.menu.repository.MenuRepository;
 import com.backend.global.exception.BusinessException;
 import com.backend.global.response.ApiResponse;
 import com.backend.global.response.ErrorCode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @Service
 public class MenuService {
 
     private final MenuRepository menuRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MenuCatalog menuCatalog;
 
     // =========== 사용자 ============
 
     // 전체 메뉴 조회(사용자)
+    @Transactional(readOnly = true)
     public ApiResponse<List<MenuResponse>> getAllMenu() {
         List<MenuResponse> menus = menuRepository.findAll().stream()
                 .map(MenuResponse::from)
@@ -42,10 +50,13 @@ public class MenuService {
         }
 
         Menu menu = request.toEntity();
-        return MenuResponse.from(menuRepository.save(menu));
+        MenuResponse response = MenuResponse.from(menuRepository.save(menu));
+        menuCatalog.reload();
+        return response;
     }
 
     // 관리자 전용 조회 (품절 포함)
+    @Transactional(readOnly = true)
     public ApiResponse<List<MenuResponse>> getAllMenuForAdmin() {
         List<MenuResponse> menus = menuRepository.findAll().stream()
                 .map(MenuResponse::from)
@@ -54,7 +65,8 @@ public class MenuService {
         return ApiResponse.success(menus);
     }
 
-    // 메뉴 수정 (관리자)
+    // 메뉴 수정 (관리자) - 가격/품절이 바뀌면 커밋 후 장바구니 재계산
+    @Transactional
     public MenuResponse updateMenu(Long menuId, @Valid MenuUpdateRequest request) {
         Menu menu = menuRepository.findById(menuId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PRODUCT));
@@ -64,11 +76,15 @@ public class MenuService {
             throw new BusinessException(ErrorCode.DUPLICATE_MENU_NAME);
         }
 
+        int previousPrice = menu.getPrice();
+        boolean previousSoldOut = menu.getIsSoldOut();
         request.applyTo(menu); // DTO → 엔티티 갱신
+        publishIfChanged(menu, previousPrice, previousSoldOut);
         return MenuResponse.from(menuRepository.save(menu));
     }
 
     // 메뉴 상세 조회 (관리자)
+    @Transactional(readOnly = true)
     public MenuResponse getMenuById(Long menuId) {
         Menu menu = menuRepository.findById(menuId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PRODUCT));
@@ -82,13 +98,27 @@ public class MenuService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PRODUCT));
 
         menuRepository.delete(menu);
+        menuCatalog.reload();
     }
 
+    @Transactional
     public MenuResponse updateMenuSoldOut(Long menuId, Boolean isSoldOut) {
         Menu menu = menuRepository.findById(menuId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PRODUCT));
 
+        int previousPrice = menu.getPrice();
+        boolean previousSoldOut = menu.getIsSoldOut();
         menu.setIsSoldOut(isSoldOut);
+        publishIfChanged(menu, previousPrice, previousSoldOut);
         return MenuResponse.from(menuRepository.save(menu));
     }
+
+    // 장바구니에 영향을 주는 변경(가격, 품절)만 알림 - 수신은 커밋 이후
+    private void publishIfChanged(Menu menu, int previousPrice, boolean previousSoldOut) {
+        boolean priceChanged = menu.getPrice() != previousPrice;
+        boolean soldOutChanged = !Objects.equals(menu.getIsSoldOut(), previousSoldOut);
+        if (priceChanged || soldOutChanged) {
+            eventPublisher.publishEvent(new MenuChangedEvent(menu.getMenuId(), priceChanged, soldOutChanged));
+        }
+    }
 }
@@ -14,11 +14,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Optional;
 
 @Controller
 @RequestMapping("/api/orders")
@@ -30,13 +28,13 @@ public class OrderController {
     private final Rq rq;
 
     @PostMapping
-    @Transactional
     @Operation(summary = "주문 생성", description = "인증된 사용자의 주문을 생성합니다. CREATED 상태로 시작합니다.")
     public ResponseEntity<ApiResponse<OrderCreateResponse>> createOrder(
             @Valid @RequestBody OrderCreateRequest request
     ) throws Exception {
 
         UserDto actor = rq.getUser();
+        // 저장 직후의 주문은 상세/메뉴가 모두 메모리에 있어 트랜잭션 밖에서도 변환 가능
         Orders order = orderService.createOrder(actor, request);
 
         return ResponseEntity.ok(ApiResponse.success(new OrderCreateResponse((order))));
@@ -100,7 +98,6 @@ public class OrderController {
     }
 
     @PutMapping("/{orderId}/status")
-    @Transactional
     @Operation(summary = "주문 상태 업데이트", description = "주문의 상태를 업데이트합니다. (예: PAID, COMPLETED 등)")
     public ResponseEntity<ApiResponse<OrderCreateResponse>> updateOrderStatus(
             @PathVariable Long orderId,
@@ -109,11 +106,8 @@ public class OrderController {
         //쿠키에서 인증된 유저 가져오기
         UserDto actor = rq.getUser();
 
-        // 주문 상태 업데이트 로직 (예: 결제 완료, 배송 중 등)
-        orderService.updateOrderStatus(orderId, reqBody.newStatus());
-
-        // 업데이트된 주문 정보 반환
-        Optional<Orders> updatedOrder = orderService.getOrderById(orderId);
-        return ResponseEntity.ok(ApiResponse.success(new OrderCreateResponse(updatedOrder)));
+        // 주문 상태 업데이트 로직 (예: 결제 완료, 배송 중 등) - 업데이트된 주문 정보 반환
+        OrderCreateResponse updatedOrder = orderService.updateOrderStatus(orderId, reqBody.newStatus());
+        return ResponseEntity.ok(ApiResponse.success(updatedOrder));
     }
 }
@@ -1,17 +1,19 @@
 package com.backend.domain.order.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 import java.time.LocalDateTime;
 import java.util.List;
 
 public record AdminOrderSummaryResponse(
-        Long orderId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long orderId,
         LocalDateTime orderTime,
         int orderAmount,
         String status,
         String userEmail,
         String userPhone,
         String address,
-        Long paymentId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long paymentId,
         List<OrderSummaryDetailResponse> items
 ) {
 }
@@ -1,7 +1,9 @@
 package com.backend.domain.order.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 public record OrderCancelResponse(
-        Long orderId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long orderId,
         String message,
         String status
 ) {
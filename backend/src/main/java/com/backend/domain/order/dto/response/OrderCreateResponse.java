@@ -2,6 +2,7 @@ package com.backend.domain.order.dto.response;
 
 import com.backend.domain.order.entity.Orders;
 import com.backend.global.exception.BusinessException;
+import com.fasterxml.jackson.annotation.JsonFormat;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,7 +16,7 @@ import static com.backend.global.response.ErrorCode.NOT_FOUND_ORDER;
  * record를 사용하여 불변 객체로 간단하게 정의합니다.
  */
 public record OrderCreateResponse(
-        Long orderId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long orderId,
         Long userId,
         String status,
         int orderAmount,
@@ -1,15 +1,17 @@
 package com.backend.domain.order.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 import java.time.LocalDateTime;
 import java.util.List;
 
 public record OrderSummaryResponse(
-        Long orderId,              // 주문 번호
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long orderId,              // 주문 번호
         LocalDateTime orderTime,   // 주문 일시
         int orderAmount,           // 총 금액
         String status,             // 주문 상태
         String address,            // 주소
-        Long paymentId,         // 결제 번호
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long paymentId,         // 결제 번호
         List<OrderSummaryDetailResponse> items  // 주문 상세 목록
 ) {
 }
\ No newline at end of file
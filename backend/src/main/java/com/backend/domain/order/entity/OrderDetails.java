@@ -20,14 +20,16 @@ import lombok.Setter;
 public class OrderDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_details_seq")
+    @SequenceGenerator(name = "order_details_seq", sequenceName = "order_details_seq", allocationSize = 50)
     private Long orderItemId;
 
     // Order 엔티티와의 관계 (다대일)
     @ManyToOne(fetch = FetchType.LAZY)
     private Orders order;
 
-    @ManyToOne
+    // 메뉴는 화면마다 필요 여부가 달라 지연 로딩 (조회 유스케이스별 엔티티 그래프로 함께 조회)
+    @ManyToOne(fetch = FetchType.LAZY)
     private Menu menu;
 
     @Column(nullable = false)
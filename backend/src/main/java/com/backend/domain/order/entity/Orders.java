@@ -4,6 +4,7 @@ import com.backend.domain.payment.entity.Payment;
 import com.backend.domain.user.address.entity.Address;
 import com.backend.domain.user.user.entity.Users;
 import com.backend.global.jpa.entity.BaseEntity;
+import com.backend.global.jpa.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,15 +17,31 @@ import java.util.List;
 /**
  * 주문 테이블 (Order)
  * 용도: 고객의 주문 한 건에 대한 전체적인 요약 정보(영수증 머리글)를 저장합니다.
+ * 조회 유스케이스별 엔티티 그래프 - 화면에 그리는 연관만 한 번의 SELECT 로 함께 조회
+ * - Orders.details : 주문 목록 / 단건 / 상태 변경 응답 (주소, 결제, 상세 + 메뉴)
+ * - Orders.adminListing : 관리자 주문 목록 (Orders.details + 주문자, OrderEntityGraphConfig 에서 등록)
  */
+@NamedEntityGraph(
+        name = Orders.DETAILS_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("address"),
+                @NamedAttributeNode("payment"),
+                @NamedAttributeNode(value = "orderDetails", subgraph = "orderDetails.menu")
+        },
+        subgraphs = @NamedSubgraph(name = "orderDetails.menu", attributeNodes = @NamedAttributeNode("menu"))
+)
 @Entity
 @Getter
 @Table(name = "orders")
 @NoArgsConstructor
 public class Orders extends BaseEntity {
 
+    public static final String DETAILS_GRAPH = "Orders.details";
+    public static final String ADMIN_LISTING_GRAPH = "Orders.adminListing";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시간 순서 64비트 ID (샤딩/보관용, DB 왕복 없이 발급)
+    @SnowflakeId
     private Long orderId;
 
     @Version
@@ -0,0 +1,34 @@
+package com.backend.domain.order.pricing;
+
+/**
+ * 주문 금액 계산 규칙 - 상품 합계에 배송비를 더해 결제 총액을 정함
+ * - 5만원 이상이면 무료 배송, 미만이면 배송비 3000원
+ * - 장바구니 조회 응답과 주문 생성 검증이 같은 규칙을 쓰도록 여기 한 곳에서만 계산
+ */
+public final class OrderPricing {
+
+    public static final int FREE_SHIPPING_THRESHOLD = 50000;
+    public static final int SHIPPING_FEE = 3000;
+
+    private static final Quote EMPTY = new Quote(0, 0, 0);
+
+    private OrderPricing() {
+    }
+
+    public static Quote quote(int subtotal) {
+        int shippingFee = subtotal < FREE_SHIPPING_THRESHOLD ? SHIPPING_FEE : 0;
+        return new Quote(subtotal, shippingFee, subtotal + shippingFee);
+    }
+
+    // 담긴 상품이 없으면 배송할 것도 없으므로 배송비 0원
+    public static Quote quoteCart(int subtotal, int itemCount) {
+        return itemCount == 0 ? EMPTY : quote(subtotal);
+    }
+
+    public record Quote(
+            int subtotal,
+            int shippingFee,
+            int total
+    ) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.backend.domain.order.repository;
+
+import com.backend.domain.order.entity.Orders;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 관리자 주문 목록 엔티티 그래프 (Orders.adminListing)
+ * - 어노테이션 그래프는 다른 그래프를 이어받을 수 없어, Orders.details 를 복사해 주문자만 더한 뒤 이름으로 등록
+ * - 상세 + 메뉴 서브그래프는 Orders 에 한 번만 정의
+ */
+@Configuration
+public class OrderEntityGraphConfig {
+
+    @Bean
+    public SmartInitializingSingleton adminListingEntityGraph(EntityManagerFactory entityManagerFactory) {
+        return () -> {
+            try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+                EntityGraph<?> graph = entityManager.createEntityGraph(Orders.DETAILS_GRAPH);
+                graph.addAttributeNodes("user");
+                entityManagerFactory.addNamedEntityGraph(Orders.ADMIN_LISTING_GRAPH, graph);
+            }
+        };
+    }
+}
@@ -1,6 +1,7 @@
 package com.backend.domain.order.repository;
 
 import com.backend.domain.order.entity.Orders;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,8 +12,16 @@ import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Orders, Long> {
+    @EntityGraph(Orders.DETAILS_GRAPH)
     List<Orders> findByUser_UserId(Long userId);
 
+    @EntityGraph(Orders.DETAILS_GRAPH)
+    Optional<Orders> findWithDetailsByOrderId(Long orderId);
+
+    @EntityGraph(Orders.ADMIN_LISTING_GRAPH)
+    @Query("SELECT o FROM Orders o")
+    List<Orders> findAllForAdmin();
+
     // 특정 주문이 요청한 사용자의 소유인지 검증하며 주문 조회
     // (결제 권한 검증용: Payment → Orders → User 경로로 소유자 확인)
     Optional<Orders> findByOrderIdAndUser_UserId(Long orderId, Long userId);
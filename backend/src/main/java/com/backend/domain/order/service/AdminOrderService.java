@@ -22,9 +22,9 @@ public class AdminOrderService {
     private final OrderRepository orderRepository;
     private final AddressService addressService;
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<AdminOrderSummaryResponse> getAllOrdersForAdmin() {
-        List<Orders> orders = orderRepository.findAll();
+        List<Orders> orders = orderRepository.findAllForAdmin();
 
         // 주문이 없을 경우 → 그냥 빈 리스트 반환
         if (orders.isEmpty()) {
@@ -5,11 +5,13 @@ import com.backend.domain.menu.entity.Menu;
 import com.backend.domain.menu.repository.MenuRepository;
 import com.backend.domain.order.dto.request.OrderCreateRequest;
 import com.backend.domain.order.dto.request.OrderDetailsCreateRequest;
+import com.backend.domain.order.dto.response.OrderCreateResponse;
 import com.backend.domain.order.dto.response.OrderSummaryDetailResponse;
 import com.backend.domain.order.dto.response.OrderSummaryResponse;
 import com.backend.domain.order.entity.OrderDetails;
 import com.backend.domain.order.entity.OrderStatus;
 import com.backend.domain.order.entity.Orders;
+import com.backend.domain.order.pricing.OrderPricing;
 import com.backend.domain.order.repository.OrderRepository;
 import com.backend.domain.payment.entity.PaymentStatus;
 import com.backend.domain.payment.service.PaymentService;
@@ -21,6 +23,7 @@ import com.backend.domain.user.user.entity.Users;
 import com.backend.domain.user.user.repository.UserRepository;
 import com.backend.global.exception.BusinessException;
 import com.backend.global.response.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,6 +42,7 @@ public class OrderService {
     private final AddressRepository addressRepository;
     private final CartService cartService;
     private final PaymentService paymentService;
+    private final MeterRegistry meterRegistry;
 
     @Transactional
     public Orders createOrder(UserDto actor, OrderCreateRequest request) throws Exception {
@@ -59,48 +63,61 @@ public class OrderService {
             Menu menu = menuRepository.findById(itemReq.productId())
                     .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PRODUCT));
 
-            if (itemReq.quantity() <= 0) {
-                throw new BusinessException(ErrorCode.INVALID_QUANTITY);
-            }
-
-            int expectedPrice = menu.getPrice() * itemReq.quantity();
-            if (expectedPrice != itemReq.orderPrice()) {
-                throw new BusinessException(ErrorCode.INVALID_ORDER_PRICE);
-            }
-
-            calculatedTotal += expectedPrice;
+            calculatedTotal += validateItemPrice(itemReq, menu);
 
             OrderDetails detail = new OrderDetails(menu, itemReq.quantity(), itemReq.orderPrice(), itemReq.menuName());
             orderDetails.add(detail);
         }
 
         // 4. 금액 검증
-        if(calculatedTotal < 50000){
-            calculatedTotal += 3000; // 배송비 추가
-        }
-
-        if (calculatedTotal != request.amount()) {
-            throw new BusinessException(ErrorCode.INVALID_ORDER_AMOUNT);
-        }
+        calculatedTotal = validateOrderAmount(calculatedTotal, request.amount());
 
         // 5. 주문 엔티티 생성 (Users 엔티티 사용)
         Orders order = new Orders(user, calculatedTotal, OrderStatus.CREATED, address);
         order.addOrderDetails(orderDetails);
 
-        // 6. 장바구니에서 해당 아이템들 삭제
+        // 6. 주문 저장
+        Orders savedOrder = orderRepository.save(order);
+
+        // 7. 장바구니에서 해당 아이템들 삭제 - 주문 INSERT 를 먼저 flush 한 뒤 DELETE 한 문장으로,
+        //    장바구니 행 잠금은 이 문장부터 커밋까지만 잡음
         List<Long> orderedMenuIds = orderDetails.stream()
                 .map(d -> d.getMenu().getMenuId())
                 .toList();
         cartService.deleteOrderedItems(actor, orderedMenuIds);
 
-        // 7. 주문 저장
-        return orderRepository.save(order);
+        meterRegistry.counter("orders.created").increment();
+        return savedOrder;
+    }
+
+    // 항목 금액 검증 - 수량이 양수이고 요청 금액이 메뉴 가격 * 수량과 같아야 함
+    static int validateItemPrice(OrderDetailsCreateRequest itemReq, Menu menu) {
+        if (itemReq.quantity() <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_QUANTITY);
+        }
+
+        int expectedPrice = menu.getPrice() * itemReq.quantity();
+        if (expectedPrice != itemReq.orderPrice()) {
+            throw new BusinessException(ErrorCode.INVALID_ORDER_PRICE);
+        }
+        return expectedPrice;
+    }
+
+    // 총액 검증 - 장바구니 조회와 같은 규칙(OrderPricing)으로 배송비를 더한 뒤 요청 금액과 비교
+    static int validateOrderAmount(int itemsTotal, int requestedAmount) {
+        int calculatedTotal = OrderPricing.quote(itemsTotal).total();
+
+        if (calculatedTotal != requestedAmount) {
+            throw new BusinessException(ErrorCode.INVALID_ORDER_AMOUNT);
+        }
+        return calculatedTotal;
     }
 
+    // 변경된 주문을 응답 DTO 로 만들어 반환 (트랜잭션 밖에서 지연 로딩하지 않도록)
     @Transactional
-    public void updateOrderStatus(Long orderId, String status) {
+    public OrderCreateResponse updateOrderStatus(Long orderId, String status) {
         // 1. 주문 존재 확인
-        Orders order = orderRepository.findById(orderId)
+        Orders order = orderRepository.findWithDetailsByOrderId(orderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_ORDER));
 
         // 2. Enum 변환 검증
@@ -126,8 +143,10 @@ public class OrderService {
 
         // 5. 상태 업데이트
         order.updateOrderStatus(newStatus);
+        return new OrderCreateResponse(order);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Orders> getOrderById(Long orderId) {
         return orderRepository.findById(orderId);
     }
@@ -237,9 +256,10 @@ public class OrderService {
         orderRepository.delete(order);
     }
 
+    @Transactional(readOnly = true)
     public OrderSummaryResponse getOrderByUserId(Long actor, Long orderId) {
         // 1. 주문 존재 확인
-        Orders order = orderRepository.findById(orderId).orElse(null);
+        Orders order = orderRepository.findWithDetailsByOrderId(orderId).orElse(null);
         if (order == null) {
             return null; // 예외 던지지 않고 null 반환
         }
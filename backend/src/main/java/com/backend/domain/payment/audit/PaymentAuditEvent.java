@@ -0,0 +1,38 @@
+package com.backend.domain.payment.audit;
+
+/**
+ * 결제 감사 저널에 기록되는 상태 전이 종류
+ * code 는 저널 파일에 저장되는 값이므로 변경하지 않습니다.
+ */
+public enum PaymentAuditEvent {
+    COMPLETED((byte) 1, "결제 완료"),
+    FAILED((byte) 2, "결제 실패"),
+    CANCELED((byte) 3, "결제 취소"),
+    DELETED((byte) 4, "결제 내역 삭제"),
+    RELEASED((byte) 5, "결제 예약 해제");
+
+    private final byte code;
+    private final String description;
+
+    PaymentAuditEvent(byte code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static PaymentAuditEvent fromCode(byte code) {
+        for (PaymentAuditEvent event : values()) {
+            if (event.code == code) {
+                return event;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,215 @@
+package com.backend.domain.payment.audit;
+
+import com.backend.domain.payment.entity.PaymentStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * 결제 상태 전이를 남기는 추가 전용(append-only) 감사 저널
+ * - 고정 길이 레코드({@link PaymentAuditRecord})를 메모리 맵 세그먼트 파일에 순서대로 기록
+ * - 세그먼트가 가득 차면 다음 세그먼트로 교체 (파일명: payment-audit-{첫 sequence}.seg)
+ * - 디스크 반영(fsync)은 백그라운드 스레드가 fsyncIntervalMillis 주기로 수행하며,
+ *   그 사이 프로세스가 아닌 OS 가 중단되면 마지막 주기의 기록은 잃을 수 있음
+ * - 재시작 시 마지막 세그먼트에서 온전한 레코드 다음 위치부터 이어서 기록
+ * - 한 디렉토리는 하나의 프로세스만 사용 (journal.lock 파일 잠금)
+ */
+@Slf4j
+public class PaymentAuditJournal implements AutoCloseable {
+
+    static final String SEGMENT_PREFIX = "payment-audit-";
+    static final String SEGMENT_SUFFIX = ".seg";
+    private static final String LOCK_FILE = "journal.lock";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final CRC32C checksum = new CRC32C();
+    private final FileChannel lockChannel;
+    private final FileLock fileLock;
+    private final ScheduledExecutorService flusher;
+
+    private FileChannel channel;
+    private volatile MappedByteBuffer buffer;
+    private volatile boolean dirty;
+    private int position;
+    private long nextSequence;
+    private boolean closed;
+
+    public PaymentAuditJournal(Path directory, int segmentSizeBytes, long fsyncIntervalMillis) throws IOException {
+        if (segmentSizeBytes < PaymentAuditRecord.SIZE) {
+            throw new IllegalArgumentException("segmentSizeBytes must hold at least one record");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentSizeBytes - segmentSizeBytes % PaymentAuditRecord.SIZE;
+
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.fileLock = lockChannel.tryLock();
+        if (fileLock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("감사 저널 디렉토리를 다른 프로세스가 사용 중입니다: " + directory);
+        }
+
+        recover();
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "payment-audit-fsync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (fsyncIntervalMillis > 0) {
+            flusher.scheduleWithFixedDelay(this::flush, fsyncIntervalMillis, fsyncIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 레코드 한 건 추가 후 부여된 sequence 반환
+     * 디스크 반영은 백그라운드 fsync 에 맡기므로 메모리 쓰기 비용만 듭니다.
+     */
+    public long append(PaymentAuditEvent event, PaymentStatus fromStatus, PaymentStatus toStatus,
+                       long paymentId, long orderId, long userId, int amount) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("감사 저널이 닫혔습니다.");
+            }
+            if (position + PaymentAuditRecord.SIZE > buffer.capacity()) {
+                rotate();
+            }
+
+            long sequence = nextSequence++;
+            PaymentAuditRecord.write(buffer, position, checksum, sequence, System.currentTimeMillis(), event,
+                    fromStatus, toStatus, paymentId, orderId, userId, amount);
+            position += PaymentAuditRecord.SIZE;
+            dirty = true;
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 현재 세그먼트의 변경분을 디스크에 반영
+    public void flush() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        buffer.force();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            flusher.shutdown();
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+            buffer.force();
+            channel.close();
+            fileLock.release();
+            lockChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 마지막 세그먼트에서 기록을 이어갈 위치와 sequence 를 찾음
+    private void recover() throws IOException {
+        List<Path> segments = PaymentAuditJournalReader.segments(directory);
+        if (segments.isEmpty()) {
+            nextSequence = 1;
+            openSegment(nextSequence);
+            return;
+        }
+
+        Path last = segments.get(segments.size() - 1);
+        long firstSequence = PaymentAuditJournalReader.firstSequence(last);
+        channel = FileChannel.open(last, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        int mappedBytes = (int) Math.max(channel.size() - channel.size() % PaymentAuditRecord.SIZE, segmentBytes);
+        buffer = map(channel, mappedBytes);
+
+        position = 0;
+        nextSequence = firstSequence;
+        while (position < mappedBytes && PaymentAuditRecord.isValid(buffer, position, checksum)) {
+            nextSequence = buffer.getLong(position + PaymentAuditRecord.SEQUENCE_OFFSET) + 1;
+            position += PaymentAuditRecord.SIZE;
+        }
+
+        // 중간에 잘린 레코드가 있으면 이후 기록이 덮어씀
+        if (position < mappedBytes && PaymentAuditRecord.hasMagic(buffer, position)) {
+            log.warn("감사 저널 끝의 불완전한 레코드를 덮어씁니다: segment={}, offset={}", last, position);
+        }
+
+        if (position >= mappedBytes) {
+            rotate();
+        }
+    }
+
+    private void rotate() {
+        MappedByteBuffer previousBuffer = buffer;
+        FileChannel previousChannel = channel;
+
+        try {
+            openSegment(nextSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 저널 세그먼트를 만들 수 없습니다.", e);
+        }
+
+        // 이전 세그먼트 fsync 는 백그라운드로 넘겨 append 지연을 줄임
+        Runnable closePrevious = () -> {
+            try {
+                previousBuffer.force();
+                previousChannel.close();
+            } catch (IOException e) {
+                log.error("감사 저널 세그먼트를 닫지 못했습니다.", e);
+            }
+        };
+        if (flusher == null) {
+            closePrevious.run();
+        } else {
+            flusher.execute(closePrevious);
+        }
+    }
+
+    private void openSegment(long firstSequence) throws IOException {
+        Path segment = directory.resolve(PaymentAuditJournalReader.segmentFileName(firstSequence));
+        channel = FileChannel.open(segment,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = map(channel, segmentBytes);
+        position = 0;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, int size) throws IOException {
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        mapped.order(ByteOrder.LITTLE_ENDIAN);
+        return mapped;
+    }
+}
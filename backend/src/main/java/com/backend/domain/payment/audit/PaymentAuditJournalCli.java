@@ -0,0 +1,94 @@
+package com.backend.domain.payment.audit;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 결제 감사 저널 조회 CLI
+ *
+ * <pre>
+ * ./gradlew auditJournalScan --args="--dir ./payment-audit --payment 42 --event CANCELED
+ *                                    --from 2025-01-01T00:00 --to 2025-01-02T00:00 --count"
+ * </pre>
+ * 시간은 한국시간(Asia/Seoul) 기준이며, --count 를 주면 건수만 출력합니다.
+ */
+public final class PaymentAuditJournalCli {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private PaymentAuditJournalCli() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Path.of("./payment-audit");
+        Long paymentId = null;
+        PaymentAuditEvent event = null;
+        Long fromMillis = null;
+        Long toMillis = null;
+        boolean countOnly = false;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--dir" -> directory = Path.of(args[++i]);
+                case "--payment" -> paymentId = Long.parseLong(args[++i]);
+                case "--event" -> event = PaymentAuditEvent.valueOf(args[++i].toUpperCase());
+                case "--from" -> fromMillis = toEpochMillis(args[++i]);
+                case "--to" -> toMillis = toEpochMillis(args[++i]);
+                case "--count" -> countOnly = true;
+                default -> {
+                    System.err.println("알 수 없는 옵션: " + args[i]);
+                    System.err.println("사용법: --dir <경로> [--payment <id>] [--event <종류>] [--from <시각>] [--to <시각>] [--count]");
+                    System.exit(1);
+                }
+            }
+        }
+
+        PaymentAuditJournalReader.Filter filter =
+                new PaymentAuditJournalReader.Filter(paymentId, event, fromMillis, toMillis);
+        long started = System.nanoTime();
+
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        boolean printRecords = !countOnly;
+        long matched = PaymentAuditJournalReader.scan(directory, filter, record -> {
+            if (printRecords) {
+                try {
+                    out.write(format(record));
+                    out.newLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+        out.flush();
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        System.err.printf("%d건 (%dms)%n", matched, elapsedMillis);
+        if (countOnly) {
+            System.out.println(matched);
+        }
+    }
+
+    private static String format(PaymentAuditRecord record) {
+        return String.join(",",
+                String.valueOf(record.sequence()),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(record.timestampMillis()), KST).toString(),
+                String.valueOf(record.event()),
+                String.valueOf(record.fromStatus()),
+                String.valueOf(record.toStatus()),
+                String.valueOf(record.paymentId()),
+                String.valueOf(record.orderId()),
+                String.valueOf(record.userId()),
+                String.valueOf(record.amount()));
+    }
+
+    private static long toEpochMillis(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(KST).toInstant().toEpochMilli();
+    }
+}
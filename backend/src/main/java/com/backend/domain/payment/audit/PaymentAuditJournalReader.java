@@ -0,0 +1,114 @@
+package com.backend.domain.payment.audit;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 결제 감사 저널 세그먼트 조회
+ * - 세그먼트를 읽기 전용으로 매핑해 순서대로 훑음
+ * - paymentId / event 조건은 레코드를 만들기 전에 고정 위치 값으로 먼저 걸러 CRC 검증·객체 생성을 줄임
+ * - 기록 중인 저널도 읽을 수 있으며, 온전하지 않은 레코드를 만나면 해당 세그먼트 조회를 멈춤
+ */
+public final class PaymentAuditJournalReader {
+
+    private PaymentAuditJournalReader() {
+    }
+
+    /**
+     * 조회 조건 (null 인 항목은 조건 없음, 시간은 epoch millis 기준 [from, to))
+     */
+    public record Filter(Long paymentId, PaymentAuditEvent event, Long fromMillis, Long toMillis) {
+        public static Filter all() {
+            return new Filter(null, null, null, null);
+        }
+    }
+
+    // 조건에 맞는 레코드를 sequence 순서로 전달하고 그 개수를 반환
+    public static long scan(Path directory, Filter filter, Consumer<PaymentAuditRecord> consumer) throws IOException {
+        CRC32C checksum = new CRC32C();
+        long matched = 0;
+
+        for (Path segment : segments(directory)) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                long size = channel.size() - channel.size() % PaymentAuditRecord.SIZE;
+                if (size == 0) {
+                    continue;
+                }
+
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+                for (int offset = 0; offset < size; offset += PaymentAuditRecord.SIZE) {
+                    if (!PaymentAuditRecord.hasMagic(buffer, offset)) {
+                        break;
+                    }
+                    if (!matches(buffer, offset, filter)) {
+                        continue;
+                    }
+                    if (!PaymentAuditRecord.isValid(buffer, offset, checksum)) {
+                        break;
+                    }
+
+                    consumer.accept(PaymentAuditRecord.read(buffer, offset));
+                    matched++;
+                }
+            }
+        }
+
+        return matched;
+    }
+
+    // 세그먼트 파일 목록 (첫 sequence 순)
+    static List<Path> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PaymentAuditJournal.SEGMENT_PREFIX)
+                                && name.endsWith(PaymentAuditJournal.SEGMENT_SUFFIX);
+                    })
+                    .sorted() // 파일명의 sequence 가 0으로 채운 고정 자릿수라 이름순 = sequence 순
+                    .toList();
+        }
+    }
+
+    static String segmentFileName(long firstSequence) {
+        return PaymentAuditJournal.SEGMENT_PREFIX + String.format("%020d", firstSequence)
+                + PaymentAuditJournal.SEGMENT_SUFFIX;
+    }
+
+    static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PaymentAuditJournal.SEGMENT_PREFIX.length(),
+                name.length() - PaymentAuditJournal.SEGMENT_SUFFIX.length()));
+    }
+
+    private static boolean matches(MappedByteBuffer buffer, int offset, Filter filter) {
+        if (filter.paymentId() != null
+                && buffer.getLong(offset + PaymentAuditRecord.PAYMENT_ID_OFFSET) != filter.paymentId()) {
+            return false;
+        }
+        if (filter.event() != null
+                && buffer.get(offset + PaymentAuditRecord.EVENT_OFFSET) != filter.event().getCode()) {
+            return false;
+        }
+
+        long timestamp = buffer.getLong(offset + PaymentAuditRecord.TIMESTAMP_OFFSET);
+        if (filter.fromMillis() != null && timestamp < filter.fromMillis()) {
+            return false;
+        }
+        return filter.toMillis() == null || timestamp < filter.toMillis();
+    }
+}
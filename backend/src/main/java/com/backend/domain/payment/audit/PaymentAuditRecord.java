@@ -0,0 +1,120 @@
+package com.backend.domain.payment.audit;
+
+import com.backend.domain.payment.entity.PaymentStatus;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+
+/**
+ * 결제 감사 저널의 고정 길이(64바이트, little-endian) 레코드
+ *
+ * <pre>
+ *  0  int   magic
+ *  4  byte  event, byte fromStatus, byte toStatus, byte (예약)
+ *  8  long  sequence
+ * 16  long  timestampMillis
+ * 24  long  paymentId
+ * 32  long  orderId
+ * 40  long  userId
+ * 48  int   amount
+ * 52  long  (예약)
+ * 60  int   CRC32C ([0, 60) 구간)
+ * </pre>
+ * 세그먼트는 0으로 미리 채워져 있으므로 magic 이 없는 위치가 기록의 끝입니다.
+ */
+public record PaymentAuditRecord(
+        long sequence,
+        long timestampMillis,
+        PaymentAuditEvent event,
+        PaymentStatus fromStatus,
+        PaymentStatus toStatus,
+        long paymentId,
+        long orderId,
+        long userId,
+        int amount
+) {
+    public static final int SIZE = 64;
+    static final int MAGIC = 0x314A4150; // "PAJ1"
+
+    static final int EVENT_OFFSET = 4;
+    static final int SEQUENCE_OFFSET = 8;
+    static final int TIMESTAMP_OFFSET = 16;
+    static final int PAYMENT_ID_OFFSET = 24;
+    private static final int FROM_STATUS_OFFSET = 5;
+    private static final int TO_STATUS_OFFSET = 6;
+    private static final int ORDER_ID_OFFSET = 32;
+    private static final int USER_ID_OFFSET = 40;
+    private static final int AMOUNT_OFFSET = 48;
+    private static final int CRC_OFFSET = 60;
+
+    // 객체 생성 없이 버퍼에 바로 기록 (버퍼는 little-endian 이어야 함)
+    static void write(ByteBuffer buffer, int offset, Checksum checksum,
+                      long sequence, long timestampMillis, PaymentAuditEvent event,
+                      PaymentStatus fromStatus, PaymentStatus toStatus,
+                      long paymentId, long orderId, long userId, int amount) {
+        buffer.putInt(offset, MAGIC);
+        buffer.put(offset + EVENT_OFFSET, event.getCode());
+        buffer.put(offset + FROM_STATUS_OFFSET, statusCode(fromStatus));
+        buffer.put(offset + TO_STATUS_OFFSET, statusCode(toStatus));
+        buffer.putLong(offset + SEQUENCE_OFFSET, sequence);
+        buffer.putLong(offset + TIMESTAMP_OFFSET, timestampMillis);
+        buffer.putLong(offset + PAYMENT_ID_OFFSET, paymentId);
+        buffer.putLong(offset + ORDER_ID_OFFSET, orderId);
+        buffer.putLong(offset + USER_ID_OFFSET, userId);
+        buffer.putInt(offset + AMOUNT_OFFSET, amount);
+        buffer.putInt(offset + CRC_OFFSET, checksum(buffer, offset, checksum));
+    }
+
+    // 레코드가 끝까지 온전하게 기록되었는지 (magic + CRC 확인)
+    static boolean isValid(ByteBuffer buffer, int offset, Checksum checksum) {
+        return buffer.getInt(offset) == MAGIC
+                && buffer.getInt(offset + CRC_OFFSET) == checksum(buffer, offset, checksum);
+    }
+
+    static boolean hasMagic(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset) == MAGIC;
+    }
+
+    static PaymentAuditRecord read(ByteBuffer buffer, int offset) {
+        return new PaymentAuditRecord(
+                buffer.getLong(offset + SEQUENCE_OFFSET),
+                buffer.getLong(offset + TIMESTAMP_OFFSET),
+                PaymentAuditEvent.fromCode(buffer.get(offset + EVENT_OFFSET)),
+                status(buffer.get(offset + FROM_STATUS_OFFSET)),
+                status(buffer.get(offset + TO_STATUS_OFFSET)),
+                buffer.getLong(offset + PAYMENT_ID_OFFSET),
+                buffer.getLong(offset + ORDER_ID_OFFSET),
+                buffer.getLong(offset + USER_ID_OFFSET),
+                buffer.getInt(offset + AMOUNT_OFFSET)
+        );
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, Checksum checksum) {
+        checksum.reset();
+        checksum.update(buffer.slice(offset, CRC_OFFSET));
+        return (int) checksum.getValue();
+    }
+
+    // PaymentStatus 순서가 바뀌어도 파일 해석이 달라지지 않도록 고정 코드 사용 (0 = 없음)
+    private static byte statusCode(PaymentStatus status) {
+        if (status == null) {
+            return 0;
+        }
+        return switch (status) {
+            case PENDING -> 1;
+            case COMPLETED -> 2;
+            case FAILED -> 3;
+            case CANCELED -> 4;
+        };
+    }
+
+    private static PaymentStatus status(byte code) {
+        return switch (code) {
+            case 1 -> PaymentStatus.PENDING;
+            case 2 -> PaymentStatus.COMPLETED;
+            case 3 -> PaymentStatus.FAILED;
+            case 4 -> PaymentStatus.CANCELED;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.backend.domain.payment.dto;
+
+import com.backend.domain.payment.entity.PaymentStatus;
+
+/*
+ * 대사용 결제 조회 결과 (엔티티를 영속성 컨텍스트에 올리지 않기 위한 프로젝션)
+ */
+public record PaymentSettlementView(
+        Long paymentId,
+        int paymentAmount,
+        PaymentStatus paymentStatus
+) {
+}
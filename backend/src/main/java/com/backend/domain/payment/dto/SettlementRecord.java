@@ -0,0 +1,11 @@
+package com.backend.domain.payment.dto;
+
+/*
+ * 정산 파일 한 줄 (paymentId,amount,status)
+ */
+public record SettlementRecord(
+        long paymentId,
+        int amount,
+        String status
+) {
+}
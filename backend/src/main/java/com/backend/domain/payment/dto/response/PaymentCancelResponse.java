@@ -3,12 +3,13 @@ package com.backend.domain.payment.dto.response;
 import com.backend.domain.payment.entity.Payment;
 import com.backend.domain.payment.entity.PaymentMethod;
 import com.backend.domain.payment.entity.PaymentStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
 
 import java.time.LocalDateTime;
 
 public record PaymentCancelResponse (
-        Long paymentId,
-        Long orderId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long paymentId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long orderId,
         int paymentAmount,
         PaymentMethod paymentMethod,
         PaymentStatus paymentStatus,
@@ -3,6 +3,7 @@ package com.backend.domain.payment.dto.response;
 import com.backend.domain.payment.entity.Payment;
 import com.backend.domain.payment.entity.PaymentMethod;
 import com.backend.domain.payment.entity.PaymentStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
@@ -12,8 +13,8 @@ import java.time.LocalDateTime;
  */
 @Builder
 public record PaymentCreateResponse(
-        Long paymentId,
-        Long orderId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long paymentId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long orderId,
         int paymentAmount,
         PaymentMethod paymentMethod,
         PaymentStatus paymentStatus,
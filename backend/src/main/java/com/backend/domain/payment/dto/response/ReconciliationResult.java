@@ -0,0 +1,16 @@
+package com.backend.domain.payment.dto.response;
+
+import java.time.LocalDate;
+
+/*
+ * 정산 대사 결과 요약
+ */
+public record ReconciliationResult(
+        LocalDate settlementDate,
+        long totalLines,
+        long matchedCount,
+        long discrepancyCount,
+        long malformedLines,
+        long elapsedMillis
+) {
+}
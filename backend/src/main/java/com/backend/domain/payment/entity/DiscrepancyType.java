@@ -0,0 +1,20 @@
+package com.backend.domain.payment.entity;
+
+/**
+ * 정산 대사 불일치 유형
+ */
+public enum DiscrepancyType {
+    MISSING_PAYMENT("정산 내역에 있으나 결제 내역 없음"),
+    AMOUNT_MISMATCH("금액 불일치"),
+    STATUS_MISMATCH("상태 불일치");
+
+    private final String description;
+
+    DiscrepancyType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
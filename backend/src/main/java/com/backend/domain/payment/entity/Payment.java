@@ -3,10 +3,13 @@ package com.backend.domain.payment.entity;
 import com.backend.domain.order.entity.Orders;
 import com.backend.global.exception.BusinessException;
 import com.backend.global.jpa.entity.BaseEntity;
+import com.backend.global.jpa.id.SnowflakeId;
 import com.backend.global.response.ErrorCode;
 import jakarta.persistence.*;
 import lombok.*;
 
+// 결제 조회 - 응답에 쓰는 주문은 ID 뿐이라 FK(order_id) 로 충분하므로 연관을 불러오지 않음
+@NamedEntityGraph(name = Payment.INQUIRY_GRAPH)
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -21,8 +24,10 @@ import lombok.*;
         }
 )
 public class Payment extends BaseEntity {
+
+    public static final String INQUIRY_GRAPH = "Payment.inquiry";
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     // 결제 테이블 키
     private Long paymentId;
 
@@ -0,0 +1,66 @@
+package com.backend.domain.payment.entity;
+
+import com.backend.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 결제 처리기 정산 파일과 결제 내역의 불일치 기록
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "payment_discrepancy",
+        indexes = {
+                @Index(name = "idx_discrepancy_settlement_date", columnList = "settlementDate")
+        }
+)
+public class PaymentDiscrepancy extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_discrepancy_seq")
+    @SequenceGenerator(name = "payment_discrepancy_seq", sequenceName = "payment_discrepancy_seq", allocationSize = 50)
+    private Long discrepancyId;
+
+    // 정산 기준일
+    @Column(nullable = false)
+    private LocalDate settlementDate;
+
+    // 정산 파일상의 결제 ID
+    @Column(nullable = false)
+    private Long paymentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private DiscrepancyType discrepancyType;
+
+    private int settlementAmount;
+
+    // 결제 내역이 없으면 null
+    private Integer paymentAmount;
+
+    @Column(length = 20)
+    private String settlementStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private PaymentStatus paymentStatus;
+
+    @Builder
+    public PaymentDiscrepancy(LocalDate settlementDate, Long paymentId, DiscrepancyType discrepancyType,
+                              int settlementAmount, Integer paymentAmount,
+                              String settlementStatus, PaymentStatus paymentStatus) {
+        this.settlementDate = settlementDate;
+        this.paymentId = paymentId;
+        this.discrepancyType = discrepancyType;
+        this.settlementAmount = settlementAmount;
+        this.paymentAmount = paymentAmount;
+        this.settlementStatus = settlementStatus;
+        this.paymentStatus = paymentStatus;
+    }
+}
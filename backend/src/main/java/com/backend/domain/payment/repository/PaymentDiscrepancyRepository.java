@@ -0,0 +1,19 @@
+package com.backend.domain.payment.repository;
+
+import com.backend.domain.payment.entity.PaymentDiscrepancy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PaymentDiscrepancyRepository extends JpaRepository<PaymentDiscrepancy, Long> {
+    List<PaymentDiscrepancy> findBySettlementDate(LocalDate settlementDate);
+
+    // 같은 정산일을 다시 대사할 때 이전 결과 제거
+    @Modifying
+    @Query("DELETE FROM PaymentDiscrepancy d WHERE d.settlementDate = :settlementDate")
+    int deleteBySettlementDate(@Param("settlementDate") LocalDate settlementDate);
+}
@@ -1,13 +1,34 @@
 package com.backend.domain.payment.repository;
 
-import com.backend.domain.order.entity.Orders;
+import com.backend.domain.payment.dto.PaymentSettlementView;
 import com.backend.domain.payment.entity.Payment;
+import com.backend.domain.payment.entity.PaymentStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
-    boolean existsByOrders(Orders orders);
-
+    @EntityGraph(Payment.INQUIRY_GRAPH)
     Optional<Payment> findByPaymentIdAndOrders_User_UserId(Long paymentId, Long userId);
+
+    @EntityGraph(Payment.INQUIRY_GRAPH)
+    Optional<Payment> findInquiryByPaymentId(Long paymentId);
+
+    // 일정 시간 이상 PENDING 에 머문 결제 조회 (복구 스케줄러용)
+    List<Payment> findTop100ByPaymentStatusAndCreateDateBeforeOrderByPaymentIdAsc(PaymentStatus paymentStatus,
+                                                                                 LocalDateTime createDate);
+
+    // 정산 대사용 - paymentId IN 배치 조회 (프로젝션)
+    @Query("""
+        SELECT new com.backend.domain.payment.dto.PaymentSettlementView(p.paymentId, p.paymentAmount, p.paymentStatus)
+          FROM Payment p
+         WHERE p.paymentId IN :paymentIds
+    """)
+    List<PaymentSettlementView> findSettlementViewsByPaymentIdIn(@Param("paymentIds") Collection<Long> paymentIds);
 }
@@ -0,0 +1,56 @@
+package com.backend.domain.payment.service;
+
+import com.backend.domain.order.entity.Orders;
+import com.backend.domain.payment.audit.PaymentAuditEvent;
+import com.backend.domain.payment.audit.PaymentAuditJournal;
+import com.backend.domain.payment.entity.Payment;
+import com.backend.domain.payment.entity.PaymentStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 결제 상태 전이를 감사 저널에 기록
+ * - 트랜잭션 안에서 호출되면 커밋된 뒤에만 기록 (롤백된 전이는 남기지 않음)
+ * - 저널 기록 실패는 결제 결과에 영향을 주지 않고 로그만 남김
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentAuditRecorder {
+
+    private final PaymentAuditJournal paymentAuditJournal;
+
+    // 상태 전이 직후 호출 (삭제/해제는 전이 후 상태 없음)
+    public void record(PaymentAuditEvent event, Payment payment, PaymentStatus fromStatus) {
+        PaymentStatus toStatus = event == PaymentAuditEvent.DELETED || event == PaymentAuditEvent.RELEASED
+                ? null
+                : payment.getPaymentStatus();
+        long paymentId = payment.getPaymentId();
+        Orders orders = payment.getOrders();
+        long orderId = orders == null ? 0 : orders.getOrderId();
+        long userId = orders == null || orders.getUser() == null ? 0 : orders.getUser().getUserId();
+        int amount = payment.getPaymentAmount();
+
+        Runnable append = () -> {
+            try {
+                paymentAuditJournal.append(event, fromStatus, toStatus, paymentId, orderId, userId, amount);
+            } catch (RuntimeException e) {
+                log.error("결제 감사 기록 실패: event={}, paymentId={}", event, paymentId, e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append.run();
+                }
+            });
+        } else {
+            append.run();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.backend.domain.payment.service;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 결제 처리기용 서킷 브레이커 (호출 횟수 기반 슬라이딩 윈도우)
+ * - CLOSED : 최근 slidingWindowSize 건 중 실패율이 임계치 이상이면 OPEN
+ * - OPEN : waitDurationInOpenState 동안 모든 호출 거절, 이후 HALF_OPEN
+ * - HALF_OPEN : permittedCallsInHalfOpenState 건만 허용, 모두 성공하면 CLOSED / 하나라도 실패하면 OPEN
+ */
+public class PaymentCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    @FunctionalInterface
+    public interface TransitionListener {
+        void onTransition(State from, State to);
+    }
+
+    private final int slidingWindowSize;
+    private final int minimumNumberOfCalls;
+    private final float failureRateThreshold;
+    private final long waitDurationInOpenStateNanos;
+    private final int permittedCallsInHalfOpenState;
+    private final LongSupplier nanoClock;
+    private final TransitionListener listener;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 링 버퍼: true = 실패
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public PaymentCircuitBreaker(int slidingWindowSize,
+                                 int minimumNumberOfCalls,
+                                 float failureRateThreshold,
+                                 long waitDurationInOpenStateMillis,
+                                 int permittedCallsInHalfOpenState,
+                                 LongSupplier nanoClock,
+                                 TransitionListener listener) {
+        if (slidingWindowSize <= 0 || permittedCallsInHalfOpenState <= 0) {
+            throw new IllegalArgumentException("슬라이딩 윈도우 크기와 HALF_OPEN 허용 호출 수는 1 이상이어야 합니다.");
+        }
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumNumberOfCalls = Math.min(minimumNumberOfCalls, slidingWindowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.waitDurationInOpenStateNanos = waitDurationInOpenStateMillis * 1_000_000L;
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+        this.nanoClock = nanoClock;
+        this.listener = listener;
+        this.window = new boolean[slidingWindowSize];
+    }
+
+    // 호출 가능 여부 확인 (HALF_OPEN 에서는 허용 건수만큼만 통과)
+    public boolean tryAcquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (nanoClock.getAsLong() - openedAt < waitDurationInOpenStateNanos) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermits >= permittedCallsInHalfOpenState) {
+                    return false;
+                }
+                halfOpenPermits++;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 허가를 받았지만 실제로 호출하지 못한 경우 반납 (ex. 벌크헤드 거절)
+    public void releasePermission() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+                halfOpenPermits--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        record(false);
+    }
+
+    public void onError() {
+        record(true);
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failure) {
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED -> {
+                    push(failure);
+                    if (windowCount >= minimumNumberOfCalls && failureRate() >= failureRateThreshold) {
+                        transitionTo(State.OPEN);
+                    }
+                }
+                case HALF_OPEN -> {
+                    if (failure) {
+                        transitionTo(State.OPEN);
+                    } else if (++halfOpenSuccesses >= permittedCallsInHalfOpenState) {
+                        transitionTo(State.CLOSED);
+                    }
+                }
+                // OPEN 전환 이전에 허가된 호출의 늦은 결과는 무시
+                case OPEN -> { }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void push(boolean failure) {
+        if (windowCount == slidingWindowSize) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % slidingWindowSize;
+    }
+
+    private float failureRate() {
+        return windowFailures * 100f / windowCount;
+    }
+
+    private void transitionTo(State newState) {
+        State previous = state;
+        state = newState;
+
+        switch (newState) {
+            case OPEN -> openedAt = nanoClock.getAsLong();
+            case HALF_OPEN -> {
+                halfOpenPermits = 0;
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                windowIndex = 0;
+                windowCount = 0;
+                windowFailures = 0;
+            }
+        }
+
+        listener.onTransition(previous, newState);
+    }
+}
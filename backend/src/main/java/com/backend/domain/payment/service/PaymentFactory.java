@@ -7,6 +7,11 @@ import org.springframework.stereotype.Component;
 
 @Component
 public class PaymentFactory {
+    // 결제 처리기 호출 전 예약용 PENDING 결제 객체 생성
+    public Payment createPendingPayment(PaymentCreateRequest request, Orders orders) {
+        return request.createPayment(orders);
+    }
+
     // 성공/실패 시 각각의 결과를 담은 객체 생성
     public Payment createCompletedPayment(PaymentCreateRequest request, Orders orders) {
         Payment payment = request.createPayment(orders);
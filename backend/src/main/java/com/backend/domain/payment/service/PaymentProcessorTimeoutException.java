@@ -0,0 +1,16 @@
+package com.backend.domain.payment.service;
+
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+
+/**
+ * 결제 처리기 응답이 타임아웃을 넘은 경우 - 결제 결과를 알 수 없음 (실패가 아님)
+ * - 호출을 취소해도 처리기 쪽 승인은 이미 일어났을 수 있으므로 재시도/복구 대상이 아님 (이중 결제 방지)
+ * - 결제는 PENDING 으로 남겨 정산 대사에서 확인
+ */
+public class PaymentProcessorTimeoutException extends BusinessException {
+
+    public PaymentProcessorTimeoutException() {
+        super(ErrorCode.PAYMENT_PROCESSOR_TIMEOUT);
+    }
+}
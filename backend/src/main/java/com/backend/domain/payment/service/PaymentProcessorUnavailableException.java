@@ -0,0 +1,15 @@
+package com.backend.domain.payment.service;
+
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+
+/**
+ * 결제 처리기를 호출조차 하지 못한 경우 (서킷 OPEN, 벌크헤드 포화)
+ * - 재시도/복구 대상이 아니며 호출자에게 바로 전달됨
+ */
+public class PaymentProcessorUnavailableException extends BusinessException {
+
+    public PaymentProcessorUnavailableException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,178 @@
+package com.backend.domain.payment.service;
+
+import com.backend.domain.payment.dto.PaymentSettlementView;
+import com.backend.domain.payment.dto.SettlementRecord;
+import com.backend.domain.payment.dto.response.ReconciliationResult;
+import com.backend.domain.payment.entity.DiscrepancyType;
+import com.backend.domain.payment.entity.PaymentDiscrepancy;
+import com.backend.domain.payment.repository.PaymentDiscrepancyRepository;
+import com.backend.domain.payment.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentReconciliationService {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentDiscrepancyRepository paymentDiscrepancyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${custom.payment.reconciliation.batchSize}")
+    private int batchSize;
+
+    /**
+     * 결제 처리기 정산 파일 대사
+     * - 파일 형식: paymentId,amount,status (한 줄에 한 건, 첫 줄 헤더는 선택)
+     * - 파일을 한 줄씩 스트리밍하며 batchSize 단위로 paymentId IN 조회 → 파일 크기와 무관하게 메모리 사용량 일정
+     * - 배치마다 짧은 트랜잭션으로 조회/불일치 저장 (영속성 컨텍스트도 배치마다 비워짐)
+     * - 같은 정산일을 다시 대사하면 이전 불일치 기록을 지우고 새로 기록
+     * - 정산 파일에 없는 결제는 찾지 않음 (결제 전체를 대조해야 하므로 별도 작업 대상)
+     */
+    public ReconciliationResult reconcile(Path settlementFile, LocalDate settlementDate) {
+        long startedAt = System.nanoTime();
+
+        transactionTemplate.executeWithoutResult(status ->
+                paymentDiscrepancyRepository.deleteBySettlementDate(settlementDate));
+
+        long totalLines = 0;
+        long malformedLines = 0;
+        long matchedCount = 0;
+        long discrepancyCount = 0;
+        List<SettlementRecord> batch = new ArrayList<>(batchSize);
+
+        try (FileChannel channel = FileChannel.open(settlementFile, StandardOpenOption.READ);
+             BufferedReader reader = new BufferedReader(
+                     Channels.newReader(channel, StandardCharsets.UTF_8), READ_BUFFER_SIZE)) {
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || (totalLines == 0 && line.startsWith("paymentId"))) {
+                    continue;
+                }
+                totalLines++;
+
+                SettlementRecord record = parse(line);
+                if (record == null) {
+                    malformedLines++;
+                    log.warn("정산 파일 형식 오류: line={}", totalLines);
+                    continue;
+                }
+
+                batch.add(record);
+                if (batch.size() == batchSize) {
+                    int discrepancies = reconcileBatch(batch, settlementDate);
+                    discrepancyCount += discrepancies;
+                    matchedCount += batch.size() - discrepancies;
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                int discrepancies = reconcileBatch(batch, settlementDate);
+                discrepancyCount += discrepancies;
+                matchedCount += batch.size() - discrepancies;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("정산 파일을 읽을 수 없습니다: " + settlementFile, e);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("정산 대사 완료: date={}, lines={}, matched={}, discrepancies={}, malformed={}, elapsed={}ms",
+                settlementDate, totalLines, matchedCount, discrepancyCount, malformedLines, elapsedMillis);
+
+        return new ReconciliationResult(settlementDate, totalLines, matchedCount, discrepancyCount,
+                malformedLines, elapsedMillis);
+    }
+
+    private int reconcileBatch(List<SettlementRecord> batch, LocalDate settlementDate) {
+        Integer discrepancies = transactionTemplate.execute(status -> {
+            List<Long> paymentIds = new ArrayList<>(batch.size());
+            for (SettlementRecord record : batch) {
+                paymentIds.add(record.paymentId());
+            }
+
+            Map<Long, PaymentSettlementView> payments = new HashMap<>(batch.size() * 2);
+            for (PaymentSettlementView view : paymentRepository.findSettlementViewsByPaymentIdIn(paymentIds)) {
+                payments.put(view.paymentId(), view);
+            }
+
+            List<PaymentDiscrepancy> found = new ArrayList<>();
+            for (SettlementRecord record : batch) {
+                PaymentDiscrepancy discrepancy = compare(record, payments.get(record.paymentId()), settlementDate);
+                if (discrepancy != null) {
+                    found.add(discrepancy);
+                }
+            }
+
+            paymentDiscrepancyRepository.saveAll(found);
+            return found.size();
+        });
+        return discrepancies == null ? 0 : discrepancies;
+    }
+
+    private PaymentDiscrepancy compare(SettlementRecord record, PaymentSettlementView payment,
+                                       LocalDate settlementDate) {
+        DiscrepancyType type;
+        if (payment == null) {
+            type = DiscrepancyType.MISSING_PAYMENT;
+        } else if (payment.paymentAmount() != record.amount()) {
+            type = DiscrepancyType.AMOUNT_MISMATCH;
+        } else if (!payment.paymentStatus().name().equalsIgnoreCase(record.status())) {
+            type = DiscrepancyType.STATUS_MISMATCH;
+        } else {
+            return null;
+        }
+
+        return PaymentDiscrepancy.builder()
+                .settlementDate(settlementDate)
+                .paymentId(record.paymentId())
+                .discrepancyType(type)
+                .settlementAmount(record.amount())
+                .paymentAmount(payment == null ? null : payment.paymentAmount())
+                .settlementStatus(record.status())
+                .paymentStatus(payment == null ? null : payment.paymentStatus())
+                .build();
+    }
+
+    // split/정규식 없이 쉼표 위치로 파싱 (형식이 맞지 않으면 null)
+    static SettlementRecord parse(String line) {
+        int first = line.indexOf(',');
+        int second = first < 0 ? -1 : line.indexOf(',', first + 1);
+        if (second < 0) {
+            return null;
+        }
+
+        try {
+            long paymentId = Long.parseLong(line, 0, first, 10);
+            int amount = Integer.parseInt(line, first + 1, second, 10);
+            String status = line.substring(second + 1).trim();
+            if (status.isEmpty()) {
+                return null;
+            }
+            return new SettlementRecord(paymentId, amount, status);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
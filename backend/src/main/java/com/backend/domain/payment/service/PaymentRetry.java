@@ -1,19 +1,15 @@
 package com.backend.domain.payment.service;
 
-import com.backend.domain.order.entity.OrderStatus;
-import com.backend.domain.order.entity.Orders;
-import com.backend.domain.order.repository.OrderRepository;
 import com.backend.domain.payment.dto.request.PaymentCreateRequest;
-import com.backend.domain.payment.dto.response.PaymentCreateResponse;
-import com.backend.domain.payment.entity.Payment;
-import com.backend.domain.payment.repository.PaymentRepository;
 import com.backend.global.exception.BusinessException;
 import com.backend.global.response.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.support.RetrySynchronizationManager;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -21,51 +17,51 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class PaymentRetry {
     private final PaymentProcessor paymentProcessor;
-    private final PaymentFactory paymentFactory;
-    private final PaymentRepository paymentRepository;
-    private final OrderRepository orderRepository;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 재시도 로직
      * 결제 처리기 (PaymentProcessor) 호출 실패 시 최대 2회 재시도
      * BusinessException, RuntimeException 발생 시 재시도
      * IllegalArgumentException은 재시도하지 않음 (잘못된 파라미터는 재시도해도 의미 없음)
+     * PaymentProcessorUnavailableException(서킷 OPEN, 벌크헤드 포화)은 재시도/복구 없이 즉시 전달
+     * PaymentProcessorTimeoutException(응답 타임아웃)도 재시도/복구 없이 전달 - 첫 호출이 이미 승인됐을 수 있어 재시도하면 이중 결제
+     * 트랜잭션 밖에서 호출되므로 재시도 대기 중에도 DB 커넥션을 점유하지 않음
+     * 지표: payment.retries (재시도 횟수), payment.results{result=succeeded|failed} (최종 결과)
      * */
     @Retryable(
             retryFor = {BusinessException.class, RuntimeException.class},
-            noRetryFor = {IllegalArgumentException.class},
+            noRetryFor = {IllegalArgumentException.class, PaymentProcessorUnavailableException.class,
+                    PaymentProcessorTimeoutException.class},
+            notRecoverable = {PaymentProcessorUnavailableException.class, PaymentProcessorTimeoutException.class},
             maxAttempts = 2,
             backoff = @Backoff(delay = 1000)
     )
-    public PaymentCreateResponse processPaymentWithRetry(PaymentCreateRequest request, Orders orders) {
+    public boolean processPaymentWithRetry(PaymentCreateRequest request) {
+        if (RetrySynchronizationManager.getContext() != null
+                && RetrySynchronizationManager.getContext().getRetryCount() > 0) {
+            meterRegistry.counter("payment.retries").increment();
+        }
+
         boolean paymentSuccess = paymentProcessor.process(request);
 
         if (!paymentSuccess) {
             throw new BusinessException(ErrorCode.PAYMENT_FAILED);
         }
 
-        Payment payment = paymentFactory.createCompletedPayment(request, orders);
-        Payment savePayment = paymentRepository.save(payment);
-
-        orders.updateOrderStatus(OrderStatus.PAID);
-        orderRepository.save(orders);
-
-        return new PaymentCreateResponse(savePayment);
+        meterRegistry.counter("payment.results", "result", "succeeded").increment();
+        return true;
     }
 
     /**
      * 모든 재시도 실패 시 실행되는 복구 메서드
      * - @Retryable 메서드의 모든 재시도가 실패했을 때 자동 호출
+     * - 실패 확정(결제 FAILED 저장)은 PaymentService 의 2단계에서 처리
      */
     @Recover
-    public PaymentCreateResponse recoverFromPaymentFailure(Exception ex,
-                                                           PaymentCreateRequest request,
-                                                           Orders orders) {
-        Payment failedPayment = paymentFactory.createFailedPayment(request, orders);
-        paymentRepository.save(failedPayment);
-
-        orderRepository.save(orders);
-
-        throw new BusinessException(ErrorCode.PAYMENT_FAILED);
+    public boolean recoverFromPaymentFailure(Exception ex, PaymentCreateRequest request) {
+        log.warn("결제 처리기 호출 최종 실패: orderId={}, cause={}", request.orderId(), ex.getMessage());
+        meterRegistry.counter("payment.results", "result", "failed").increment();
+        return false;
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,12 @@
 package com.backend.domain.payment.service;
 
 import com.backend.domain.order.entity.Orders;
-import com.backend.domain.order.repository.OrderRepository;
+import com.backend.domain.payment.audit.PaymentAuditEvent;
 import com.backend.domain.payment.dto.request.PaymentCreateRequest;
 import com.backend.domain.payment.dto.response.PaymentCancelResponse;
 import com.backend.domain.payment.dto.response.PaymentCreateResponse;
 import com.backend.domain.payment.dto.response.PaymentInquiryResponse;
 import com.backend.domain.payment.entity.Payment;
-import com.backend.domain.payment.entity.PaymentMethod;
 import com.backend.domain.payment.entity.PaymentStatus;
 import com.backend.domain.payment.repository.PaymentRepository;
 import com.backend.domain.user.user.dto.UserDto;
@@ -17,6 +16,7 @@ import jakarta.persistence.OptimisticLockException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,36 +25,46 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @Slf4j
 public class PaymentService {
-    private final OrderRepository orderRepository;
     private final PaymentRepository paymentRepository;
     private final PaymentRetry paymentRetry;
-
-    // 결제 요청
-    @Transactional
+    private final PaymentTransactionService paymentTransactionService;
+    private final PaymentAuditRecorder paymentAuditRecorder;
+
+    /**
+     * 결제 요청
+     * 1단계(PENDING 예약) → 결제 처리기 호출 → 2단계(완료/실패 확정) 순서로 진행
+     * 처리기 호출과 재시도는 트랜잭션 밖에서 수행되어 그동안 DB 커넥션을 반환해 둠
+     * 처리기 타임아웃은 결과를 알 수 없으므로 실패로 확정하지 않고 PENDING 으로 남김 (정산 대사에서 확인)
+     */
     public PaymentCreateResponse createPayment(PaymentCreateRequest request, UserDto currentUser) {
         try {
-            Orders orders = orderRepository.findByOrderIdAndUser_UserId(request.orderId(), currentUser.userId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_ORDER));
-
-            if (orders.getOrderAmount() != request.paymentAmount()) {
-                throw new BusinessException(ErrorCode.PAYMENT_AMOUNT_MISMATCH);
-            }
-
-            if (request.paymentMethod() == null || request.paymentMethod() != PaymentMethod.CARD) {
-                throw new BusinessException(ErrorCode.INVALID_PAYMENT_METHOD);
+            Long paymentId = paymentTransactionService.reserve(request, currentUser);
+
+            boolean paymentSuccess;
+            try {
+                paymentSuccess = paymentRetry.processPaymentWithRetry(request);
+            } catch (PaymentProcessorUnavailableException e) {
+                // 처리기를 호출하지 못했으므로 예약을 해제해 주문을 다시 결제할 수 있게 둠
+                paymentTransactionService.release(paymentId);
+                throw e;
+            } catch (PaymentProcessorTimeoutException e) {
+                log.warn("결제 처리기 응답 타임아웃 - 결과 확인 전까지 PENDING 유지: paymentId={}", paymentId);
+                throw e;
             }
 
-            if (paymentRepository.existsByOrders(orders)) {
-                throw new BusinessException(ErrorCode.PAYMENT_ALREADY_COMPLETED);
+            if (!paymentSuccess) {
+                paymentTransactionService.fail(paymentId);
+                throw new BusinessException(ErrorCode.PAYMENT_FAILED);
             }
 
-            return paymentRetry.processPaymentWithRetry(request, orders);
-        } catch (OptimisticLockException e) {
+            return paymentTransactionService.complete(paymentId);
+        } catch (OptimisticLockException | OptimisticLockingFailureException e) {
             throw new BusinessException(ErrorCode.CONCURRENT_PAYMENT_DETECTED);
         }
     }
 
     // 결제 단건 조회
+    @Transactional(readOnly = true)
     public PaymentInquiryResponse getPayment(Long paymentId, UserDto currentUser) {
         if (paymentId == null || paymentId <= 0) {
             throw new BusinessException(ErrorCode.NOT_FOUND_PAYMENT);
@@ -62,7 +72,7 @@ public class PaymentService {
 
         Payment payment;
         if (currentUser.level() == 0) { // 관리자는 전체 조회 허용
-            payment = paymentRepository.findById(paymentId)
+            payment = paymentRepository.findInquiryByPaymentId(paymentId)
                     .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PAYMENT));
         } else {
             payment = paymentRepository.findByPaymentIdAndOrders_User_UserId(paymentId, currentUser.userId())
@@ -91,6 +101,7 @@ public class PaymentService {
         }
 
         payment.cancel();
+        paymentAuditRecorder.record(PaymentAuditEvent.CANCELED, payment, PaymentStatus.COMPLETED);
 
         return new PaymentCancelResponse(payment);
     }
@@ -105,6 +116,7 @@ public class PaymentService {
         }
 
         payment.cancel();
+        paymentAuditRecorder.record(PaymentAuditEvent.CANCELED, payment, PaymentStatus.COMPLETED);
     }
 
     // 취소된 결제 내역 삭제 - controller
@@ -126,6 +138,7 @@ public class PaymentService {
         }
 
         paymentRepository.delete(payment);
+        paymentAuditRecorder.record(PaymentAuditEvent.DELETED, payment, PaymentStatus.CANCELED);
     }
 
     // 취소된 결제 내역 삭제 - orderService 연동
@@ -139,5 +152,6 @@ public class PaymentService {
 
         paymentRepository.delete(payment);
         order.removePayment();
+        paymentAuditRecorder.record(PaymentAuditEvent.DELETED, payment, PaymentStatus.CANCELED);
     }
 }
@@ -0,0 +1,133 @@
+package com.backend.domain.payment.service;
+
+import com.backend.domain.order.entity.OrderStatus;
+import com.backend.domain.order.entity.Orders;
+import com.backend.domain.order.repository.OrderRepository;
+import com.backend.domain.payment.audit.PaymentAuditEvent;
+import com.backend.domain.payment.dto.request.PaymentCreateRequest;
+import com.backend.domain.payment.dto.response.PaymentCreateResponse;
+import com.backend.domain.payment.entity.Payment;
+import com.backend.domain.payment.entity.PaymentMethod;
+import com.backend.domain.payment.entity.PaymentStatus;
+import com.backend.domain.payment.repository.PaymentRepository;
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+/**
+ * 결제의 DB 작업 단계만 짧은 트랜잭션으로 분리
+ * - 1단계 reserve : 주문 검증 후 PENDING 결제 행 예약
+ * - 2단계 complete / fail : 처리기 결과를 반영 (Payment, Orders 의 @Version 으로 낙관적 락)
+ * 결제 처리기 호출은 이 두 트랜잭션 사이, 트랜잭션 밖에서 수행됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentTransactionService {
+    private static final String UK_ORDER_PAYMENT = "uk_order_payment";
+
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentFactory paymentFactory;
+    private final PaymentAuditRecorder paymentAuditRecorder;
+
+    // 1단계: PENDING 결제 예약 후 paymentId 반환
+    @Transactional
+    public Long reserve(PaymentCreateRequest request, UserDto currentUser) {
+        Orders orders = orderRepository.findByOrderIdAndUser_UserId(request.orderId(), currentUser.userId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_ORDER));
+
+        if (orders.getOrderAmount() != request.paymentAmount()) {
+            throw new BusinessException(ErrorCode.PAYMENT_AMOUNT_MISMATCH);
+        }
+
+        if (request.paymentMethod() == null || request.paymentMethod() != PaymentMethod.CARD) {
+            throw new BusinessException(ErrorCode.INVALID_PAYMENT_METHOD);
+        }
+
+        // 사전 존재 확인 없이 바로 insert - 중복 결제는 uk_order_payment 제약 위반으로 판별
+        Payment payment;
+        try {
+            payment = paymentRepository.saveAndFlush(paymentFactory.createPendingPayment(request, orders));
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicatePayment(e)) {
+                throw new BusinessException(ErrorCode.PAYMENT_ALREADY_COMPLETED);
+            }
+            throw e;
+        }
+        orders.updatePayment(payment);
+
+        return payment.getPaymentId();
+    }
+
+    // 2단계: 결제 성공 확정 (결제 완료 + 주문 PAID)
+    @Transactional
+    public PaymentCreateResponse complete(Long paymentId) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PAYMENT));
+
+        payment.complete();
+
+        Orders orders = payment.getOrders();
+        orders.updateOrderStatus(OrderStatus.PAID);
+        orders.updatePayment(payment);
+
+        // 버전 충돌을 호출자에게 바로 전달하고 modifyDate 를 응답에 반영
+        paymentRepository.saveAndFlush(payment);
+        paymentAuditRecorder.record(PaymentAuditEvent.COMPLETED, payment, PaymentStatus.PENDING);
+
+        return new PaymentCreateResponse(payment);
+    }
+
+    // 2단계: 결제 실패 확정 (주문 상태는 CREATED 유지)
+    @Transactional
+    public void fail(Long paymentId) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PAYMENT));
+
+        payment.fail();
+        paymentRepository.saveAndFlush(payment);
+        paymentAuditRecorder.record(PaymentAuditEvent.FAILED, payment, PaymentStatus.PENDING);
+    }
+
+    /**
+     * 복구 스케줄러용 실패 확정 - 스케줄러가 조회한 시점의 버전과 다르면 그 사이 확정된 것이므로 건너뜀
+     * (버전 불일치는 낙관적 락 예외로 전달)
+     */
+    @Transactional
+    public void failStale(Long paymentId, Long expectedVersion) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PAYMENT));
+
+        if (!Objects.equals(payment.getVersion(), expectedVersion)) {
+            throw new ObjectOptimisticLockingFailureException(Payment.class, paymentId);
+        }
+
+        payment.fail();
+        paymentRepository.saveAndFlush(payment);
+        paymentAuditRecorder.record(PaymentAuditEvent.FAILED, payment, PaymentStatus.PENDING);
+    }
+
+    // 처리기를 호출하지 못한 예약 해제 (PENDING 결제 삭제)
+    @Transactional
+    public void release(Long paymentId) {
+        paymentRepository.findById(paymentId)
+                .filter(payment -> payment.getPaymentStatus() == PaymentStatus.PENDING)
+                .ifPresent(payment -> {
+                    payment.getOrders().removePayment();
+                    paymentRepository.delete(payment);
+                    paymentAuditRecorder.record(PaymentAuditEvent.RELEASED, payment, PaymentStatus.PENDING);
+                });
+    }
+
+    private boolean isDuplicatePayment(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains(UK_ORDER_PAYMENT);
+    }
+}
@@ -1,15 +1,19 @@
 package com.backend.domain.payment.service;
 
 import com.backend.domain.payment.dto.request.PaymentCreateRequest;
-import org.springframework.stereotype.Service;
 
-@Service
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * 기본 결제 처리기 - PaymentProcessorConfig 에서 ResilientPaymentProcessor 로 감싸 빈으로 등록
+ */
 public class RandomPaymentProcessor implements PaymentProcessor {
     @Override
     public boolean process(PaymentCreateRequest request) {
         /*
          * 결제 실패 시뮬레이션: 50% 성공률
+         * Math.random() 은 JVM 전체가 Random 하나를 공유해 동시 호출이 많으면 경합하므로 스레드별 난수 사용
          */
-        return Math.random() > 0.5;
+        return ThreadLocalRandom.current().nextDouble() > 0.5;
     }
 }
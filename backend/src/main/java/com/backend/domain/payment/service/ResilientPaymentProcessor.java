@@ -0,0 +1,137 @@
+package com.backend.domain.payment.service;
+
+import com.backend.domain.payment.dto.request.PaymentCreateRequest;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.*;
+
+/**
+ * PaymentProcessor 데코레이터
+ * - 서킷 브레이커 : 처리기 장애(예외, 타임아웃) 비율이 높으면 호출을 즉시 거절
+ * - 벌크헤드 : 세마포어로 처리기 동시 호출 수 제한
+ * - 타임아웃 : 호출마다 응답 대기 시간 제한 (넘으면 결과를 알 수 없으므로 PaymentProcessorTimeoutException)
+ * 처리기가 false(결제 거절)를 반환한 것은 정상 응답으로 보고 장애로 집계하지 않음
+ */
+@Slf4j
+public class ResilientPaymentProcessor implements PaymentProcessor, AutoCloseable {
+
+    private final PaymentProcessor delegate;
+    private final PaymentCircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final long bulkheadMaxWaitMillis;
+    private final long timeoutMillis;
+    private final ExecutorService executor;
+
+    private final Counter notPermittedCounter;
+    private final Counter bulkheadRejectedCounter;
+    private final Counter timeoutCounter;
+
+    public ResilientPaymentProcessor(PaymentProcessor delegate,
+                                     int slidingWindowSize,
+                                     int minimumNumberOfCalls,
+                                     float failureRateThreshold,
+                                     long waitDurationInOpenStateMillis,
+                                     int permittedCallsInHalfOpenState,
+                                     int maxConcurrentCalls,
+                                     long bulkheadMaxWaitMillis,
+                                     long timeoutMillis,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.circuitBreaker = new PaymentCircuitBreaker(
+                slidingWindowSize,
+                minimumNumberOfCalls,
+                failureRateThreshold,
+                waitDurationInOpenStateMillis,
+                permittedCallsInHalfOpenState,
+                System::nanoTime,
+                (from, to) -> {
+                    log.warn("결제 처리기 서킷 상태 변경: {} -> {}", from, to);
+                    meterRegistry.counter("payment.processor.circuit.transitions",
+                            "from", from.name(), "to", to.name()).increment();
+                }
+        );
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.bulkheadMaxWaitMillis = bulkheadMaxWaitMillis;
+        this.timeoutMillis = timeoutMillis;
+        // 타임아웃 후에도 끝나지 않는 호출이 다음 호출을 막지 않도록 호출마다 가상 스레드 사용
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("payment-processor-", 0).factory());
+
+        Gauge.builder("payment.processor.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .register(meterRegistry);
+        Gauge.builder("payment.processor.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .register(meterRegistry);
+        this.notPermittedCounter = meterRegistry.counter("payment.processor.calls.rejected", "reason", "circuit_open");
+        this.bulkheadRejectedCounter = meterRegistry.counter("payment.processor.calls.rejected", "reason", "bulkhead_full");
+        this.timeoutCounter = meterRegistry.counter("payment.processor.calls.timeout");
+    }
+
+    @Override
+    public boolean process(PaymentCreateRequest request) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            notPermittedCounter.increment();
+            throw new PaymentProcessorUnavailableException(ErrorCode.PAYMENT_PROCESSOR_UNAVAILABLE);
+        }
+
+        if (!acquireBulkhead()) {
+            circuitBreaker.releasePermission();
+            bulkheadRejectedCounter.increment();
+            throw new PaymentProcessorUnavailableException(ErrorCode.PAYMENT_PROCESSOR_BUSY);
+        }
+
+        Future<Boolean> future = null;
+        try {
+            future = executor.submit(() -> delegate.process(request));
+            boolean result = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onError();
+            timeoutCounter.increment();
+            throw new PaymentProcessorTimeoutException();
+        } catch (ExecutionException e) {
+            circuitBreaker.onError();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("결제 처리기 호출 실패", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (future != null) {
+                future.cancel(true);
+            }
+            circuitBreaker.releasePermission();
+            throw new BusinessException(ErrorCode.PAYMENT_FAILED);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public PaymentCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(bulkheadMaxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
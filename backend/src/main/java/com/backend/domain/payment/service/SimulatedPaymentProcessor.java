@@ -0,0 +1,134 @@
+package com.backend.domain.payment.service;
+
+import com.backend.domain.payment.dto.request.PaymentCreateRequest;
+import lombok.Builder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * 부하 테스트용 결제 처리기 시뮬레이터
+ * - 지연 분포 : FIXED(고정), NORMAL(정규분포), LONG_TAIL(파레토 분포, 드물게 매우 느린 응답)
+ * - 결과 : declineRate 확률로 거절(false), errorRate 확률로 처리기 오류(예외), hangRate 확률로 hangMillis 동안 응답 없음
+ * - 오류 버스트 : burstEveryCalls 건마다 burstLengthCalls 건 연속 오류 (호출 순번 기준)
+ * - seed 지정 시 각 호출의 결과가 호출 순번에만 의존하므로 동시 실행에서도 전체 결과 분포가 재현됨
+ */
+public class SimulatedPaymentProcessor implements PaymentProcessor {
+
+    public enum LatencyDistribution {
+        FIXED, NORMAL, LONG_TAIL
+    }
+
+    private final LatencyDistribution latencyDistribution;
+    private final long latencyMillis;
+    private final long latencyStdDevMillis;
+    private final double tailShape;
+    private final long maxLatencyMillis;
+    private final double declineRate;
+    private final double errorRate;
+    private final double hangRate;
+    private final long hangMillis;
+    private final long burstEveryCalls;
+    private final long burstLengthCalls;
+    private final Long seed;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Builder
+    public SimulatedPaymentProcessor(LatencyDistribution latencyDistribution,
+                                     long latencyMillis,
+                                     long latencyStdDevMillis,
+                                     double tailShape,
+                                     long maxLatencyMillis,
+                                     double declineRate,
+                                     double errorRate,
+                                     double hangRate,
+                                     long hangMillis,
+                                     long burstEveryCalls,
+                                     long burstLengthCalls,
+                                     Long seed) {
+        this.latencyDistribution = latencyDistribution != null ? latencyDistribution : LatencyDistribution.FIXED;
+        this.latencyMillis = latencyMillis;
+        this.latencyStdDevMillis = latencyStdDevMillis;
+        this.tailShape = tailShape > 0 ? tailShape : 1.5;
+        this.maxLatencyMillis = maxLatencyMillis > 0 ? maxLatencyMillis : Long.MAX_VALUE;
+        this.declineRate = declineRate;
+        this.errorRate = errorRate;
+        this.hangRate = hangRate;
+        this.hangMillis = hangMillis;
+        this.burstEveryCalls = burstEveryCalls;
+        this.burstLengthCalls = burstLengthCalls;
+        this.seed = seed;
+    }
+
+    @Override
+    public boolean process(PaymentCreateRequest request) {
+        long callIndex = sequence.getAndIncrement();
+        RandomGenerator random = randomFor(callIndex);
+
+        if (isInBurst(callIndex)) {
+            throw new IllegalStateException("결제 처리기 오류 버스트 (시뮬레이션)");
+        }
+
+        if (random.nextDouble() < hangRate) {
+            sleep(hangMillis);
+            return false;
+        }
+
+        sleep(nextLatency(random));
+
+        if (random.nextDouble() < errorRate) {
+            throw new IllegalStateException("결제 처리기 오류 (시뮬레이션)");
+        }
+
+        return random.nextDouble() >= declineRate;
+    }
+
+    RandomGenerator randomFor(long callIndex) {
+        if (seed == null) {
+            return ThreadLocalRandom.current();
+        }
+        // 호출 순번마다 독립된 난수열 → 스레드 스케줄링과 무관하게 재현 가능
+        // (seed 를 SplittableRandom 의 gamma 간격으로 늘리면 다음 호출이 한 칸 밀린 같은 난수열이 되므로 섞어서 사용)
+        return new SplittableRandom(mix64(seed ^ callIndex));
+    }
+
+    // murmur3 fmix64 계열 섞기 함수 (Stafford variant 13)
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private boolean isInBurst(long callIndex) {
+        if (burstEveryCalls <= 0 || burstLengthCalls <= 0) {
+            return false;
+        }
+        return callIndex % burstEveryCalls >= burstEveryCalls - burstLengthCalls;
+    }
+
+    long nextLatency(RandomGenerator random) {
+        double latency = switch (latencyDistribution) {
+            case FIXED -> latencyMillis;
+            case NORMAL -> latencyMillis + random.nextGaussian() * latencyStdDevMillis;
+            // 파레토 분포: 최소값 latencyMillis, tailShape 가 작을수록 꼬리가 두꺼움
+            case LONG_TAIL -> latencyMillis / Math.pow(1.0 - random.nextDouble(), 1.0 / tailShape);
+        };
+        return Math.min(Math.max(0L, Math.round(latency)), maxLatencyMillis);
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            // 타임아웃으로 호출이 취소된 경우
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("결제 처리기 호출이 중단되었습니다.", e);
+        }
+    }
+}
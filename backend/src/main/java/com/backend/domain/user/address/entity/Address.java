@@ -6,8 +6,13 @@ import com.backend.global.jpa.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+// 주문 생성마다 조회 - 수정 직후 잠깐 이전 값이 보여도 되는 데이터라 NONSTRICT_READ_WRITE
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "address")
 @Getter
 @NoArgsConstructor
 public class Address extends BaseEntity {
@@ -33,6 +33,7 @@ public class AddressService {
         return new AddressDto(address);
     }
 
+    @Transactional(readOnly = true)
     public List<AddressDto> getAllAddress(UserDto userDto) {
         Users user = userRepository.getUsersByUserId(userDto.userId()).get();
 
@@ -42,6 +43,7 @@ public class AddressService {
         return addressDtoList;
     }
 
+    @Transactional(readOnly = true)
     public AddressDto getAddressById(Long addressId, UserDto userDto) {
         Users user = userRepository.getUsersByUserId(userDto.userId()).get();
 
@@ -1,5 +1,6 @@
 package com.backend.domain.user.user.controller;
 
+import com.backend.domain.cart.guest.GuestCartService;
 import com.backend.domain.user.user.dto.UserDto;
 import com.backend.domain.user.user.entity.Users;
 import com.backend.domain.user.user.service.UserService;
@@ -31,6 +32,7 @@ import java.util.UUID;
 public class UserController {
 
     private final UserService userService;
+    private final GuestCartService guestCartService;
     private final HttpServletResponse  httpServletResponse;
     private final Rq rq;
 
@@ -81,6 +83,12 @@ public class UserController {
 
         UserDto userDto = userService.login(reqBody.email,reqBody.password);
         rq.setCookie("apiKey", userDto.apiKey());
+
+        // 로그인 전에 담은 비회원 장바구니를 회원 장바구니로 옮김
+        String guestCart = rq.getCookieValue(GuestCartService.COOKIE_NAME, "");
+        if (!guestCart.isBlank() && guestCartService.mergeOnLogin(userDto, guestCart)) {
+            rq.deleteCookie(GuestCartService.COOKIE_NAME);
+        }
         //TODO Cookie 수명 얼마로 잡을지 생각해보기.
         return ResponseEntity.ok(ApiResponse.success());
     }
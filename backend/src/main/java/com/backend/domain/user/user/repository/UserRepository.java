@@ -2,11 +2,15 @@ package com.backend.domain.user.user.repository;
 
 import com.backend.domain.user.user.entity.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<Users, Long> {
+    // 로그인 / API 키 인증 조회는 가입·키 변경 직후에도 보이도록 복제본이 아닌 primary 에서 읽음 (readOnly 아님)
+    @Transactional
     Optional<Users> getUsersByEmail(String email);
+    @Transactional
     Optional<Users> getUserByApiKey(String apikey);
     Optional<Users> getUsersByUserId(Long userId);
 }
@@ -0,0 +1,23 @@
+package com.backend.global.config;
+
+import com.backend.domain.payment.audit.PaymentAuditJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class PaymentAuditJournalConfig {
+
+    // 종료 시 남은 기록을 디스크에 반영하고 세그먼트를 닫음
+    @Bean(destroyMethod = "close")
+    public PaymentAuditJournal paymentAuditJournal(
+            @Value("${custom.payment.audit.dir}") String dir,
+            @Value("${custom.payment.audit.segmentSizeMb}") int segmentSizeMb,
+            @Value("${custom.payment.audit.fsyncIntervalMillis}") long fsyncIntervalMillis
+    ) throws IOException {
+        return new PaymentAuditJournal(Path.of(dir), segmentSizeMb * 1024 * 1024, fsyncIntervalMillis);
+    }
+}
@@ -0,0 +1,92 @@
+package com.backend.global.config;
+
+import com.backend.domain.payment.service.PaymentProcessor;
+import com.backend.domain.payment.service.RandomPaymentProcessor;
+import com.backend.domain.payment.service.ResilientPaymentProcessor;
+import com.backend.domain.payment.service.SimulatedPaymentProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PaymentProcessorConfig {
+
+    // 처리기 종류: random(기본) / simulated(부하 테스트용 지연·장애 시뮬레이터)
+    @Value("${custom.payment.processor.type}")
+    private String processorType;
+
+    @Value("${custom.payment.processor.simulation.latencyDistribution}")
+    private SimulatedPaymentProcessor.LatencyDistribution latencyDistribution;
+    @Value("${custom.payment.processor.simulation.latencyMillis}")
+    private long latencyMillis;
+    @Value("${custom.payment.processor.simulation.latencyStdDevMillis}")
+    private long latencyStdDevMillis;
+    @Value("${custom.payment.processor.simulation.tailShape}")
+    private double tailShape;
+    @Value("${custom.payment.processor.simulation.maxLatencyMillis}")
+    private long maxLatencyMillis;
+    @Value("${custom.payment.processor.simulation.declineRate}")
+    private double declineRate;
+    @Value("${custom.payment.processor.simulation.errorRate}")
+    private double errorRate;
+    @Value("${custom.payment.processor.simulation.hangRate}")
+    private double hangRate;
+    @Value("${custom.payment.processor.simulation.hangMillis}")
+    private long hangMillis;
+    @Value("${custom.payment.processor.simulation.burstEveryCalls}")
+    private long burstEveryCalls;
+    @Value("${custom.payment.processor.simulation.burstLengthCalls}")
+    private long burstLengthCalls;
+    // 비워두면 매 실행마다 다른 결과, 값을 지정하면 재현 가능한 결과
+    @Value("${custom.payment.processor.simulation.seed:#{null}}")
+    private Long seed;
+
+    // 실제 처리기를 서킷 브레이커/벌크헤드/타임아웃 데코레이터로 감싸 단일 PaymentProcessor 빈으로 등록
+    @Bean
+    public PaymentProcessor paymentProcessor(
+            @Value("${custom.payment.processor.circuitBreaker.slidingWindowSize}") int slidingWindowSize,
+            @Value("${custom.payment.processor.circuitBreaker.minimumNumberOfCalls}") int minimumNumberOfCalls,
+            @Value("${custom.payment.processor.circuitBreaker.failureRateThreshold}") float failureRateThreshold,
+            @Value("${custom.payment.processor.circuitBreaker.waitDurationInOpenStateMillis}") long waitDurationInOpenStateMillis,
+            @Value("${custom.payment.processor.circuitBreaker.permittedCallsInHalfOpenState}") int permittedCallsInHalfOpenState,
+            @Value("${custom.payment.processor.maxConcurrentCalls}") int maxConcurrentCalls,
+            @Value("${custom.payment.processor.bulkheadMaxWaitMillis}") long bulkheadMaxWaitMillis,
+            @Value("${custom.payment.processor.timeoutMillis}") long timeoutMillis,
+            MeterRegistry meterRegistry
+    ) {
+        return new ResilientPaymentProcessor(
+                delegateProcessor(),
+                slidingWindowSize,
+                minimumNumberOfCalls,
+                failureRateThreshold,
+                waitDurationInOpenStateMillis,
+                permittedCallsInHalfOpenState,
+                maxConcurrentCalls,
+                bulkheadMaxWaitMillis,
+                timeoutMillis,
+                meterRegistry
+        );
+    }
+
+    private PaymentProcessor delegateProcessor() {
+        return switch (processorType) {
+            case "random" -> new RandomPaymentProcessor();
+            case "simulated" -> SimulatedPaymentProcessor.builder()
+                    .latencyDistribution(latencyDistribution)
+                    .latencyMillis(latencyMillis)
+                    .latencyStdDevMillis(latencyStdDevMillis)
+                    .tailShape(tailShape)
+                    .maxLatencyMillis(maxLatencyMillis)
+                    .declineRate(declineRate)
+                    .errorRate(errorRate)
+                    .hangRate(hangRate)
+                    .hangMillis(hangMillis)
+                    .burstEveryCalls(burstEveryCalls)
+                    .burstLengthCalls(burstLengthCalls)
+                    .seed(seed)
+                    .build();
+            default -> throw new IllegalArgumentException("알 수 없는 결제 처리기 종류: " + processorType);
+        };
+    }
+}
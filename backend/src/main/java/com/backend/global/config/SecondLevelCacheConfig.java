@@ -0,0 +1,120 @@
+package com.backend.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Hibernate 2차 캐시 (JCache + 프로세스 내 Caffeine)
+ * - 영역별 최대 개수와 TTL 은 custom.cache.regions 로 설정
+ * - 쿼리 캐시 무효화용 timestamps 영역은 만료되면 오래된 쿼리 결과가 보일 수 있으므로 만료 없이 생성
+ * - 영역별 적중/미적중 수와 적중률을 hibernate.cache.* 지표로 등록 (Hibernate 통계를 켰을 때만)
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    private static final String CAFFEINE_PROVIDER = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+    private static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        // 컨텍스트마다 별도 CacheManager (기본 URI 는 JVM 안에서 공유되어 테스트 컨텍스트끼리 충돌)
+        CachingProvider provider = Caching.getCachingProvider(CAFFEINE_PROVIDER);
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("hibernate-l2:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        properties.regions().forEach((region, config) ->
+                cacheManager.createCache(region, regionConfiguration(config.maxEntries(), config.ttlSeconds())));
+
+        if (cacheManager.getCache(DEFAULT_QUERY_REGION) == null) {
+            cacheManager.createCache(DEFAULT_QUERY_REGION, regionConfiguration(1_000, 60));
+        }
+        if (cacheManager.getCache(TIMESTAMPS_REGION) == null) {
+            cacheManager.createCache(TIMESTAMPS_REGION, regionConfiguration(0, 0));
+        }
+
+        return cacheManager;
+    }
+
+    // 2차 캐시가 Spring 이 관리하는 CacheManager 를 사용하도록 전달
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    // 통계가 꺼져 있으면 값이 항상 0 이므로 지표를 등록하지 않음
+    @Bean
+    @ConditionalOnProperty(name = "spring.jpa.properties.hibernate.generate_statistics", havingValue = "true")
+    public SmartInitializingSingleton secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory,
+                                                              SecondLevelCacheProperties properties,
+                                                              MeterRegistry registry) {
+        return () -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+            for (String region : properties.regions().keySet()) {
+                FunctionCounter.builder("hibernate.cache.requests", statistics, regionStat(region, CacheRegionStatistics::getHitCount))
+                        .tag("region", region).tag("result", "hit")
+                        .register(registry);
+                FunctionCounter.builder("hibernate.cache.requests", statistics, regionStat(region, CacheRegionStatistics::getMissCount))
+                        .tag("region", region).tag("result", "miss")
+                        .register(registry);
+                Gauge.builder("hibernate.cache.hit.ratio", statistics, regionStat(region, SecondLevelCacheConfig::hitRatio))
+                        .tag("region", region)
+                        .register(registry);
+            }
+        };
+    }
+
+    // maxEntries / ttlSeconds 가 0 이면 제한 없음
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(long maxEntries, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maxEntries > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        }
+        if (ttlSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        }
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+
+    private static ToDoubleFunction<Statistics> regionStat(String region, ToDoubleFunction<CacheRegionStatistics> stat) {
+        return statistics -> {
+            try {
+                CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+                return regionStatistics == null ? 0 : stat.applyAsDouble(regionStatistics);
+            } catch (IllegalArgumentException e) {
+                // 쿼리 캐시 영역은 첫 조회 전까지 만들어지지 않음
+                return 0;
+            }
+        };
+    }
+
+    private static double hitRatio(CacheRegionStatistics statistics) {
+        long requests = statistics.getHitCount() + statistics.getMissCount();
+        return requests == 0 ? 0 : (double) statistics.getHitCount() / requests;
+    }
+}
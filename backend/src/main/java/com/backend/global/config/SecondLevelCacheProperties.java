@@ -0,0 +1,19 @@
+package com.backend.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 영역별 설정 (custom.cache.regions.{영역명}.maxEntries / ttlSeconds)
+ */
+@ConfigurationProperties(prefix = "custom.cache")
+public record SecondLevelCacheProperties(
+        Map<String, Region> regions
+) {
+    public record Region(
+            long maxEntries,
+            long ttlSeconds
+    ) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.backend.global.datasource;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 자기 쓰기 읽기(read-your-writes) 보장
+ * - primary 에서 INSERT/UPDATE/DELETE 가 실행된 트랜잭션이 커밋되면, 그 사용자(인증 주체)의 읽기를
+ *   readYourWritesMillis 동안 primary 로 보냄 (복제본에 아직 반영되지 않은 자기 변경이 사라져 보이지 않도록)
+ * - 쓰기 여부는 SQL 종류로 판단하므로 조회만 한 쓰기 트랜잭션은 기록하지 않음
+ * - 비로그인 요청은 구분할 수 없어 대상이 아님, 기록은 인스턴스 메모리에만 있음
+ */
+public class ReadYourWritesTracker implements QueryExecutionListener {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    // 트랜잭션마다 커밋 후 처리를 한 번만 등록하기 위한 리소스 키
+    private final Object writeResourceKey = new Object();
+    private final Map<String, Long> stickyUntilNanos = new ConcurrentHashMap<>();
+    private final long stickyNanos;
+    private final LongSupplier nanoClock;
+
+    public ReadYourWritesTracker(long readYourWritesMillis, LongSupplier nanoClock) {
+        this.stickyNanos = readYourWritesMillis * 1_000_000;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!execInfo.isSuccess() || !isWrite(queryInfoList)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markCurrentUser();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(writeResourceKey)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(writeResourceKey, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markCurrentUser();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(writeResourceKey);
+            }
+        });
+    }
+
+    // 현재 사용자의 최근 쓰기가 아직 복제본에 반영되지 않았을 수 있으면 true
+    public boolean requiresPrimary() {
+        String principal = currentPrincipal();
+        if (principal == null) {
+            return false;
+        }
+        Long until = stickyUntilNanos.get(principal);
+        return until != null && until - nanoClock.getAsLong() > 0;
+    }
+
+    void markCurrentUser() {
+        String principal = currentPrincipal();
+        if (principal == null) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        stickyUntilNanos.put(principal, now + stickyNanos);
+        if (stickyUntilNanos.size() > PURGE_THRESHOLD) {
+            stickyUntilNanos.values().removeIf(until -> until - now <= 0);
+        }
+    }
+
+    private static boolean isWrite(List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            QueryType type = QueryUtils.getQueryType(queryInfo.getQuery());
+            if (type == QueryType.INSERT || type == QueryType.UPDATE || type == QueryType.DELETE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
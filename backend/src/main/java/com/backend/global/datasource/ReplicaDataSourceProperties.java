@@ -0,0 +1,29 @@
+package com.backend.global.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 라우팅 설정 (custom.datasource.replica)
+ * - replicas : 복제본 접속 정보 (풀 설정은 spring.datasource.hikari 를 그대로 따름)
+ * - maxLagMillis : 이보다 뒤처진 복제본은 읽기 대상에서 제외
+ * - heartbeatIntervalMillis : primary 하트비트 기록 / 복제본 지연 측정 주기
+ * - readYourWritesMillis : 사용자가 쓰기를 커밋한 뒤 그 사용자의 읽기를 primary 로 보내는 시간
+ */
+@ConfigurationProperties("custom.datasource.replica")
+public record ReplicaDataSourceProperties(
+        boolean enabled,
+        List<Replica> replicas,
+        long maxLagMillis,
+        long heartbeatIntervalMillis,
+        long readYourWritesMillis
+) {
+    public record Replica(
+            String name,
+            String url,
+            String username,
+            String password
+    ) {
+    }
+}
@@ -0,0 +1,172 @@
+package com.backend.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 복제본 지연 측정 (하트비트 방식)
+ * - primary 의 replica_heartbeat 테이블에 주기적으로 현재 시각을 기록하고, 복제본에서 같은 행을 읽어
+ *   "마지막으로 기록한 하트비트 - 복제본에 도착한 하트비트" 를 지연으로 봄 (DB 종류와 무관)
+ * - 하트비트를 읽지 못한 복제본(접속 실패, 테이블 없음)은 지연을 알 수 없음으로 두고 읽기 대상에서 제외
+ * - 측정 결과는 healthyReplicas() 스냅샷으로 교체되어 라우팅 시에는 잠금 없이 읽음
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    static final String HEARTBEAT_TABLE = "replica_heartbeat";
+    static final long UNKNOWN_LAG = Long.MAX_VALUE;
+
+    private static final String CREATE_TABLE =
+            "create table if not exists " + HEARTBEAT_TABLE + " (id int primary key, beat_millis bigint not null)";
+    private static final String UPDATE_BEAT = "update " + HEARTBEAT_TABLE + " set beat_millis = ? where id = 1";
+    private static final String INSERT_BEAT = "insert into " + HEARTBEAT_TABLE + " (id, beat_millis) values (1, ?)";
+    private static final String SELECT_BEAT = "select beat_millis from " + HEARTBEAT_TABLE + " where id = 1";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final LongSupplier clock;
+
+    private volatile long lastBeatMillis = -1;
+    private volatile List<Replica> healthyReplicas = List.of();
+
+    public ReplicaLagMonitor(DataSource primary, List<Replica> replicas, long maxLagMillis, LongSupplier clock,
+                             MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLagMillis = maxLagMillis;
+        this.clock = clock;
+
+        for (Replica replica : this.replicas) {
+            Gauge.builder("datasource.replica.lag", replica,
+                            r -> r.lagMillis == UNKNOWN_LAG ? Double.NaN : r.lagMillis)
+                    .tag("replica", replica.name())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    // primary 에 하트비트 테이블 생성 (복제 설정이 되어 있으면 복제본에도 전파됨)
+    public void initialize() {
+        try (Connection connection = primary.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE);
+            commitIfNeeded(connection);
+        } catch (SQLException e) {
+            throw new IllegalStateException("하트비트 테이블을 만들 수 없습니다.", e);
+        }
+    }
+
+    public void writeHeartbeat() {
+        long beat = clock.getAsLong();
+        try (Connection connection = primary.getConnection()) {
+            try (PreparedStatement update = connection.prepareStatement(UPDATE_BEAT)) {
+                update.setLong(1, beat);
+                if (update.executeUpdate() == 0) {
+                    try (PreparedStatement insert = connection.prepareStatement(INSERT_BEAT)) {
+                        insert.setLong(1, beat);
+                        insert.executeUpdate();
+                    }
+                }
+            }
+            commitIfNeeded(connection);
+            lastBeatMillis = beat;
+        } catch (SQLException e) {
+            log.warn("하트비트 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    public void refreshLag() {
+        for (Replica replica : replicas) {
+            replica.lagMillis = measure(replica);
+        }
+        updateHealthy();
+    }
+
+    public List<Replica> healthyReplicas() {
+        return healthyReplicas;
+    }
+
+    // 가장 뒤처진 복제본의 지연 (하나라도 측정하지 못했으면 UNKNOWN_LAG) - 대량 쓰기 작업의 속도 조절용
+    public long worstLagMillis() {
+        long worst = 0;
+        for (Replica replica : replicas) {
+            worst = Math.max(worst, replica.lagMillis);
+        }
+        return worst;
+    }
+
+    // 연결에 실패한 복제본은 다음 측정 때까지 제외
+    void markDown(Replica replica) {
+        replica.lagMillis = UNKNOWN_LAG;
+        updateHealthy();
+    }
+
+    private long measure(Replica replica) {
+        long written = lastBeatMillis;
+        if (written < 0) {
+            return UNKNOWN_LAG;
+        }
+        try (Connection connection = replica.dataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(SELECT_BEAT)) {
+            long lag = resultSet.next() ? Math.max(0, written - resultSet.getLong(1)) : UNKNOWN_LAG;
+            commitIfNeeded(connection);
+            return lag;
+        } catch (SQLException e) {
+            log.warn("복제본 {} 지연 측정 실패: {}", replica.name(), e.getMessage());
+            return UNKNOWN_LAG;
+        }
+    }
+
+    private void updateHealthy() {
+        healthyReplicas = replicas.stream()
+                .filter(replica -> replica.lagMillis <= maxLagMillis)
+                .toList();
+    }
+
+    private static void commitIfNeeded(Connection connection) throws SQLException {
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource().close());
+    }
+
+    public static final class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile long lagMillis = UNKNOWN_LAG;
+
+        public Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public HikariDataSource dataSource() {
+            return dataSource;
+        }
+
+        public long lagMillis() {
+            return lagMillis;
+        }
+    }
+}
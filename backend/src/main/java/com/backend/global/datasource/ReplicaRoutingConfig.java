@@ -0,0 +1,93 @@
+package com.backend.global.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 라우팅 (custom.datasource.replica.enabled=true)
+ * - @Transactional(readOnly = true) 이면 커넥션이 읽기 전용으로 표시되고, LazyConnectionDataSourceProxy 가
+ *   실제 커넥션을 첫 SQL 실행 시점에 ReplicaRoutingDataSource 에서 가져옴 (그 외에는 primary)
+ * - Hibernate 는 세션이 끝날 때까지 커넥션을 유지하므로 OSIV 를 켜면 요청 안의 첫 트랜잭션이
+ *   나머지 트랜잭션의 대상을 정해 버림 -> spring.jpa.open-in-view=false 필수
+ * - 복제본 풀은 primary 의 Hikari 설정을 복사하고 접속 정보와 풀 이름만 바꿈
+ */
+@Configuration
+@ConditionalOnProperty(name = "custom.datasource.replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReplicaRoutingConfig {
+
+    public ReplicaRoutingConfig(@Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException("복제본 라우팅은 spring.jpa.open-in-view=false 에서만 사용할 수 있습니다.");
+        }
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource primaryDataSource,
+                                               ReplicaDataSourceProperties properties,
+                                               MeterRegistry meterRegistry) {
+        List<ReplicaLagMonitor.Replica> replicas = properties.replicas().stream()
+                .map(replica -> new ReplicaLagMonitor.Replica(replica.name(), replicaPool(primaryDataSource, replica)))
+                .toList();
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(
+                primaryDataSource, replicas, properties.maxLagMillis(), System::currentTimeMillis, meterRegistry);
+        monitor.initialize();
+        return monitor;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaDataSourceProperties properties) {
+        return new ReadYourWritesTracker(properties.readYourWritesMillis(), System::nanoTime);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 MeterRegistry meterRegistry) {
+        // primary 에서 실행된 쓰기 SQL 을 감지해 read-your-writes 에 기록
+        DataSource primary = ProxyDataSourceBuilder.create(primaryDataSource)
+                .name("primary")
+                .listener(readYourWritesTracker)
+                .build();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(
+                new ReplicaRoutingDataSource(primary, replicaLagMonitor, readYourWritesTracker, meterRegistry));
+        return dataSource;
+    }
+
+    private static HikariDataSource replicaPool(HikariDataSource primary, ReplicaDataSourceProperties.Replica replica) {
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setPoolName("replica-" + replica.name());
+        config.setJdbcUrl(replica.url());
+        config.setUsername(replica.username());
+        config.setPassword(replica.password());
+        config.setReadOnly(true);
+        // 복제본이 내려가 있어도 애플리케이션은 시작 (지연 측정에서 제외됨)
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+}
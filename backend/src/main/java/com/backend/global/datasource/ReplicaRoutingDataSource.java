@@ -0,0 +1,71 @@
+package com.backend.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션이 사용하는 DataSource
+ * - 최근에 쓰기를 커밋한 사용자 -> primary (read-your-writes)
+ * - 지연이 허용 범위인 복제본을 라운드 로빈으로 선택, 연결에 실패하면 다음 복제본
+ * - 쓸 수 있는 복제본이 없으면 primary
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger next = new AtomicInteger();
+    private final MeterRegistry meterRegistry;
+    private final Counter readYourWritesCounter;
+    private final Counter noReplicaCounter;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaLagMonitor lagMonitor,
+                                    ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry;
+        this.readYourWritesCounter = meterRegistry.counter("datasource.reads", "target", "primary", "reason", "read_your_writes");
+        this.noReplicaCounter = meterRegistry.counter("datasource.reads", "target", "primary", "reason", "no_healthy_replica");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (readYourWritesTracker.requiresPrimary()) {
+            readYourWritesCounter.increment();
+            return primary.getConnection();
+        }
+
+        List<ReplicaLagMonitor.Replica> replicas = lagMonitor.healthyReplicas();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(1, replicas.size()));
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaLagMonitor.Replica replica = replicas.get((start + i) % replicas.size());
+            try {
+                Connection connection = replica.dataSource().getConnection();
+                meterRegistry.counter("datasource.reads", "target", replica.name(), "reason", "replica").increment();
+                return connection;
+            } catch (SQLException e) {
+                log.warn("복제본 {} 연결 실패, 다음 대상으로 전환: {}", replica.name(), e.getMessage());
+                lagMonitor.markDown(replica);
+            }
+        }
+
+        noReplicaCounter.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("복제본 라우팅은 계정 지정 연결을 지원하지 않습니다.");
+    }
+}
@@ -11,9 +11,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+// perf 프로파일은 PerfDataGenerator 가 대량 데이터를 생성
 @Configuration
+@Profile("!perf")
 @RequiredArgsConstructor
 public class BaseInitData {
 
@@ -0,0 +1,59 @@
+package com.backend.global.init;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 시각 분포 - [endDate - days, endDate) 구간을 시간대별 가중치로 나눔
+ * - 점심 / 저녁 피크, 최근일수록 주문이 조금씩 늘어나는 추세
+ * - timeAt(비율) 은 단조 증가라 주문 순번이 곧 시간 순서 (Snowflake ID 와 같은 정렬)
+ */
+final class OrderTimeline {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    // 0시 ~ 23시 주문 비중
+    private static final double[] HOURLY_WEIGHTS = {
+            0.6, 0.3, 0.2, 0.1, 0.1, 0.2, 0.5, 1.0, 1.8, 2.2, 2.6, 3.8,
+            4.6, 3.9, 2.8, 2.5, 2.6, 3.1, 3.9, 4.4, 4.1, 3.2, 2.0, 1.1
+    };
+    private static final double YEARLY_GROWTH = 0.3;
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final long startMillis;
+    private final double[] cumulative;
+
+    OrderTimeline(LocalDate endDate, int days) {
+        this.startMillis = endDate.minusDays(days).atStartOfDay(KST).toInstant().toEpochMilli();
+        int slots = days * 24;
+        cumulative = new double[slots];
+        double sum = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            double growth = 1 + YEARLY_GROWTH * slot / (365.0 * 24);
+            sum += HOURLY_WEIGHTS[slot % 24] * growth;
+            cumulative[slot] = sum;
+        }
+        for (int slot = 0; slot < slots; slot++) {
+            cumulative[slot] /= sum;
+        }
+    }
+
+    long startMillis() {
+        return startMillis;
+    }
+
+    long endMillis() {
+        return startMillis + cumulative.length * HOUR_MILLIS;
+    }
+
+    // fraction: 0 이상 1 미만
+    long timeAt(double fraction) {
+        int slot = Arrays.binarySearch(cumulative, fraction);
+        slot = slot >= 0 ? slot : Math.min(-slot - 1, cumulative.length - 1);
+        double slotStart = slot == 0 ? 0 : cumulative[slot - 1];
+        double withinSlot = (fraction - slotStart) / (cumulative[slot] - slotStart);
+        return startMillis + slot * HOUR_MILLIS + (long) (withinSlot * HOUR_MILLIS);
+    }
+}
@@ -0,0 +1,320 @@
+package com.backend.global.init;
+
+import com.backend.global.init.PerfDataset.CartRow;
+import com.backend.global.init.PerfDataset.DetailRow;
+import com.backend.global.init.PerfDataset.MenuRow;
+import com.backend.global.init.PerfDataset.OrderRow;
+import com.backend.global.init.PerfDataset.UserRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * perf 프로파일 대량 데이터 생성 (BaseInitData 대신 실행)
+ * - 영속성 컨텍스트를 거치지 않고 JDBC 배치 INSERT 를 여러 스레드에서 묶음 단위로 실행
+ * - 묶음마다 배치 크기만큼 모아 부모 테이블부터 실행 후 커밋 (주문 -> 상세 -> 결제)
+ * - ID 를 직접 지정하므로 마지막에 IDENTITY / 시퀀스 값을 생성한 최대 ID 뒤로 이동
+ * - 사용자 테이블에 데이터가 있으면 생성하지 않음
+ * - 계정: admin@example.com / admin1234, perf-user-{ID}@example.com / user1234
+ */
+@Slf4j
+@Configuration
+@Profile("perf")
+@EnableConfigurationProperties(PerfDataProperties.class)
+@RequiredArgsConstructor
+public class PerfDataGenerator {
+
+    private static final String ADMIN_PASSWORD = "admin1234";
+    private static final String USER_PASSWORD = "user1234";
+    // 시퀀스 allocationSize 의 2배 - pooled 최적화기가 처음 받는 구간이 생성한 ID 와 겹치지 않도록
+    private static final long SEQUENCE_GAP = 100;
+
+    private static final String INSERT_MENU = "insert into menu (menu_id, name, price, is_sold_out, description, image_url, create_date, modify_date) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_USER = "insert into users (user_id, email, password, phone_number, level, api_key, create_date, modify_date) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ADDRESS = "insert into address (address_id, user_id, address, address_detail, post_number, create_date, modify_date) values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER = "insert into orders (order_id, version, order_status, order_amount, user_user_id, address_id, create_date, modify_date) values (?, 0, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_DETAIL = "insert into order_details (order_item_id, order_order_id, menu_menu_id, quantity, order_price, menu_name) values (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PAYMENT = "insert into payment (payment_id, version, payment_amount, payment_method, payment_status, order_id, create_date, modify_date) values (?, 0, ?, 'CARD', ?, ?, ?, ?)";
+    private static final String INSERT_CART = "insert into cart (cart_id, user_id, menu_id, quantity, order_amount, sold_out, create_date, modify_date) values (?, ?, ?, ?, ?, false, ?, ?)";
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final PerfDataProperties properties;
+
+    @Bean
+    CommandLineRunner perfData() {
+        return args -> generate();
+    }
+
+    void generate() throws Exception {
+        if (count("users") > 0) {
+            log.info("사용자 데이터가 이미 있어 perf 데이터 생성을 건너뜁니다.");
+            return;
+        }
+
+        LocalDate endDate = properties.endDate() != null ? properties.endDate() : LocalDate.now(ZoneId.of("Asia/Seoul"));
+        PerfDataset dataset = new PerfDataset(properties, endDate);
+        String adminPassword = passwordEncoder.encode(ADMIN_PASSWORD);
+        String userPassword = passwordEncoder.encode(USER_PASSWORD);
+
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.threads());
+        try {
+            insertMenus(dataset.menus());
+            log.info("perf 메뉴 {}개 생성", dataset.menus().size());
+
+            AtomicLong users = new AtomicLong();
+            runChunks(executor, dataset.userChunks(), "사용자", chunk ->
+                    users.addAndGet(insertUsers(dataset.userChunk(chunk), adminPassword, userPassword)));
+
+            AtomicLong orders = new AtomicLong();
+            runChunks(executor, dataset.orderChunks(), "주문", chunk ->
+                    orders.addAndGet(insertOrders(dataset.orderChunk(chunk))));
+
+            AtomicLong carts = new AtomicLong();
+            runChunks(executor, dataset.userChunks(), "장바구니", chunk ->
+                    carts.addAndGet(insertCarts(dataset.cartChunk(chunk))));
+
+            advanceIdCounters(dataset);
+
+            double seconds = (System.nanoTime() - started) / 1e9;
+            log.info("perf 데이터 생성 완료: 사용자 {}, 메뉴 {}, 주문 {}, 장바구니 {} ({}s, seed {}, endDate {})",
+                    users.get(), dataset.menus().size(), orders.get(), carts.get(),
+                    String.format("%.1f", seconds), properties.seed(), endDate);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void runChunks(ExecutorService executor, int chunks, String name, ChunkTask task) throws Exception {
+        List<Future<?>> futures = new ArrayList<>(chunks);
+        AtomicLong done = new AtomicLong();
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int current = chunk;
+            futures.add(executor.submit(() -> {
+                task.run(current);
+                long finished = done.incrementAndGet();
+                if (finished % 100 == 0 || finished == chunks) {
+                    log.info("perf {} 묶음 {}/{}", name, finished, chunks);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private void insertMenus(List<MenuRow> menus) throws SQLException {
+        try (Connection connection = connection();
+             PreparedStatement statement = connection.prepareStatement(INSERT_MENU)) {
+            int pending = 0;
+            for (MenuRow menu : menus) {
+                Timestamp createdAt = new Timestamp(menu.createdAt());
+                statement.setLong(1, menu.menuId());
+                statement.setString(2, menu.name());
+                statement.setInt(3, menu.price());
+                statement.setBoolean(4, menu.soldOut());
+                statement.setString(5, menu.description());
+                statement.setString(6, menu.imageUrl());
+                statement.setTimestamp(7, createdAt);
+                statement.setTimestamp(8, createdAt);
+                statement.addBatch();
+                if (++pending == properties.batchSize()) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    // 사용자마다 배송지 1개 (배송지 ID = 사용자 ID)
+    private long insertUsers(List<UserRow> users, String adminPassword, String userPassword) throws SQLException {
+        try (Connection connection = connection();
+             PreparedStatement userStatement = connection.prepareStatement(INSERT_USER);
+             PreparedStatement addressStatement = connection.prepareStatement(INSERT_ADDRESS)) {
+            int pending = 0;
+            for (UserRow user : users) {
+                Timestamp createdAt = new Timestamp(user.createdAt());
+                userStatement.setLong(1, user.userId());
+                userStatement.setString(2, user.email());
+                userStatement.setString(3, user.userId() == PerfDataset.ADMIN_USER_ID ? adminPassword : userPassword);
+                userStatement.setString(4, user.phoneNumber());
+                userStatement.setInt(5, user.level());
+                userStatement.setString(6, user.apiKey());
+                userStatement.setTimestamp(7, createdAt);
+                userStatement.setTimestamp(8, createdAt);
+                userStatement.addBatch();
+
+                addressStatement.setLong(1, user.userId());
+                addressStatement.setLong(2, user.userId());
+                addressStatement.setString(3, "서울시 강남구 테헤란로 " + (user.userId() % 500 + 1));
+                addressStatement.setString(4, (user.userId() % 30 + 1) + "층 " + (user.userId() % 20 + 1) + "호");
+                addressStatement.setString(5, String.format("%05d", 6000 + user.userId() % 1000));
+                addressStatement.setTimestamp(6, createdAt);
+                addressStatement.setTimestamp(7, createdAt);
+                addressStatement.addBatch();
+
+                if (++pending == properties.batchSize()) {
+                    flush(connection, userStatement, addressStatement);
+                    pending = 0;
+                }
+            }
+            flush(connection, userStatement, addressStatement);
+        }
+        return users.size();
+    }
+
+    private long insertOrders(List<OrderRow> orders) throws SQLException {
+        try (Connection connection = connection();
+             PreparedStatement orderStatement = connection.prepareStatement(INSERT_ORDER);
+             PreparedStatement detailStatement = connection.prepareStatement(INSERT_DETAIL);
+             PreparedStatement paymentStatement = connection.prepareStatement(INSERT_PAYMENT)) {
+            int pending = 0;
+            for (OrderRow order : orders) {
+                Timestamp createdAt = new Timestamp(order.createdAt());
+                orderStatement.setLong(1, order.orderId());
+                orderStatement.setString(2, order.status().name());
+                orderStatement.setInt(3, order.amount());
+                orderStatement.setLong(4, order.userId());
+                orderStatement.setLong(5, order.userId());
+                orderStatement.setTimestamp(6, createdAt);
+                orderStatement.setTimestamp(7, createdAt);
+                orderStatement.addBatch();
+
+                for (DetailRow detail : order.details()) {
+                    detailStatement.setLong(1, detail.orderItemId());
+                    detailStatement.setLong(2, order.orderId());
+                    detailStatement.setLong(3, detail.menuId());
+                    detailStatement.setInt(4, detail.quantity());
+                    detailStatement.setInt(5, detail.orderPrice());
+                    detailStatement.setString(6, detail.menuName());
+                    detailStatement.addBatch();
+                }
+
+                if (order.payment() != null) {
+                    Timestamp paidAt = new Timestamp(order.payment().createdAt());
+                    paymentStatement.setLong(1, order.payment().paymentId());
+                    paymentStatement.setInt(2, order.payment().amount());
+                    paymentStatement.setString(3, order.payment().status().name());
+                    paymentStatement.setLong(4, order.orderId());
+                    paymentStatement.setTimestamp(5, paidAt);
+                    paymentStatement.setTimestamp(6, paidAt);
+                    paymentStatement.addBatch();
+                }
+
+                if (++pending == properties.batchSize()) {
+                    flush(connection, orderStatement, detailStatement, paymentStatement);
+                    pending = 0;
+                }
+            }
+            flush(connection, orderStatement, detailStatement, paymentStatement);
+        }
+        return orders.size();
+    }
+
+    private long insertCarts(List<CartRow> carts) throws SQLException {
+        try (Connection connection = connection();
+             PreparedStatement statement = connection.prepareStatement(INSERT_CART)) {
+            int pending = 0;
+            for (CartRow cart : carts) {
+                Timestamp createdAt = new Timestamp(cart.createdAt());
+                statement.setLong(1, cart.cartId());
+                statement.setLong(2, cart.userId());
+                statement.setLong(3, cart.menuId());
+                statement.setInt(4, cart.quantity());
+                statement.setInt(5, cart.orderAmount());
+                statement.setTimestamp(6, createdAt);
+                statement.setTimestamp(7, createdAt);
+                statement.addBatch();
+                if (++pending == properties.batchSize()) {
+                    flush(connection, statement);
+                    pending = 0;
+                }
+            }
+            flush(connection, statement);
+        }
+        return carts.size();
+    }
+
+    // 부모 테이블 순서대로 실행 후 커밋
+    private static void flush(Connection connection, PreparedStatement... statements) throws SQLException {
+        for (PreparedStatement statement : statements) {
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    /**
+     * 직접 지정한 ID 뒤에서 새 ID 가 발급되도록 IDENTITY / 시퀀스 이동
+     * - H2: IDENTITY 와 시퀀스 모두 RESTART
+     * - MySQL: AUTO_INCREMENT 는 자동으로 최대값 뒤로 이동, 시퀀스는 Hibernate 가 만든 시퀀스 테이블 갱신
+     */
+    private void advanceIdCounters(PerfDataset dataset) throws SQLException {
+        long orderDetailNext = dataset.maxOrderDetailId() + SEQUENCE_GAP + 1;
+        long cartNext = dataset.maxCartId() + SEQUENCE_GAP + 1;
+
+        try (Connection connection = connection();
+             Statement statement = connection.createStatement()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            if (product.equalsIgnoreCase("H2")) {
+                statement.execute("alter table users alter column user_id restart with " + (dataset.maxUserId() + 1));
+                statement.execute("alter table address alter column address_id restart with " + (dataset.maxUserId() + 1));
+                statement.execute("alter table menu alter column menu_id restart with " + (dataset.menus().size() + 1));
+                statement.execute("alter sequence order_details_seq restart with " + orderDetailNext);
+                statement.execute("alter sequence cart_seq restart with " + cartNext);
+            } else if (product.equalsIgnoreCase("MySQL")) {
+                statement.executeUpdate("update order_details_seq set next_val = " + orderDetailNext);
+                statement.executeUpdate("update cart_seq set next_val = " + cartNext);
+            } else {
+                log.warn("{} 의 ID 시퀀스 조정은 지원하지 않습니다. 새 데이터 저장 시 ID 가 겹칠 수 있습니다.", product);
+            }
+            connection.commit();
+        }
+    }
+
+    private long count(String table) throws SQLException {
+        try (Connection connection = connection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select count(*) from " + table)) {
+            resultSet.next();
+            long count = resultSet.getLong(1);
+            connection.commit();
+            return count;
+        }
+    }
+
+    private Connection connection() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        void run(int chunk) throws Exception;
+    }
+}
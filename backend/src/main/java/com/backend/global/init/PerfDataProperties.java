@@ -0,0 +1,25 @@
+package com.backend.global.init;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDate;
+
+/**
+ * perf 프로파일 대량 데이터 생성 설정 (custom.perf-data)
+ * - 같은 seed / endDate 면 같은 데이터가 생성됨 (endDate 가 없으면 오늘)
+ */
+@ConfigurationProperties(prefix = "custom.perf-data")
+public record PerfDataProperties(
+        int users,
+        int menus,
+        long orders,
+        int maxItemsPerOrder,
+        double cartUserRatio,
+        int maxCartItems,
+        int days,
+        LocalDate endDate,
+        int batchSize,
+        int threads,
+        long seed
+) {
+}
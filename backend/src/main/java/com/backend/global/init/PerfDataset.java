@@ -0,0 +1,243 @@
+package com.backend.global.init;
+
+import com.backend.domain.order.entity.OrderStatus;
+import com.backend.domain.order.pricing.OrderPricing;
+import com.backend.domain.payment.entity.PaymentStatus;
+import com.backend.global.jpa.id.SnowflakeIdWorker;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * perf 데이터 행 생성 (DB 접근 없음)
+ * - 묶음(chunk) 번호만으로 같은 행이 다시 만들어지도록 묶음마다 seed 에서 파생한 난수 사용
+ *   -> 여러 스레드가 어떤 순서로 처리해도 결과가 같음
+ * - ID 는 DB 가 아니라 규칙으로 정함
+ *   사용자/배송지: 1(관리자), 2 ~ users+1 / 메뉴: 1 ~ menus
+ *   주문/결제: 주문 시각 기반 Snowflake ID / 주문 상세: 주문 순번 * maxItemsPerOrder + k + 1
+ *   장바구니: 사용자 ID * maxCartItems + k
+ */
+final class PerfDataset {
+
+    static final int CHUNK_SIZE = 10_000;
+    static final long ADMIN_USER_ID = 1;
+
+    private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+    private static final String[] ORIGINS = {
+            "에티오피아", "콜롬비아", "브라질", "과테말라", "케냐", "코스타리카", "인도네시아", "파나마", "르완다", "온두라스"
+    };
+    private static final String[] ROASTS = {"라이트", "미디엄", "미디엄 다크", "다크"};
+
+    private final PerfDataProperties properties;
+    private final OrderTimeline timeline;
+    private final ZipfSampler menuPopularity;
+    private final ZipfSampler userActivity;
+    private final List<MenuRow> menus;
+
+    PerfDataset(PerfDataProperties properties, LocalDate endDate) {
+        this.properties = properties;
+        this.timeline = new OrderTimeline(endDate, properties.days());
+        if (timeline.startMillis() < SnowflakeIdWorker.EPOCH) {
+            throw new IllegalArgumentException("주문 기간 시작(endDate - days)이 Snowflake EPOCH(2025-01-01) 이전입니다.");
+        }
+        this.menuPopularity = new ZipfSampler(properties.menus(), 1.1, properties.seed());
+        this.userActivity = new ZipfSampler(properties.users(), 0.8, properties.seed() + 1);
+        this.menus = generateMenus();
+    }
+
+    List<MenuRow> menus() {
+        return menus;
+    }
+
+    int userChunks() {
+        return (properties.users() + 1 + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+    int orderChunks() {
+        return (int) ((properties.orders() + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    }
+
+    long maxUserId() {
+        return properties.users() + 1L;
+    }
+
+    long maxOrderDetailId() {
+        return properties.orders() * properties.maxItemsPerOrder();
+    }
+
+    long maxCartId() {
+        return maxUserId() * properties.maxCartItems() + properties.maxCartItems() - 1;
+    }
+
+    // chunk 번째 사용자 묶음 (ID 1 은 관리자)
+    List<UserRow> userChunk(int chunk) {
+        SplittableRandom random = random(1, chunk);
+        long from = (long) chunk * CHUNK_SIZE + 1;
+        long to = Math.min(maxUserId(), from + CHUNK_SIZE - 1);
+
+        List<UserRow> users = new ArrayList<>();
+        for (long userId = from; userId <= to; userId++) {
+            boolean admin = userId == ADMIN_USER_ID;
+            long createdAt = timeline.startMillis() - random.nextLong(365) * DAY_MILLIS - random.nextLong(DAY_MILLIS);
+            users.add(new UserRow(
+                    userId,
+                    admin ? "admin@example.com" : "perf-user-" + userId + "@example.com",
+                    String.format("010-%04d-%04d", (userId / 10_000) % 10_000, userId % 10_000),
+                    admin ? 0 : 1,
+                    UUID.nameUUIDFromBytes(("perf-" + properties.seed() + "-" + userId).getBytes(StandardCharsets.UTF_8)).toString(),
+                    createdAt
+            ));
+        }
+        return users;
+    }
+
+    // chunk 번째 주문 묶음 (상세 / 결제 포함)
+    List<OrderRow> orderChunk(int chunk) {
+        SplittableRandom random = random(2, chunk);
+        long from = (long) chunk * CHUNK_SIZE;
+        long to = Math.min(properties.orders(), from + CHUNK_SIZE);
+
+        List<OrderRow> orders = new ArrayList<>(CHUNK_SIZE);
+        for (long index = from; index < to; index++) {
+            long createdAt = timeline.timeAt((index + 0.5) / properties.orders());
+            long orderId = SnowflakeIdWorker.compose(createdAt, index >>> 12, index);
+            long userId = 2 + userActivity.sample(random);
+
+            // 주문당 메뉴 종류 수: 1개가 가장 많고 갈수록 줄어듦
+            int itemCount = 1;
+            while (itemCount < properties.maxItemsPerOrder() && random.nextDouble() < 0.45) {
+                itemCount++;
+            }
+
+            List<DetailRow> details = new ArrayList<>(itemCount);
+            List<Integer> picked = new ArrayList<>(itemCount);
+            int total = 0;
+            for (int k = 0; k < itemCount; k++) {
+                int menuIndex = menuPopularity.sample(random);
+                if (picked.contains(menuIndex)) {
+                    continue;
+                }
+                picked.add(menuIndex);
+                MenuRow menu = menus.get(menuIndex);
+                int quantity = 1 + (random.nextDouble() < 0.7 ? 0 : random.nextInt(3));
+                details.add(new DetailRow(index * properties.maxItemsPerOrder() + k + 1,
+                        menu.menuId(), quantity, menu.price() * quantity, menu.name()));
+                total += menu.price() * quantity;
+            }
+            int amount = OrderPricing.quote(total).total();
+
+            OrderStatus status = status(random, timeline.endMillis() - createdAt);
+            PaymentRow payment = payment(random, status, orderId, amount, createdAt);
+            orders.add(new OrderRow(orderId, userId, status, amount, createdAt, details, payment));
+        }
+        return orders;
+    }
+
+    // chunk 번째 사용자 묶음의 장바구니 (cartUserRatio 비율의 사용자만, 품절 메뉴 제외)
+    List<CartRow> cartChunk(int chunk) {
+        SplittableRandom random = random(3, chunk);
+        long from = Math.max(2, (long) chunk * CHUNK_SIZE + 1);
+        long to = Math.min(maxUserId(), (long) chunk * CHUNK_SIZE + CHUNK_SIZE);
+
+        List<CartRow> carts = new ArrayList<>();
+        for (long userId = from; userId <= to; userId++) {
+            if (random.nextDouble() >= properties.cartUserRatio()) {
+                continue;
+            }
+            int itemCount = 1 + random.nextInt(properties.maxCartItems());
+            List<Integer> picked = new ArrayList<>(itemCount);
+            for (int k = 0; k < itemCount; k++) {
+                int menuIndex = menuPopularity.sample(random);
+                MenuRow menu = menus.get(menuIndex);
+                if (menu.soldOut() || picked.contains(menuIndex)) {
+                    continue;
+                }
+                picked.add(menuIndex);
+                int quantity = 1 + random.nextInt(3);
+                long createdAt = timeline.endMillis() - random.nextLong(7 * DAY_MILLIS);
+                carts.add(new CartRow(userId * properties.maxCartItems() + k, userId, menu.menuId(),
+                        quantity, menu.price() * quantity, createdAt));
+            }
+        }
+        return carts;
+    }
+
+    private List<MenuRow> generateMenus() {
+        SplittableRandom random = random(0, 0);
+        List<MenuRow> rows = new ArrayList<>(properties.menus());
+        for (int i = 0; i < properties.menus(); i++) {
+            String origin = ORIGINS[random.nextInt(ORIGINS.length)];
+            String roast = ROASTS[random.nextInt(ROASTS.length)];
+            // 2만원 안팎의 로그 정규 분포, 500원 단위
+            double price = Math.exp(Math.log(20000) + 0.45 * gaussian(random));
+            int rounded = (int) Math.max(5000, Math.min(80000, Math.round(price / 500) * 500));
+            rows.add(new MenuRow(
+                    i + 1L,
+                    origin + " " + roast + " 로스트 #" + (i + 1),
+                    rounded,
+                    random.nextDouble() < 0.03,
+                    origin + " 산지 " + roast + " 로스팅 원두",
+                    "https://example.com/images/perf-" + (i + 1) + ".jpg",
+                    timeline.startMillis() - random.nextLong(365) * DAY_MILLIS
+            ));
+        }
+        return rows;
+    }
+
+    // 오래된 주문일수록 배송 완료, 최근 주문은 결제 전/결제 완료가 섞임
+    private static OrderStatus status(SplittableRandom random, long ageMillis) {
+        double r = random.nextDouble();
+        if (r < 0.05) {
+            return OrderStatus.CANCELED;
+        }
+        if (ageMillis > DAY_MILLIS) {
+            return r < 0.07 ? OrderStatus.CREATED : OrderStatus.COMPLETED;
+        }
+        return r < 0.35 ? OrderStatus.CREATED : OrderStatus.PAID;
+    }
+
+    private static PaymentRow payment(SplittableRandom random, OrderStatus status, long orderId, int amount, long orderedAt) {
+        long paidAt = orderedAt + 1000 + random.nextLong(120_000);
+        return switch (status) {
+            case PAID, COMPLETED -> new PaymentRow(orderId, amount, PaymentStatus.COMPLETED, paidAt);
+            case CANCELED -> random.nextDouble() < 0.6 ? new PaymentRow(orderId, amount, PaymentStatus.CANCELED, paidAt) : null;
+            case CREATED -> random.nextDouble() < 0.15 ? new PaymentRow(orderId, amount, PaymentStatus.FAILED, paidAt) : null;
+        };
+    }
+
+    private SplittableRandom random(long stream, long chunk) {
+        long mixed = properties.seed() * 0x9E3779B97F4A7C15L + stream * 0xBF58476D1CE4E5B9L + chunk * 0x94D049BB133111EBL;
+        return new SplittableRandom(mixed);
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        double u1 = 1 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    record MenuRow(long menuId, String name, int price, boolean soldOut, String description, String imageUrl, long createdAt) {
+    }
+
+    record UserRow(long userId, String email, String phoneNumber, int level, String apiKey, long createdAt) {
+    }
+
+    record OrderRow(long orderId, long userId, OrderStatus status, int amount, long createdAt,
+                    List<DetailRow> details, PaymentRow payment) {
+    }
+
+    // 결제 ID 는 주문 ID 와 같은 값 (테이블이 달라 충돌 없음)
+    record PaymentRow(long paymentId, int amount, PaymentStatus status, long createdAt) {
+    }
+
+    record DetailRow(long orderItemId, long menuId, int quantity, int orderPrice, String menuName) {
+    }
+
+    record CartRow(long cartId, long userId, long menuId, int quantity, int orderAmount, long createdAt) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.backend.global.init;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 0 ~ n-1 순위를 Zipf 분포로 뽑음 (소수의 인기 메뉴 / 주문이 잦은 사용자)
+ * - 순위가 곧 ID 가 되지 않도록 seed 로 섞은 순열을 거쳐 인덱스를 돌려줌
+ */
+final class ZipfSampler {
+
+    private final double[] cumulative;
+    private final int[] permutation;
+
+    ZipfSampler(int n, double exponent, long seed) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= sum;
+        }
+
+        permutation = new int[n];
+        for (int i = 0; i < n; i++) {
+            permutation[i] = i;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = tmp;
+        }
+    }
+
+    int sample(SplittableRandom random) {
+        int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+        rank = rank >= 0 ? rank : Math.min(-rank - 1, cumulative.length - 1);
+        return permutation[rank];
+    }
+}
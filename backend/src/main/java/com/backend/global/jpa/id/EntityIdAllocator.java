@@ -0,0 +1,34 @@
+package com.backend.global.jpa.id;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.Generator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티에 매핑된 식별자 생성기로 ID 를 미리 발급
+ * - 네이티브 INSERT(upsert 등)로 행을 넣을 때도 JPA 저장과 같은 시퀀스/pooled 할당을 사용
+ * - INSERT 전에 값을 정하는 생성기(시퀀스, Snowflake)만 지원하고 IDENTITY 는 거부
+ */
+@Component
+public class EntityIdAllocator {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public long nextId(Class<?> entityClass) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        Generator generator = session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getGenerator();
+
+        if (!(generator instanceof BeforeExecutionGenerator beforeExecution)) {
+            throw new IllegalStateException(entityClass.getSimpleName() + " 의 ID 는 INSERT 전에 발급할 수 없습니다.");
+        }
+        return ((Number) beforeExecution.generate(session, null, null, EventType.INSERT)).longValue();
+    }
+}
@@ -0,0 +1,18 @@
+package com.backend.global.jpa.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * DB 왕복 없이 애플리케이션에서 Snowflake ID 를 발급하는 식별자 (@GeneratedValue 대신 사용)
+ * nodeId 는 hibernate.id.snowflake.node_id 설정값 (인스턴스마다 달라야 함)
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,50 @@
+package com.backend.global.jpa.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.Map;
+
+/**
+ * {@link SnowflakeId} 를 처리하는 Hibernate 식별자 생성기
+ * INSERT 전에 ID 를 정하므로 JDBC 배치 INSERT 도 그대로 동작합니다.
+ */
+public class SnowflakeIdGenerator implements BeforeExecutionGenerator {
+
+    public static final String NODE_ID = "hibernate.id.snowflake.node_id";
+    public static final String MAX_CLOCK_BACKWARD_MILLIS = "hibernate.id.snowflake.max_clock_backward_ms";
+
+    private final SnowflakeIdWorker worker;
+
+    public SnowflakeIdGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        Map<String, Object> settings = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings();
+
+        long nodeId = longSetting(settings, NODE_ID, 0);
+        long maxBackwardMillis = longSetting(settings, MAX_CLOCK_BACKWARD_MILLIS, 5000);
+        this.worker = SnowflakeIdWorker.forNode(nodeId, maxBackwardMillis);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return worker.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    private static long longSetting(Map<String, Object> settings, String key, long defaultValue) {
+        Object value = settings.get(key);
+        return value == null ? defaultValue : Long.parseLong(value.toString().trim());
+    }
+}
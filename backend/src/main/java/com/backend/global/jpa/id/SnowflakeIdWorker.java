@@ -0,0 +1,95 @@
+package com.backend.global.jpa.id;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순서가 보장되는 64비트 ID 발급기 (Snowflake 방식)
+ *
+ * <pre>
+ * 0 | 41비트 timestamp (EPOCH 기준 ms) | 10비트 nodeId | 12비트 sequence
+ * </pre>
+ * - 마지막 발급 상태(timestamp + sequence)를 AtomicLong 하나에 담아 CAS 로 갱신 (락 없음)
+ * - 같은 ms 안에서는 sequence 증가, ms 당 4096개를 넘으면 다음 ms 까지 대기
+ * - 시계가 maxBackwardMillis 이내로 되돌아가면 마지막 timestamp 를 계속 사용해 순서를 유지하고,
+ *   그보다 크게 되돌아가면 중복 위험이 있으므로 발급을 거부
+ */
+public final class SnowflakeIdWorker {
+
+    // 2025-01-01T00:00:00Z
+    public static final long EPOCH = 1735689600000L;
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final Map<Long, SnowflakeIdWorker> WORKERS = new ConcurrentHashMap<>();
+
+    private final long nodeBits;
+    private final long maxBackwardMillis;
+    private final LongSupplier clock;
+
+    // (timestamp << SEQUENCE_BITS) | sequence
+    private final AtomicLong state = new AtomicLong();
+
+    SnowflakeIdWorker(long nodeId, long maxBackwardMillis, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+        this.maxBackwardMillis = maxBackwardMillis;
+        this.clock = clock;
+    }
+
+    // 같은 nodeId 는 하나의 발급기를 공유 (엔티티가 달라도 ID 가 겹치지 않도록)
+    public static SnowflakeIdWorker forNode(long nodeId, long maxBackwardMillis) {
+        return WORKERS.computeIfAbsent(nodeId,
+                id -> new SnowflakeIdWorker(id, maxBackwardMillis, System::currentTimeMillis));
+    }
+
+    public long nextId() {
+        while (true) {
+            long previous = state.get();
+            long previousTimestamp = previous >>> SEQUENCE_BITS;
+            long now = clock.getAsLong() - EPOCH;
+
+            long next;
+            if (now > previousTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                if (previousTimestamp - now > maxBackwardMillis) {
+                    throw new IllegalStateException("시계가 " + (previousTimestamp - now)
+                            + "ms 뒤로 이동해 ID 를 발급할 수 없습니다.");
+                }
+                if ((previous & SEQUENCE_MASK) == SEQUENCE_MASK) {
+                    // 이번 ms 의 sequence 소진 - 시계가 다음 ms 로 넘어갈 때까지 대기
+                    Thread.onSpinWait();
+                    continue;
+                }
+                next = previous + 1;
+            }
+
+            if (state.compareAndSet(previous, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    // 발급기를 거치지 않고 같은 비트 구성의 ID 를 만듦 (과거 시각으로 대량 생성하는 perf 데이터용)
+    public static long compose(long timestampMillis, long nodeId, long sequence) {
+        return ((timestampMillis - EPOCH) << (NODE_BITS + SEQUENCE_BITS))
+                | ((nodeId & MAX_NODE_ID) << SEQUENCE_BITS)
+                | (sequence & SEQUENCE_MASK);
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    public static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
@@ -23,6 +23,8 @@ public enum ErrorCode {
     SOLD_OUT_ADD_CART("C002", HttpStatus.CONFLICT, "품절된 상품은 장바구니에 담을 수 없습니다."),
     INVALID_QUANTITY("C004", HttpStatus.BAD_REQUEST, "상품 수량은 1개 이상이어야 합니다."),
     EMPTY_CART("C006", HttpStatus.NOT_FOUND, "장바구니가 비어 있습니다."),
+    GUEST_CART_LIMIT("C007", HttpStatus.BAD_REQUEST, "비회원 장바구니에 담을 수 있는 수량을 넘었습니다. 로그인 후 이용해주세요."),
+    EXCEEDED_MAX_QUANTITY("C008", HttpStatus.BAD_REQUEST, "한 메뉴는 999개까지 담을 수 있습니다."),
 
     //주문
     SOLD_OUT_PRODUCT("O001", HttpStatus.CONFLICT, "품절된 상품이 포함되어 있습니다."),
@@ -45,13 +47,19 @@ public enum ErrorCode {
     PAYMENT_DELETE_FAILED("P009", HttpStatus.BAD_REQUEST, "취소된 결제 내역만 삭제 가능합니다."),
     PAYMENT_INVALID_STATUS_TRANSITION("P010", HttpStatus.CONFLICT, "결제 상태 변경에 실패했습니다."),
     CONCURRENT_PAYMENT_DETECTED("P011", HttpStatus.CONFLICT, "동시 결제 시도가 감지되었습니다."),
+    PAYMENT_PROCESSOR_UNAVAILABLE("P012", HttpStatus.SERVICE_UNAVAILABLE, "결제 처리기가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
+    PAYMENT_PROCESSOR_BUSY("P013", HttpStatus.SERVICE_UNAVAILABLE, "결제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    PAYMENT_PROCESSOR_TIMEOUT("P014", HttpStatus.GATEWAY_TIMEOUT, "결제 처리기 응답 시간이 초과되었습니다. 결제 결과는 확인 후 반영됩니다."),
 
     // 메뉴
     DUPLICATE_MENU_NAME("M001", HttpStatus.CONFLICT, "이미 존재하는 메뉴 이름입니다."),
     NOT_FOUND_MENU("M002", HttpStatus.NOT_FOUND, "존재하지 않는 메뉴입니다."),
     FORBIDDEN_ADMIN("M003", HttpStatus.FORBIDDEN, "관리자 권한이 필요합니다."),
     MENU_SOLD_OUT("M004", HttpStatus.CONFLICT, "품절된 메뉴입니다."),
-    INVALID_MENU_PRICE("M005", HttpStatus.BAD_REQUEST, "메뉴 가격은 음수일 수 없습니다.");
+    INVALID_MENU_PRICE("M005", HttpStatus.BAD_REQUEST, "메뉴 가격은 음수일 수 없습니다."),
+
+    // 서버
+    SERVER_BUSY("S001", HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
   
     private final String code;
     private final HttpStatus status;
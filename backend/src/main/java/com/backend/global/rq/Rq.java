@@ -57,12 +57,18 @@ public class Rq {
     }
 
     public void setCookie(String name, String value) {
+        setCookie(name, value, -1);
+    }
+
+    // maxAgeSeconds 가 음수면 브라우저 세션 쿠키
+    public void setCookie(String name, String value, int maxAgeSeconds) {
         if (value == null) value = "";
 
         Cookie cookie = new Cookie(name, value);
         cookie.setPath("/");
         cookie.setHttpOnly(true);
         cookie.setDomain("localhost");
+        cookie.setMaxAge(maxAgeSeconds);
 
         // 값이 없다면 해당 쿠키변수를 삭제하라는 뜻
         if (value.isBlank()) {
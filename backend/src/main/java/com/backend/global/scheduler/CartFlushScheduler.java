@@ -0,0 +1,22 @@
+package com.backend.global.scheduler;
+
+import com.backend.domain.cart.store.CartWriteBehindStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "custom.cart.write-behind.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CartFlushScheduler {
+
+    private final CartWriteBehindStore cartWriteBehindStore;
+
+    // 메모리에 모아 둔 장바구니 수량 변경을 주기적으로 cart 테이블에 반영
+    @Scheduled(initialDelayString = "${custom.cart.write-behind.flushIntervalMillis}",
+            fixedDelayString = "${custom.cart.write-behind.flushIntervalMillis}")
+    public void flush() {
+        cartWriteBehindStore.flush();
+    }
+}
@@ -0,0 +1,34 @@
+package com.backend.global.scheduler;
+
+import com.backend.domain.cart.purge.CartPurgeProperties;
+import com.backend.domain.cart.purge.CartPurgeResult;
+import com.backend.domain.cart.purge.CartPurger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "custom.cart.purge.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class CartPurgeScheduler {
+
+    private final CartPurger cartPurger;
+    private final CartPurgeProperties properties;
+
+    // 오래된 장바구니 정리 - dryRun 이면 대상 리포트만 기록
+    @Scheduled(cron = "${custom.cart.purge.cron}", zone = "Asia/Seoul")
+    public void purge() {
+        if (properties.dryRun()) {
+            log.info("장바구니 정리 미리보기: {}", cartPurger.report());
+            return;
+        }
+
+        CartPurgeResult result = cartPurger.purge();
+        if (result != null) {
+            log.info("장바구니 정리 완료: {}", result);
+        }
+    }
+}
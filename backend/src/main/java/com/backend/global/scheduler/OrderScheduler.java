@@ -1,6 +1,7 @@
 package com.backend.global.scheduler;
 
 import com.backend.domain.order.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -13,6 +14,7 @@ import java.time.*;
 public class OrderScheduler {
 
     private final OrderRepository orderRepository;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 매일 한국시간 14:00에 실행
@@ -29,5 +31,6 @@ public class OrderScheduler {
 
         // 취소/완료가 아닌 주문만 윈도우 내에서 COMPLETED로 변경
         int updated = orderRepository.bulkCompleteBetween(windowStart, windowEnd);
+        meterRegistry.counter("orders.completed.scheduled").increment(updated);
     }
 }
@@ -0,0 +1,44 @@
+package com.backend.global.scheduler;
+
+import com.backend.domain.payment.service.PaymentReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentReconciliationScheduler {
+
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final PaymentReconciliationService paymentReconciliationService;
+
+    @Value("${custom.payment.reconciliation.settlementDir}")
+    private String settlementDir;
+
+    /**
+     * 매일 한국시간 04:00에 전날 정산 파일 대사
+     * 파일: {settlementDir}/settlement-yyyyMMdd.csv (없으면 건너뜀)
+     */
+    @Scheduled(cron = "${custom.payment.reconciliation.cron}", zone = "Asia/Seoul")
+    public void reconcileYesterday() {
+        LocalDate settlementDate = LocalDate.now(ZoneId.of("Asia/Seoul")).minusDays(1);
+        Path file = Path.of(settlementDir, "settlement-" + settlementDate.format(FILE_DATE) + ".csv");
+
+        if (!Files.isReadable(file)) {
+            log.warn("정산 파일 없음: {}", file);
+            return;
+        }
+
+        paymentReconciliationService.reconcile(file, settlementDate);
+    }
+}
@@ -0,0 +1,51 @@
+package com.backend.global.scheduler;
+
+import com.backend.domain.payment.entity.Payment;
+import com.backend.domain.payment.entity.PaymentStatus;
+import com.backend.domain.payment.repository.PaymentRepository;
+import com.backend.domain.payment.service.PaymentTransactionService;
+import com.backend.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PendingPaymentScheduler {
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentTransactionService paymentTransactionService;
+
+    @Value("${custom.payment.recovery.pendingTimeoutSeconds}")
+    private long pendingTimeoutSeconds;
+
+    /**
+     * 예약(PENDING) 후 확정되지 못한 결제 복구
+     * - 처리기 호출 도중 서버가 종료되면 결제가 PENDING 으로 남음
+     * - 처리기에는 결과 조회 API 가 없으므로 타임아웃이 지난 결제는 FAILED 로 확정 (주문은 CREATED 유지)
+     * - 건별로 짧은 트랜잭션을 사용하며, 조회 후 요청 쪽에서 확정된 결제는 조회 시점 버전 비교(낙관적 락)로 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${custom.payment.recovery.fixedDelayMillis}")
+    public void recoverPendingPayments() {
+        LocalDateTime threshold = LocalDateTime.now().minusSeconds(pendingTimeoutSeconds);
+
+        List<Payment> stalePayments = paymentRepository
+                .findTop100ByPaymentStatusAndCreateDateBeforeOrderByPaymentIdAsc(PaymentStatus.PENDING, threshold);
+
+        for (Payment payment : stalePayments) {
+            try {
+                paymentTransactionService.failStale(payment.getPaymentId(), payment.getVersion());
+                log.warn("미확정 결제 실패 처리: paymentId={}", payment.getPaymentId());
+            } catch (BusinessException | OptimisticLockingFailureException e) {
+                log.info("미확정 결제가 이미 확정됨: paymentId={}", payment.getPaymentId());
+            }
+        }
+    }
+}
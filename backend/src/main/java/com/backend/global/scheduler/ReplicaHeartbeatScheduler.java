@@ -0,0 +1,26 @@
+package com.backend.global.scheduler;
+
+import com.backend.global.datasource.ReplicaLagMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "custom.datasource.replica.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReplicaHeartbeatScheduler {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    /**
+     * 복제본 지연 측정 후 다음 하트비트 기록
+     * - 측정은 한 주기 전에 기록한 하트비트 기준이므로 주기 안에 복제된 복제본은 지연 0
+     */
+    @Scheduled(initialDelayString = "${custom.datasource.replica.heartbeatIntervalMillis}",
+            fixedDelayString = "${custom.datasource.replica.heartbeatIntervalMillis}")
+    public void heartbeat() {
+        replicaLagMonitor.refreshLag();
+        replicaLagMonitor.writeHeartbeat();
+    }
+}
@@ -0,0 +1,59 @@
+package com.backend.global.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * 동시에 실행되는 비밀번호 해시 연산 수를 제한하는 PasswordEncoder 데코레이터 (가상 스레드 모드 전용)
+ * - BCrypt 는 I/O 없이 CPU 만 쓰므로 가상 스레드가 양보하지 않고 캐리어 스레드를 계속 점유
+ * - 로그인/회원가입이 몰려 모든 캐리어 스레드가 해시 계산 중이면 다른 요청이 전부 멈추므로,
+ *   일부 캐리어만 쓰도록 세마포어로 제한 (대기 중인 가상 스레드는 캐리어를 반납)
+ */
+public class ConcurrencyLimitedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Semaphore permits;
+
+    // maxConcurrent 가 0 이하이면 CPU 코어 수의 절반
+    public ConcurrencyLimitedPasswordEncoder(PasswordEncoder delegate, int maxConcurrent) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrent > 0
+                ? maxConcurrent
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        acquire();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        acquire();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private void acquire() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 연산 대기 중 인터럽트", e);
+        }
+    }
+}
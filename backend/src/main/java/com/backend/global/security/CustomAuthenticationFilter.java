@@ -54,7 +54,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
 
     private void authenticate(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws Exception {
-        if (!request.getRequestURI().startsWith("/api/")) {
+        if (!request.getRequestURI().startsWith("/api/") && !request.getRequestURI().startsWith("/actuator/")) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -1,5 +1,7 @@
 package com.backend.global.security;
 
+import com.backend.global.thread.VirtualThreadProperties;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -7,8 +9,14 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class PasswordEncodeConfig {
+    // 가상 스레드 모드(VirtualThreadProperties 등록 시)에서는 동시 해시 연산 수를 제한
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(ObjectProvider<VirtualThreadProperties> virtualThreadProperties) {
+        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        VirtualThreadProperties properties = virtualThreadProperties.getIfAvailable();
+        if (properties == null) {
+            return passwordEncoder;
+        }
+        return new ConcurrencyLimitedPasswordEncoder(passwordEncoder, properties.maxConcurrentPasswordHashes());
     }
 }
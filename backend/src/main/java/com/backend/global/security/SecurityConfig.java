@@ -54,6 +54,9 @@ public class SecurityConfig {
                                 HttpMethod.PUT,
                                 "/api/users/logout"
                         ).permitAll()
+                        .requestMatchers("/api/guest-cart/**", "/api/guest-cart").permitAll() // 비회원 장바구니 (서명 쿠키)
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // Prometheus 수집 (apiKey 쿠키 필요)
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/**").authenticated()
                         .anyRequest().authenticated())
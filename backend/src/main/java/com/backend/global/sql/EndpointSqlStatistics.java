@@ -0,0 +1,71 @@
+package com.backend.global.sql;
+
+import com.backend.global.sql.SqlRequestStatistics.NPlusOneSuspect;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 누적 SQL 통계 (여러 요청 스레드가 동시에 갱신)
+ */
+class EndpointSqlStatistics {
+
+    // 엔드포인트마다 보관하는 N+1 의심 SQL 상한
+    private static final int MAX_SUSPECTS = 20;
+
+    private final String endpoint;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder elapsedNanos = new LongAdder();
+    private final LongAdder nPlusOneRequests = new LongAdder();
+    private final AtomicLong maxStatements = new AtomicLong();
+    private final Map<String, Integer> suspects = new ConcurrentHashMap<>();
+
+    EndpointSqlStatistics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void record(SqlRequestStatistics statistics, List<NPlusOneSuspect> requestSuspects) {
+        requests.increment();
+        statements.add(statistics.getStatementCount());
+        elapsedNanos.add(statistics.getElapsedNanos());
+        maxStatements.accumulateAndGet(statistics.getStatementCount(), Math::max);
+
+        if (!requestSuspects.isEmpty()) {
+            nPlusOneRequests.increment();
+            for (NPlusOneSuspect suspect : requestSuspects) {
+                if (suspects.size() < MAX_SUSPECTS || suspects.containsKey(suspect.sql())) {
+                    suspects.merge(suspect.sql(), suspect.executions(), Math::max);
+                }
+            }
+        }
+    }
+
+    SqlStatisticsResponse toResponse() {
+        long requestCount = requests.sum();
+        long statementCount = statements.sum();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos.sum());
+
+        List<NPlusOneSuspect> suspectList = suspects.entrySet().stream()
+                .map(entry -> new NPlusOneSuspect(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingInt(NPlusOneSuspect::executions).reversed())
+                .toList();
+
+        return new SqlStatisticsResponse(
+                endpoint,
+                requestCount,
+                statementCount,
+                requestCount == 0 ? 0 : (double) statementCount / requestCount,
+                maxStatements.get(),
+                elapsedMillis,
+                requestCount == 0 ? 0 : (double) elapsedMillis / requestCount,
+                nPlusOneRequests.sum(),
+                suspectList
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package com.backend.global.sql;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 한 번의 요청(또는 테스트 블록)에서 실행된 SQL 통계
+ * - PreparedStatement 는 파라미터가 ? 로 남아 있으므로 같은 SQL 문자열이 여러 번 나오면
+ *   "파라미터만 바꿔 같은 쿼리를 반복" 한 것 (N+1 의심)
+ * - 한 스레드에서만 사용하므로 동기화하지 않음
+ */
+@Getter
+public class SqlRequestStatistics {
+
+    // 반복 횟수를 세는 SQL 종류 상한 (동적 IN 절 등으로 무한히 늘어나지 않도록)
+    private static final int MAX_DISTINCT_STATEMENTS = 256;
+
+    private int statementCount;
+    private long elapsedNanos;
+    private final Map<String, Integer> executions = new HashMap<>();
+
+    void record(String sql, long nanos) {
+        statementCount++;
+        elapsedNanos += nanos;
+        if (executions.size() < MAX_DISTINCT_STATEMENTS || executions.containsKey(sql)) {
+            executions.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public Map<String, Integer> getExecutions() {
+        return Collections.unmodifiableMap(executions);
+    }
+
+    // 같은 SELECT 가 threshold 번 이상 실행된 경우 (많이 반복된 순)
+    public List<NPlusOneSuspect> nPlusOneSuspects(int threshold) {
+        return executions.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold && isSelect(entry.getKey()))
+                .map(entry -> new NPlusOneSuspect(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingInt(NPlusOneSuspect::executions).reversed())
+                .toList();
+    }
+
+    private static boolean isSelect(String sql) {
+        return sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select");
+    }
+
+    public record NPlusOneSuspect(
+            String sql,
+            int executions
+    ) {
+    }
+}
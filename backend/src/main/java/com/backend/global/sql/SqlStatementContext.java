@@ -0,0 +1,42 @@
+package com.backend.global.sql;
+
+/**
+ * 현재 스레드에서 실행되는 SQL 을 모으는 범위
+ * - HTTP 요청은 SqlStatisticsFilter 가, 테스트는 QueryBudget 이 범위를 열고 닫음
+ * - 범위 밖(스케줄러 등)에서 실행된 SQL 은 집계하지 않음
+ */
+public final class SqlStatementContext {
+
+    private static final ThreadLocal<SqlRequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementContext() {
+    }
+
+    // try-with-resources 로 사용 - 닫으면 바깥 범위로 복원
+    public static Scope open(SqlRequestStatistics statistics) {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(statistics);
+        return scope;
+    }
+
+    static SqlRequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final SqlRequestStatistics previous;
+
+        private Scope(SqlRequestStatistics previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.backend.global.sql;
+
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ApiResponse;
+import com.backend.global.response.ErrorCode;
+import com.backend.global.rq.Rq;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.List;
+
+@Controller
+@RequestMapping("/api/admin/sql-stats")
+@RequiredArgsConstructor
+@Tag(name = "SqlStatisticsController", description = "관리자 SQL 통계 API")
+public class SqlStatisticsController {
+
+    private final SqlStatisticsRegistry sqlStatisticsRegistry;
+    private final Rq rq;
+
+    @GetMapping
+    @Operation(summary = "엔드포인트별 SQL 통계 조회",
+            description = "엔드포인트별 요청 수, SQL 실행 수/시간, N+1 의심 SQL 을 실행 수가 많은 순으로 조회합니다. (관리자 전용)")
+    public ResponseEntity<ApiResponse<List<SqlStatisticsResponse>>> getStatistics() throws Exception {
+        checkAdmin();
+        return ResponseEntity.ok(ApiResponse.success(sqlStatisticsRegistry.getStatistics()));
+    }
+
+    @DeleteMapping
+    @Operation(summary = "SQL 통계 초기화", description = "누적된 SQL 통계를 모두 지웁니다. (관리자 전용)")
+    public ResponseEntity<ApiResponse<Void>> resetStatistics() throws Exception {
+        checkAdmin();
+        sqlStatisticsRegistry.reset();
+        return ResponseEntity.ok(ApiResponse.success());
+    }
+
+    private void checkAdmin() throws Exception {
+        UserDto actor = rq.getUser();
+        if (actor.level() != 0) {
+            throw new BusinessException(ErrorCode.FORBIDDEN_ADMIN);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.backend.global.sql;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 를 JDBC 프록시로 감싸 모든 SQL 실행을 SqlStatisticsListener 로 전달
+ * - Hikari 설정/지표는 프록시의 unwrap 으로 그대로 접근 가능
+ */
+@Component
+@ConditionalOnProperty(name = "custom.sql.statistics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                && DATA_SOURCE_BEAN_NAME.equals(beanName)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new SqlStatisticsListener())
+                    .build();
+        }
+        return bean;
+    }
+}
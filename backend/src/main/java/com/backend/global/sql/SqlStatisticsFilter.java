@@ -0,0 +1,52 @@
+package com.backend.global.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나 동안 실행된 SQL 을 모아 엔드포인트별로 집계
+ * - 인증 필터의 사용자 조회까지 포함하도록 Security 필터보다 먼저 실행
+ * - 엔드포인트 이름은 매핑된 URL 패턴 (/api/orders/{orderId}) 이라 경로 변수마다 늘어나지 않음
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "custom.sql.statistics.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final SqlStatisticsRegistry sqlStatisticsRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestStatistics statistics = new SqlRequestStatistics();
+        try (SqlStatementContext.Scope ignored = SqlStatementContext.open(statistics)) {
+            filterChain.doFilter(request, response);
+        } finally {
+            sqlStatisticsRegistry.record(endpointOf(request), statistics);
+        }
+    }
+
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern == null ? UNMAPPED : pattern);
+    }
+}
@@ -0,0 +1,36 @@
+package com.backend.global.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * JDBC 실행 시점마다 현재 범위(SqlStatementContext)에 SQL 과 소요 시간을 기록
+ * - 배치 실행(executeBatch)은 DB 왕복 한 번이므로 1건으로 셈
+ */
+class SqlStatisticsListener implements QueryExecutionListener {
+
+    private static final ThreadLocal<Long> STARTED_AT = new ThreadLocal<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (SqlStatementContext.current() != null) {
+            STARTED_AT.set(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStatistics statistics = SqlStatementContext.current();
+        Long startedAt = STARTED_AT.get();
+        STARTED_AT.remove();
+        if (statistics == null || startedAt == null || queryInfoList.isEmpty()) {
+            return;
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+        statistics.record(queryInfoList.get(0).getQuery(), elapsed);
+    }
+}
@@ -0,0 +1,50 @@
+package com.backend.global.sql;
+
+import com.backend.global.sql.SqlRequestStatistics.NPlusOneSuspect;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트(HTTP 메서드 + URL 패턴)별 SQL 통계 집계
+ * - 같은 SELECT 가 한 요청에서 nPlusOneThreshold 번 이상 실행되면 N+1 의심으로 기록하고 경고 로그
+ */
+@Slf4j
+@Component
+public class SqlStatisticsRegistry {
+
+    private final int nPlusOneThreshold;
+    private final Map<String, EndpointSqlStatistics> endpoints = new ConcurrentHashMap<>();
+
+    public SqlStatisticsRegistry(@Value("${custom.sql.statistics.nPlusOneThreshold}") int nPlusOneThreshold) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    public void record(String endpoint, SqlRequestStatistics statistics) {
+        List<NPlusOneSuspect> suspects = statistics.nPlusOneSuspects(nPlusOneThreshold);
+        endpoints.computeIfAbsent(endpoint, EndpointSqlStatistics::new).record(statistics, suspects);
+
+        if (!suspects.isEmpty()) {
+            NPlusOneSuspect worst = suspects.get(0);
+            log.warn("N+1 의심 - {}: 같은 SQL {}회 실행 (전체 {}건) {}",
+                    endpoint, worst.executions(), statistics.getStatementCount(), worst.sql());
+        }
+    }
+
+    // SQL 실행 수가 많은 엔드포인트 순
+    public List<SqlStatisticsResponse> getStatistics() {
+        return endpoints.values().stream()
+                .map(EndpointSqlStatistics::toResponse)
+                .sorted(Comparator.comparingLong(SqlStatisticsResponse::statements).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+}
@@ -0,0 +1,18 @@
+package com.backend.global.sql;
+
+import com.backend.global.sql.SqlRequestStatistics.NPlusOneSuspect;
+
+import java.util.List;
+
+public record SqlStatisticsResponse(
+        String endpoint,
+        long requests,
+        long statements,
+        double avgStatements,
+        long maxStatements,
+        long sqlMillis,
+        double avgSqlMillis,
+        long nPlusOneRequests,
+        List<NPlusOneSuspect> nPlusOneSuspects
+) {
+}
@@ -0,0 +1,40 @@
+package com.backend.global.thread;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * 가상 스레드 모드에서 Hikari 커넥션 풀 설정 점검
+ * - 커넥션 대기 시간을 maxConnectionTimeoutMillis 이하로 제한
+ *   (기본 30초 대기 동안 가상 스레드가 계속 쌓이면 지연이 전체 요청으로 번짐 -> 빨리 실패)
+ * - 동시 요청 상한이 풀 크기보다 작으면 쓰이지 않는 커넥션이 생기므로 경고
+ * - spring.datasource.hikari.* 바인딩이 끝난 뒤, SQL 통계 프록시로 감싸기 전에 적용
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class HikariPoolGuard implements BeanPostProcessor {
+
+    private final VirtualThreadProperties properties;
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            guard(dataSource, beanName);
+        }
+        return bean;
+    }
+
+    private void guard(HikariDataSource dataSource, String beanName) {
+        if (dataSource.getConnectionTimeout() > properties.maxConnectionTimeoutMillis()) {
+            log.info("가상 스레드 모드: {} 커넥션 대기 시간 {}ms -> {}ms", beanName,
+                    dataSource.getConnectionTimeout(), properties.maxConnectionTimeoutMillis());
+            dataSource.setConnectionTimeout(properties.maxConnectionTimeoutMillis());
+        }
+        if (properties.maxConcurrentRequests() < dataSource.getMaximumPoolSize()) {
+            log.warn("가상 스레드 모드: 동시 요청 상한({})이 {} 풀 크기({})보다 작아 일부 커넥션은 사용되지 않습니다.",
+                    properties.maxConcurrentRequests(), beanName, dataSource.getMaximumPoolSize());
+        }
+    }
+}
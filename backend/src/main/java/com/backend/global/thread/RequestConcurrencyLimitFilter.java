@@ -0,0 +1,84 @@
+package com.backend.global.thread;
+
+import com.backend.global.response.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시에 처리하는 /api 요청 수를 제한하는 필터 (가상 스레드 모드 전용)
+ * - 가상 스레드는 요청마다 새로 만들어지므로 Tomcat 스레드 풀이 하던 동시 처리 상한이 사라짐
+ *   -> 상한 없이 들어온 요청이 모두 Hikari 커넥션을 기다리며 쌓이지 않도록 입구에서 제한
+ * - 자리가 날 때까지 acquireTimeoutMillis 만큼 기다리고, 그래도 없으면 503 + Retry-After
+ * - 인증 필터의 사용자 조회도 막도록 Security 필터보다 먼저 실행
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class RequestConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final Counter rejectedCounter;
+
+    public RequestConcurrencyLimitFilter(int maxConcurrentRequests, long acquireTimeoutMillis, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrentRequests);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.rejectedCounter = meterRegistry.counter("http.server.requests.rejected", "reason", "concurrency_limit");
+        Gauge.builder("http.server.requests.permits.available", permits, Semaphore::availablePermits)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!acquire()) {
+            rejectedCounter.increment();
+            reject(response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void reject(HttpServletResponse response) throws IOException {
+        ErrorCode errorCode = ErrorCode.SERVER_BUSY;
+        response.setContentType("application/json;charset=UTF-8");
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.getWriter().write("""
+                {
+                    "code" : "%s",
+                    "message" : "%s"
+                }
+                """.formatted(errorCode.getCode(), errorCode.getMessage()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.backend.global.thread;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true, 환경 변수 VIRTUAL_THREADS)
+ * - Tomcat 요청 처리, @Async(applicationTaskExecutor), @Scheduled(taskScheduler) 실행기는
+ *   Spring Boot 가 같은 설정으로 가상 스레드 실행기로 교체
+ * - 여기서는 동시 처리 상한이 사라지는 것을 보완하는 요청 수 제한과 커넥션 풀 점검만 등록
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+public class VirtualThreadConfig {
+
+    @Bean
+    public RequestConcurrencyLimitFilter requestConcurrencyLimitFilter(VirtualThreadProperties properties,
+                                                                       MeterRegistry meterRegistry) {
+        return new RequestConcurrencyLimitFilter(
+                properties.maxConcurrentRequests(), properties.acquireTimeoutMillis(), meterRegistry);
+    }
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 등록
+    @Bean
+    public static HikariPoolGuard hikariPoolGuard(VirtualThreadProperties properties) {
+        return new HikariPoolGuard(properties);
+    }
+}
@@ -0,0 +1,19 @@
+package com.backend.global.thread;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true) 보호 설정 (custom.virtual-threads)
+ * - maxConcurrentRequests : 동시에 처리할 /api 요청 수 상한 (플랫폼 모드의 Tomcat 최대 스레드 수 역할)
+ * - acquireTimeoutMillis : 상한에 걸린 요청이 자리를 기다리는 최대 시간, 넘으면 503
+ * - maxConnectionTimeoutMillis : Hikari 커넥션 대기 시간 상한
+ * - maxConcurrentPasswordHashes : 동시에 실행할 BCrypt 연산 수 (0 이면 CPU 코어 수의 절반)
+ */
+@ConfigurationProperties("custom.virtual-threads")
+public record VirtualThreadProperties(
+        int maxConcurrentRequests,
+        long acquireTimeoutMillis,
+        long maxConnectionTimeoutMillis,
+        int maxConcurrentPasswordHashes
+) {
+}
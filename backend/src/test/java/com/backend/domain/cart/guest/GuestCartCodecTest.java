@@ -0,0 +1,69 @@
+package com.backend.domain.cart.guest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비회원 장바구니 쿠키 형식 테스트
+ * - 왕복 인코딩, 크기, 서명 검증
+ */
+class GuestCartCodecTest {
+
+    private static final String SECRET = "guest-cart-test-secret-0123456789abcdef";
+    private static final int MAX_ITEMS = 30;
+    private static final int MAX_QUANTITY = 99;
+
+    private final GuestCartCodec codec = new GuestCartCodec(SECRET, MAX_ITEMS, MAX_QUANTITY);
+
+    @Test
+    @DisplayName("인코딩 후 디코딩하면 같은 장바구니, 항목 30개도 쿠키 200자 안팎")
+    void roundTrip_Compact() {
+        TreeMap<Long, Integer> items = new TreeMap<>();
+        for (int i = 0; i < MAX_ITEMS; i++) {
+            items.put(1000L + i * 37, 1 + i % MAX_QUANTITY);
+        }
+        GuestCart cart = new GuestCart(1_760_000_000L, items);
+
+        String cookie = codec.encode(cart);
+
+        System.out.printf("[비회원 장바구니] 항목 %d개 -> 쿠키 %d자%n", MAX_ITEMS, cookie.length());
+        assertThat(codec.decode(cookie)).contains(cart);
+        assertThat(cookie.length()).isLessThanOrEqualTo(200);
+        assertThat(cookie).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("변조 - 한 바이트라도 바뀌거나 다른 키로 서명되면 거부")
+    void tampered_Rejected() {
+        String cookie = codec.encode(new GuestCart(1_760_000_000L, new TreeMap<>(Map.of(1L, 2, 5L, 1))));
+
+        byte[] bytes = Base64.getUrlDecoder().decode(cookie);
+        for (int i = 0; i < bytes.length; i++) {
+            byte[] copy = bytes.clone();
+            copy[i] ^= 0x01;
+            assertThat(codec.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(copy))).isEmpty();
+        }
+
+        GuestCartCodec otherKey = new GuestCartCodec(SECRET + "-other", MAX_ITEMS, MAX_QUANTITY);
+        assertThat(otherKey.decode(cookie)).isEmpty();
+        assertThat(codec.decode(cookie.substring(0, cookie.length() - 2))).isEmpty();
+        assertThat(codec.decode("not base64 !")).isEmpty();
+        assertThat(codec.decode("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서명이 맞아도 한도를 넘는 내용은 거부 (설정이 줄어든 경우)")
+    void overLimit_Rejected() {
+        TreeMap<Long, Integer> items = new TreeMap<>(Map.of(1L, MAX_QUANTITY));
+        String cookie = codec.encode(new GuestCart(1_760_000_000L, items));
+
+        GuestCartCodec stricter = new GuestCartCodec(SECRET, MAX_ITEMS, MAX_QUANTITY - 1);
+        assertThat(stricter.decode(cookie)).isEmpty();
+    }
+}
@@ -0,0 +1,40 @@
+package com.backend.domain.cart.guest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비회원 장바구니 서명 키 설정 테스트
+ * - GUEST_CART_SECRET 이 없으면 다른 키로 대신하지 않고 시작 실패
+ */
+class GuestCartConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(GuestCartConfig.class)
+            .withPropertyValues("custom.cart.guest.maxItems=30", "custom.cart.guest.maxQuantity=99");
+
+    @Test
+    @DisplayName("서명 키가 없으면 시작 실패")
+    void missingSecret_FailsStartup() {
+        contextRunner
+                .withPropertyValues("custom.cart.guest.secret=")
+                .run(context -> {
+                    assertThat(context).hasFailed();
+                    assertThat(context.getStartupFailure())
+                            .rootCause()
+                            .isInstanceOf(IllegalStateException.class)
+                            .hasMessageContaining("GUEST_CART_SECRET");
+                });
+    }
+
+    @Test
+    @DisplayName("서명 키가 있으면 코덱 등록")
+    void secretProvided_CodecRegistered() {
+        contextRunner
+                .withPropertyValues("custom.cart.guest.secret=guest-cart-config-test-secret-0123456789")
+                .run(context -> assertThat(context).hasSingleBean(GuestCartCodec.class));
+    }
+}
@@ -0,0 +1,187 @@
+package com.backend.domain.cart.guest;
+
+import com.backend.domain.cart.controller.dto.request.CartBatchRequest;
+import com.backend.domain.cart.controller.dto.request.CartItemOperation;
+import com.backend.domain.cart.controller.dto.response.CartListResponse;
+import com.backend.domain.cart.controller.dto.response.CartResponse;
+import com.backend.domain.cart.entity.Cart;
+import com.backend.domain.cart.repository.CartRepository;
+import com.backend.domain.menu.catalog.MenuCatalog;
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.repository.MenuRepository;
+import com.backend.domain.menu.service.MenuService;
+import com.backend.domain.payment.service.PaymentProcessor;
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.domain.user.user.entity.Users;
+import com.backend.domain.user.user.repository.UserRepository;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+import com.backend.global.sql.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.backend.domain.cart.controller.dto.request.CartItemOperation.Type.ADD;
+import static com.backend.domain.cart.controller.dto.request.CartItemOperation.Type.REMOVE;
+import static com.backend.domain.cart.controller.dto.request.CartItemOperation.Type.SET;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 비회원 장바구니 테스트
+ * - 담기/조회는 메모리 메뉴 카탈로그만 사용 (SQL 0건)
+ * - 로그인 시 메뉴 조회 + upsert 배치로 회원 장바구니에 합침
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class GuestCartTest {
+
+    @Autowired
+    private GuestCartService guestCartService;
+
+    @Autowired
+    private MenuCatalog menuCatalog;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    private Menu latte;
+    private Menu beans;
+    private Menu soldOut;
+
+    @BeforeEach
+    void setUp() {
+        long seed = System.nanoTime();
+        latte = menuRepository.save(Menu.builder().name("비회원 라떼 원두 " + seed).price(12000).build());
+        beans = menuRepository.save(Menu.builder().name("비회원 블렌드 원두 " + seed).price(8000).build());
+        soldOut = menuRepository.save(Menu.builder().name("비회원 품절 원두 " + seed).price(5000).isSoldOut(true).build());
+        menuCatalog.reload();
+    }
+
+    @Test
+    @DisplayName("담기/조회 - SQL 0건, 쿠키 왕복 후 카탈로그 가격으로 계산")
+    void applyAndView_NoDatabaseAccess() throws Exception {
+        CartBatchRequest request = new CartBatchRequest(List.of(
+                op(ADD, latte, 2),
+                op(SET, beans, 3),
+                op(ADD, latte, 1)));
+
+        String cookie = QueryBudget.of("PATCH /api/guest-cart/items").maxStatements(0)
+                .verify(() -> guestCartService.write(guestCartService.apply(GuestCart.EMPTY, request)));
+        CartListResponse cart = QueryBudget.of("GET /api/guest-cart").maxStatements(0)
+                .verify(() -> guestCartService.view(guestCartService.read(cookie)));
+
+        assertThat(quantities(cart.getCartItems())).isEqualTo(Map.of(latte.getMenuId(), 3, beans.getMenuId(), 3));
+        assertThat(cart.getSubtotal()).isEqualTo(3 * 12000 + 3 * 8000);
+        assertThat(cart.getGrandTotal()).isEqualTo(3 * 12000 + 3 * 8000);
+        assertThat(cart.getCartItems()).allSatisfy(item -> assertThat(item.getCartId()).isNull());
+    }
+
+    @Test
+    @DisplayName("가격/품절 변경 - 쿠키는 그대로여도 조회 시 현재 값으로 계산")
+    void view_UsesCurrentCatalog() {
+        GuestCart cart = guestCartService.apply(GuestCart.EMPTY,
+                new CartBatchRequest(List.of(op(ADD, beans, 2))));
+
+        menuService.updateMenuSoldOut(beans.getMenuId(), true);
+
+        CartResponse item = guestCartService.view(cart).getCartItems().get(0);
+        assertThat(item.isSoldOut()).isTrue();
+        assertThat(item.getOrderAmount()).isEqualTo(2 * 8000);
+    }
+
+    @Test
+    @DisplayName("검증 - 없는 메뉴/품절 메뉴/한도 초과는 거부, 위조 쿠키는 빈 장바구니")
+    void invalidRequests_Rejected() {
+        BusinessException notFound = assertThrows(BusinessException.class, () -> guestCartService.apply(
+                GuestCart.EMPTY, new CartBatchRequest(List.of(new CartItemOperation(ADD, -1L, 1)))));
+        BusinessException rejected = assertThrows(BusinessException.class, () -> guestCartService.apply(
+                GuestCart.EMPTY, new CartBatchRequest(List.of(op(ADD, soldOut, 1)))));
+        BusinessException overLimit = assertThrows(BusinessException.class, () -> guestCartService.apply(
+                GuestCart.EMPTY, new CartBatchRequest(List.of(op(ADD, latte, 60), op(ADD, latte, 60)))));
+        BusinessException overflow = assertThrows(BusinessException.class, () -> guestCartService.apply(
+                GuestCart.EMPTY, new CartBatchRequest(List.of(op(ADD, latte, 5), op(ADD, latte, Integer.MAX_VALUE)))));
+
+        assertThat(notFound.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_PRODUCT);
+        assertThat(rejected.getErrorCode()).isEqualTo(ErrorCode.SOLD_OUT_ADD_CART);
+        assertThat(overLimit.getErrorCode()).isEqualTo(ErrorCode.GUEST_CART_LIMIT);
+        assertThat(overflow.getErrorCode()).isEqualTo(ErrorCode.GUEST_CART_LIMIT);
+
+        String cookie = guestCartService.write(guestCartService.apply(GuestCart.EMPTY,
+                new CartBatchRequest(List.of(op(ADD, latte, 1)))));
+        String forged = cookie.substring(0, cookie.length() - 1) + (cookie.endsWith("A") ? "B" : "A");
+        assertThat(guestCartService.read(forged).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("로그인 합치기 - 같은 메뉴는 수량을 더하고, 그 사이 품절된 메뉴는 건너뜀, 배치 1회")
+    void mergeOnLogin_BatchedUpsert() throws Exception {
+        Users user = userRepository.save(new Users("guest-merge-" + System.nanoTime() + "@example.com",
+                "password123", "010-1234-5678", 1));
+        UserDto actor = new UserDto(user);
+        cartRepository.save(Cart.builder().user(user).menu(latte).quantity(1).build());
+
+        Menu later = menuRepository.save(Menu.builder().name("나중에 품절 원두 " + System.nanoTime()).price(3000).build());
+        menuCatalog.reload();
+        String cookie = guestCartService.write(guestCartService.apply(GuestCart.EMPTY, new CartBatchRequest(List.of(
+                op(ADD, latte, 2),
+                op(ADD, beans, 3),
+                op(ADD, later, 1),
+                op(REMOVE, soldOut, 0)))));
+        menuService.updateMenuSoldOut(later.getMenuId(), true);
+
+        boolean[] merged = new boolean[1];
+        var statistics = QueryBudget.record(() -> merged[0] = guestCartService.mergeOnLogin(actor, cookie));
+
+        // 메뉴 IN 조회(2차 캐시에 없으면) + 시퀀스 + upsert 배치 1회
+        System.out.printf("[로그인 합치기] 항목 3개 -> SQL %d건%n", statistics.getStatementCount());
+        assertThat(merged[0]).isTrue();
+        assertThat(statistics.getStatementCount()).isLessThanOrEqualTo(3);
+
+        List<Cart> rows = cartRepository.findByUser_UserId(user.getUserId());
+        assertThat(rows.stream().collect(Collectors.toMap(cart -> cart.getMenu().getMenuId(), Cart::getQuantity)))
+                .isEqualTo(Map.of(latte.getMenuId(), 3, beans.getMenuId(), 3));
+        assertThat(rows).allSatisfy(cart ->
+                assertThat(cart.getOrderAmount()).isEqualTo(cart.getQuantity() * cart.getMenu().getPrice()));
+    }
+
+    @Test
+    @DisplayName("로그인 합치기 - 위조 쿠키는 합치지 않고 지움")
+    void mergeOnLogin_ForgedCookie() {
+        Users user = userRepository.save(new Users("guest-forged-" + System.nanoTime() + "@example.com",
+                "password123", "010-1234-5678", 1));
+
+        boolean clear = guestCartService.mergeOnLogin(new UserDto(user), "AQIDBAUGBwgJCgsMDQ4PEBESExQ");
+
+        assertThat(clear).isTrue();
+        assertThat(cartRepository.findByUser_UserId(user.getUserId())).isEmpty();
+    }
+
+    private static CartItemOperation op(CartItemOperation.Type type, Menu menu, int quantity) {
+        return new CartItemOperation(type, menu.getMenuId(), quantity);
+    }
+
+    private static Map<Long, Integer> quantities(List<CartResponse> items) {
+        return items.stream().collect(Collectors.toMap(CartResponse::getMenuId, CartResponse::getQuantity));
+    }
+}
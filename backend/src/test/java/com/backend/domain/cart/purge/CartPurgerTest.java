@@ -0,0 +1,178 @@
+package com.backend.domain.cart.purge;
+
+import com.backend.domain.cart.entity.Cart;
+import com.backend.domain.cart.repository.CartRepository;
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.repository.MenuRepository;
+import com.backend.domain.payment.service.PaymentProcessor;
+import com.backend.domain.user.user.entity.Users;
+import com.backend.domain.user.user.repository.UserRepository;
+import com.backend.global.datasource.ReplicaLagMonitor;
+import com.backend.global.sql.QueryBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 오래된 장바구니 정리 테스트
+ * - modifyDate 기준으로 오래된 행만 키셋 구간별(조회 1건 + DELETE 1건)로 삭제
+ * - 미리보기는 집계만 하고 삭제하지 않음
+ * - 복제본 지연이 줄지 않으면 삭제하지 않고 중단
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CartPurgerTest {
+
+    private static final int STALE_COUNT = 7;
+    private static final int FRESH_COUNT = 3;
+    private static final int CHUNK_SIZE = 3;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    private final List<Cart> staleCarts = new ArrayList<>();
+    private final List<Cart> freshCarts = new ArrayList<>();
+    private Users staleUser;
+    private LocalDateTime staleDate;
+
+    @BeforeEach
+    void setUp() {
+        // 앞선 테스트가 남긴 오래된 행 정리
+        purger(properties(false, 0, 0), null).purge();
+
+        long seed = System.nanoTime();
+        staleUser = userRepository.save(new Users("purge-stale-" + seed + "@example.com",
+                "password123", "010-1234-5678", 1));
+        Users freshUser = userRepository.save(new Users("purge-fresh-" + seed + "@example.com",
+                "password123", "010-1234-5678", 1));
+
+        staleCarts.clear();
+        freshCarts.clear();
+        for (int i = 0; i < STALE_COUNT + FRESH_COUNT; i++) {
+            Menu menu = menuRepository.save(Menu.builder().name("정리 원두 " + i + " " + seed).price(1000).build());
+            if (i < STALE_COUNT) {
+                staleCarts.add(cartRepository.save(Cart.builder().user(staleUser).menu(menu).quantity(i + 1).build()));
+            } else {
+                freshCarts.add(cartRepository.save(Cart.builder().user(freshUser).menu(menu).quantity(1).build()));
+            }
+        }
+
+        // 모든 오래된 행을 같은 시각으로 - 키셋이 cartId 로 이어지는지 함께 확인
+        staleDate = LocalDateTime.now().minusDays(40).truncatedTo(ChronoUnit.SECONDS);
+        jdbcTemplate.update("update cart set modify_date = ? where user_id = ?",
+                Timestamp.valueOf(staleDate), staleUser.getUserId());
+    }
+
+    @Test
+    @DisplayName("정리 - 오래된 행만 구간별로 삭제, 구간마다 조회 1건 + DELETE 1건")
+    void purge_DeletesOnlyStaleRowsInChunks() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CartPurger purger = purger(properties(false, 0, 0), null, meterRegistry);
+
+        CartPurgeResult[] result = new CartPurgeResult[1];
+        var statistics = QueryBudget.record(() -> result[0] = purger.purge());
+
+        // 7행 / 3 = 구간 3개 (3, 3, 1)
+        assertThat(result[0].deletedRows()).isEqualTo(STALE_COUNT);
+        assertThat(result[0].chunks()).isEqualTo(3);
+        assertThat(result[0].stoppedByLag()).isFalse();
+        assertThat(statistics.getStatementCount()).isEqualTo(3 * 2);
+        assertThat(meterRegistry.counter("cart.purge.deleted.rows").count()).isEqualTo(STALE_COUNT);
+
+        assertThat(cartRepository.findAllById(ids(staleCarts))).isEmpty();
+        assertThat(cartRepository.findAllById(ids(freshCarts))).hasSize(FRESH_COUNT);
+    }
+
+    @Test
+    @DisplayName("미리보기 - 대상 행/사용자/금액/예상 구간을 집계하고 삭제하지 않음")
+    void report_DoesNotDelete() {
+        CartPurgeReport report = purger(properties(true, 2, 0), null).report();
+
+        assertThat(report.candidateRows()).isEqualTo(STALE_COUNT);
+        assertThat(report.candidateUsers()).isEqualTo(1);
+        assertThat(report.oldestModifyDate()).isEqualTo(staleDate);
+        assertThat(report.candidateOrderAmount()).isEqualTo(1000L * (1 + STALE_COUNT) * STALE_COUNT / 2);
+        assertThat(report.estimatedChunks()).isEqualTo(3);
+        assertThat(report.estimatedSeconds()).isEqualTo(4);
+        assertThat(cartRepository.findAllById(ids(staleCarts))).hasSize(STALE_COUNT);
+    }
+
+    @Test
+    @DisplayName("속도 제한 - maxRowsPerSecond 를 넘지 않도록 구간 사이에 쉼")
+    void purge_RateLimited() {
+        // 초당 30행 -> 3행 구간마다 약 100ms
+        CartPurgeResult result = purger(properties(false, 30, 0), null).purge();
+
+        assertThat(result.deletedRows()).isEqualTo(STALE_COUNT);
+        assertThat(result.throttledMillis()).isPositive();
+    }
+
+    @Test
+    @DisplayName("복제본 지연 - 기다려도 줄지 않으면 삭제하지 않고 중단")
+    void purge_StopsWhenReplicaLagging() {
+        ReplicaLagMonitor monitor = mock(ReplicaLagMonitor.class);
+        when(monitor.worstLagMillis()).thenReturn(5000L);
+
+        CartPurgeResult result = purger(properties(false, 0, 300), monitor).purge();
+
+        assertThat(result.stoppedByLag()).isTrue();
+        assertThat(result.deletedRows()).isZero();
+        assertThat(cartRepository.findAllById(ids(staleCarts))).hasSize(STALE_COUNT);
+    }
+
+    private CartPurger purger(CartPurgeProperties properties, ReplicaLagMonitor monitor) {
+        return purger(properties, monitor, new SimpleMeterRegistry());
+    }
+
+    @SuppressWarnings("unchecked")
+    private CartPurger purger(CartPurgeProperties properties, ReplicaLagMonitor monitor,
+                              SimpleMeterRegistry meterRegistry) {
+        ObjectProvider<ReplicaLagMonitor> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(monitor);
+        return new CartPurger(properties, cartRepository, provider, transactionManager,
+                Clock.systemDefaultZone(), meterRegistry);
+    }
+
+    private static CartPurgeProperties properties(boolean dryRun, int maxRowsPerSecond, long maxLagWaitMillis) {
+        return new CartPurgeProperties(true, "0 30 4 * * *", 30, dryRun, CHUNK_SIZE, maxRowsPerSecond,
+                1000, maxLagWaitMillis);
+    }
+
+    private static List<Long> ids(List<Cart> carts) {
+        return carts.stream().map(Cart::getId).toList();
+    }
+}
@@ -0,0 +1,200 @@
+package com.backend.domain.cart.service;
+
+import com.backend.domain.cart.controller.dto.request.CartBatchRequest;
+import com.backend.domain.cart.controller.dto.request.CartItemOperation;
+import com.backend.domain.cart.controller.dto.response.CartListResponse;
+import com.backend.domain.cart.controller.dto.response.CartResponse;
+import com.backend.domain.cart.entity.Cart;
+import com.backend.domain.cart.repository.CartRepository;
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.repository.MenuRepository;
+import com.backend.domain.payment.service.PaymentProcessor;
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.domain.user.user.entity.Users;
+import com.backend.domain.user.user.repository.UserRepository;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+import com.backend.global.sql.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.backend.domain.cart.controller.dto.request.CartItemOperation.Type.ADD;
+import static com.backend.domain.cart.controller.dto.request.CartItemOperation.Type.REMOVE;
+import static com.backend.domain.cart.controller.dto.request.CartItemOperation.Type.SET;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 장바구니 일괄 변경 테스트
+ * - 한 트랜잭션에서 메뉴/장바구니 조회 각 1건 + 배치 쓰기
+ * - 검증 실패 시 아무 작업도 반영되지 않음
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CartBatchTest {
+
+    private static final int MENU_COUNT = 6;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    private UserDto actor;
+    private Users user;
+    private List<Menu> menus;
+    private Menu soldOutMenu;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new Users("cart-batch-" + System.nanoTime() + "@example.com",
+                "password123", "010-1234-5678", 1));
+        actor = new UserDto(user);
+
+        menus = new ArrayList<>();
+        for (int i = 0; i < MENU_COUNT; i++) {
+            menus.add(menuRepository.save(Menu.builder().name("일괄 원두 " + i).price(1000 * (i + 1)).build()));
+        }
+        soldOutMenu = menuRepository.save(Menu.builder().name("품절 원두").price(5000).isSoldOut(true).build());
+
+        // 기존 장바구니: 0~2번 메뉴 각 1개
+        for (int i = 0; i < 3; i++) {
+            cartRepository.save(Cart.builder().user(user).menu(menus.get(i)).quantity(1).build());
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 변경 - SET/ADD/REMOVE 가 요청 순서대로 반영되고 결과 장바구니를 반환")
+    void apply_MixedOperations() throws Exception {
+        CartBatchRequest request = new CartBatchRequest(List.of(
+                op(SET, menus.get(0), 5),
+                op(ADD, menus.get(1), 2),
+                op(REMOVE, menus.get(2), 0),
+                op(ADD, menus.get(3), 1),
+                op(ADD, menus.get(3), 2),
+                op(SET, menus.get(4), 4),
+                op(REMOVE, menus.get(4), 0),
+                op(REMOVE, menus.get(5), 0)));
+
+        CartListResponse response = QueryBudget.of("PATCH /api/carts/items").maxStatements(7)
+                .verify(() -> cartService.applyCartOperations(actor, request));
+
+        Map<Long, Integer> expected = Map.of(
+                menus.get(0).getMenuId(), 5,
+                menus.get(1).getMenuId(), 3,
+                menus.get(3).getMenuId(), 3);
+        assertThat(quantities(response.getCartItems())).isEqualTo(expected);
+        assertThat(response.getCartItems()).allSatisfy(item -> assertThat(item.getCartId()).isNotNull());
+        assertThat(response.getSubtotal()).isEqualTo(5 * 1000 + 3 * 2000 + 3 * 4000);
+
+        List<Cart> rows = cartRepository.findByUser_UserId(actor.userId());
+        assertThat(rows.stream().collect(Collectors.toMap(cart -> cart.getMenu().getMenuId(), Cart::getQuantity)))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("일괄 변경 - 작업 수와 무관하게 SQL 문장 수가 일정")
+    void apply_StatementCountIndependentOfSize() throws Exception {
+        List<CartItemOperation> operations = new ArrayList<>();
+        for (Menu menu : menus) {
+            operations.add(op(ADD, menu, 2));
+        }
+
+        var statistics = QueryBudget.record(
+                () -> cartService.applyCartOperations(actor, new CartBatchRequest(operations)));
+
+        System.out.printf("[PATCH /api/carts/items] 작업 %d건 -> SQL %d건%n",
+                operations.size(), statistics.getStatementCount());
+        assertThat(statistics.getStatementCount()).isLessThanOrEqualTo(6);
+        assertThat(statistics.nPlusOneSuspects(2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일괄 변경 - 중간에 잘못된 작업이 있으면 앞선 작업도 반영되지 않음")
+    void apply_InvalidOperation_NothingApplied() {
+        CartBatchRequest request = new CartBatchRequest(List.of(
+                op(SET, menus.get(0), 9),
+                op(REMOVE, menus.get(1), 0),
+                op(ADD, menus.get(3), 0)));
+
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> cartService.applyCartOperations(actor, request));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_QUANTITY);
+        assertUnchanged();
+    }
+
+    @Test
+    @DisplayName("일괄 변경 - 없는 메뉴/품절 메뉴 추가가 있으면 전체 거부")
+    void apply_UnknownOrSoldOutMenu_NothingApplied() {
+        CartBatchRequest unknown = new CartBatchRequest(List.of(
+                op(SET, menus.get(0), 9),
+                new CartItemOperation(ADD, -1L, 1)));
+        CartBatchRequest soldOut = new CartBatchRequest(List.of(
+                op(REMOVE, menus.get(0), 0),
+                op(ADD, soldOutMenu, 1)));
+
+        BusinessException notFound = assertThrows(BusinessException.class,
+                () -> cartService.applyCartOperations(actor, unknown));
+        BusinessException rejected = assertThrows(BusinessException.class,
+                () -> cartService.applyCartOperations(actor, soldOut));
+
+        assertThat(notFound.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_PRODUCT);
+        assertThat(rejected.getErrorCode()).isEqualTo(ErrorCode.SOLD_OUT_ADD_CART);
+        assertUnchanged();
+    }
+
+    @Test
+    @DisplayName("일괄 변경 - 최대 수량을 넘는 작업/ADD 합계는 전체 거부 (int 넘침으로 음수 수량이 저장되지 않음)")
+    void apply_QuantityOverMax_NothingApplied() {
+        CartBatchRequest overflow = new CartBatchRequest(List.of(
+                op(ADD, menus.get(0), 5),
+                op(ADD, menus.get(0), Integer.MAX_VALUE)));
+        CartBatchRequest folded = new CartBatchRequest(List.of(
+                op(ADD, menus.get(1), CartItemOperation.MAX_QUANTITY),
+                op(ADD, menus.get(1), 1)));
+
+        BusinessException tooLarge = assertThrows(BusinessException.class,
+                () -> cartService.applyCartOperations(actor, overflow));
+        BusinessException overMax = assertThrows(BusinessException.class,
+                () -> cartService.applyCartOperations(actor, folded));
+
+        assertThat(tooLarge.getErrorCode()).isEqualTo(ErrorCode.EXCEEDED_MAX_QUANTITY);
+        assertThat(overMax.getErrorCode()).isEqualTo(ErrorCode.EXCEEDED_MAX_QUANTITY);
+        assertUnchanged();
+    }
+
+    private void assertUnchanged() {
+        List<Cart> rows = cartRepository.findByUser_UserId(actor.userId());
+        assertThat(rows).hasSize(3);
+        assertThat(rows).allSatisfy(cart -> assertThat(cart.getQuantity()).isEqualTo(1));
+    }
+
+    private static CartItemOperation op(CartItemOperation.Type type, Menu menu, int quantity) {
+        return new CartItemOperation(type, menu.getMenuId(), quantity);
+    }
+
+    private static Map<Long, Integer> quantities(List<CartResponse> items) {
+        return items.stream().collect(Collectors.toMap(CartResponse::getMenuId, CartResponse::getQuantity));
+    }
+}
@@ -0,0 +1,243 @@
+package com.backend.domain.cart.service;
+
+import com.backend.domain.cart.entity.Cart;
+import com.backend.domain.cart.repository.CartRepository;
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.repository.MenuRepository;
+import com.backend.domain.order.dto.request.OrderCreateRequest;
+import com.backend.domain.order.dto.request.OrderDetailsCreateRequest;
+import com.backend.domain.order.pricing.OrderPricing;
+import com.backend.domain.order.service.OrderService;
+import com.backend.domain.payment.service.PaymentProcessor;
+import com.backend.domain.user.address.dto.AddressDto;
+import com.backend.domain.user.address.entity.Address;
+import com.backend.domain.user.address.repository.AddressRepository;
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.domain.user.user.entity.Users;
+import com.backend.domain.user.user.repository.UserRepository;
+import com.backend.global.sql.QueryBudget;
+import com.backend.global.sql.SqlRequestStatistics;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장바구니 벌크 삭제 테스트
+ * - 주문한 메뉴 삭제 / 장바구니 비우기가 엔티티를 읽지 않는 DELETE 한 문장
+ * - 같은 트랜잭션에서 이미 읽은 장바구니 엔티티는 분리되어 삭제된 행이 다시 보이거나 UPDATE 되지 않음
+ * - 이전 방식(엔티티 조회 후 deleteAll)과 SQL 수 / 소요 시간 비교 출력
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CartBulkDeleteTest {
+
+    private static final int ITEM_COUNT = 20;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    private Users user;
+    private UserDto actor;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new Users("cart-bulk-" + System.nanoTime() + "@example.com",
+                "password123", "010-1234-5678", 1));
+        actor = new UserDto(user);
+    }
+
+    @Test
+    @DisplayName("주문한 메뉴 삭제 - 항목 20개도 DELETE 1건, 주문하지 않은 항목은 남음")
+    void deleteOrderedItems_SingleStatement() throws Exception {
+        List<Menu> menus = fillCart(ITEM_COUNT + 2);
+        List<Long> ordered = menuIds(menus.subList(0, ITEM_COUNT));
+
+        QueryBudget.of("deleteOrderedItems").maxStatements(1)
+                .verify(() -> {
+                    cartService.deleteOrderedItems(actor, ordered);
+                    return null;
+                });
+
+        assertThat(cartRepository.findByUser_UserId(user.getUserId()))
+                .extracting(cart -> cart.getMenu().getMenuId())
+                .containsExactlyInAnyOrderElementsOf(menuIds(menus.subList(ITEM_COUNT, ITEM_COUNT + 2)));
+    }
+
+    @Test
+    @DisplayName("장바구니 비우기 - DELETE 1건, 다른 사용자 장바구니는 그대로")
+    void clearCart_SingleStatement() throws Exception {
+        fillCart(ITEM_COUNT);
+        Users other = userRepository.save(new Users("cart-bulk-other-" + System.nanoTime() + "@example.com",
+                "password123", "010-1234-5678", 1));
+        Menu menu = menuRepository.save(Menu.builder().name("다른 사용자 원두").price(1000).build());
+        cartRepository.save(Cart.builder().user(other).menu(menu).quantity(1).build());
+
+        QueryBudget.of("DELETE /api/carts").maxStatements(1)
+                .verify(() -> {
+                    cartService.clearCart(actor);
+                    return null;
+                });
+
+        assertThat(cartRepository.findByUser_UserId(user.getUserId())).isEmpty();
+        assertThat(cartRepository.findByUser_UserId(other.getUserId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("영속성 컨텍스트 - 이미 읽고 수정한 항목도 삭제 후 분리되어 커밋 시 UPDATE 하지 않음")
+    void bulkDelete_DetachesLoadedEntities() {
+        List<Menu> menus = fillCart(3);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Cart> loaded = cartRepository.findByUser_UserId(user.getUserId());
+            loaded.forEach(cart -> cart.updateQuantity(cart.getQuantity() + 1));
+
+            cartService.deleteOrderedItems(actor, menuIds(menus.subList(0, 2)));
+
+            Long keptMenuId = menus.get(2).getMenuId();
+            assertThat(loaded).allSatisfy(cart -> assertThat(entityManager.contains(cart))
+                    .isEqualTo(cart.getMenu().getMenuId().equals(keptMenuId)));
+            assertThat(cartRepository.findByUser_UserId(user.getUserId())).hasSize(1);
+        });
+
+        List<Cart> remaining = cartRepository.findByUser_UserId(user.getUserId());
+        assertThat(remaining).hasSize(1);
+        assertThat(remaining.get(0).getQuantity()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 장바구니 DELETE 는 주문 INSERT 뒤 1건, 주문한 항목만 삭제")
+    void createOrder_DeletesOrderedItemsLast() throws Exception {
+        List<Menu> menus = fillCart(ITEM_COUNT + 1);
+        Address address = addressRepository.save(new Address(user,
+                new AddressDto(null, user.getUserId(), "서울시 강남구 테헤란로", "123번길 456호", "12345")));
+
+        List<OrderDetailsCreateRequest> items = new ArrayList<>();
+        int itemsTotal = 0;
+        for (Menu menu : menus.subList(0, ITEM_COUNT)) {
+            items.add(new OrderDetailsCreateRequest(menu.getMenuId(), menu.getName(), 1, menu.getPrice()));
+            itemsTotal += menu.getPrice();
+        }
+        OrderCreateRequest request = new OrderCreateRequest(OrderPricing.quote(itemsTotal).total(),
+                address.getAddressId(), items);
+
+        SqlRequestStatistics statistics = QueryBudget.record(() -> orderService.createOrder(actor, request));
+
+        long cartDeletes = statistics.getExecutions().entrySet().stream()
+                .filter(entry -> isCartDelete(entry.getKey()))
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+        System.out.printf("[createOrder] 항목 %d개 -> SQL %d건 (장바구니 DELETE %d건)%n",
+                ITEM_COUNT, statistics.getStatementCount(), cartDeletes);
+        assertThat(cartDeletes).isEqualTo(1);
+        assertThat(cartRepository.findByUser_UserId(user.getUserId()))
+                .extracting(cart -> cart.getMenu().getMenuId())
+                .containsExactly(menus.get(ITEM_COUNT).getMenuId());
+    }
+
+    @ParameterizedTest(name = "장바구니 {0}개")
+    @ValueSource(ints = {5, 20, 50})
+    @DisplayName("이전 방식(조회 후 deleteAll) 대비 SQL 실행 수 / 소요 시간")
+    void bulkDelete_ComparedToLoadAndDeleteAll(int basketSize) throws Exception {
+        Statistics hibernate = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 이전 방식 - 엔티티를 읽어 행마다 DELETE (JDBC 배치로 묶여도 DB 에서는 행 수만큼 실행)
+        List<Long> legacyIds = cartIds(fillCart(basketSize));
+        hibernate.clear();
+        SqlRequestStatistics legacy = QueryBudget.record(() -> transactionTemplate.execute(
+                status -> {
+                    cartRepository.deleteAll(cartRepository.findAllById(legacyIds));
+                    return null;
+                }));
+        long legacyEntityDeletes = hibernate.getEntityDeleteCount();
+
+        // 벌크 DELETE
+        List<Long> ordered = menuIds(fillCart(basketSize));
+        hibernate.clear();
+        SqlRequestStatistics bulk = QueryBudget.record(() -> {
+            cartService.deleteOrderedItems(actor, ordered);
+            return null;
+        });
+
+        System.out.printf("[장바구니 삭제 %d개] 조회+deleteAll: SQL %d건(행 DELETE %d건) %.2fms / 벌크: SQL %d건 %.2fms%n",
+                basketSize, legacy.getStatementCount(), legacyEntityDeletes, legacy.getElapsedNanos() / 1e6,
+                bulk.getStatementCount(), bulk.getElapsedNanos() / 1e6);
+
+        assertThat(legacyEntityDeletes).isEqualTo(basketSize);
+        assertThat(bulk.getStatementCount()).isEqualTo(1);
+        assertThat(hibernate.getEntityDeleteCount()).isZero();
+        assertThat(hibernate.getEntityLoadCount()).isZero();
+        assertThat(cartRepository.findByUser_UserId(user.getUserId())).isEmpty();
+    }
+
+    private List<Menu> fillCart(int count) {
+        List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Menu menu = menuRepository.save(Menu.builder().name("벌크 삭제 원두 " + i).price(1000 + i).build());
+            cartRepository.save(Cart.builder().user(user).menu(menu).quantity(1).build());
+            menus.add(menu);
+        }
+        return menus;
+    }
+
+    private List<Long> cartIds(List<Menu> menus) {
+        List<Long> menuIds = menuIds(menus);
+        return cartRepository.findByUser_UserId(user.getUserId()).stream()
+                .filter(cart -> menuIds.contains(cart.getMenu().getMenuId()))
+                .map(Cart::getId)
+                .toList();
+    }
+
+    private static List<Long> menuIds(List<Menu> menus) {
+        return menus.stream().map(Menu::getMenuId).toList();
+    }
+
+    // use_sql_comments 로 앞에 JPQL 주석이 붙으므로 본문 포함 여부로 판단
+    private static boolean isCartDelete(String sql) {
+        return sql.toLowerCase(Locale.ROOT).contains("delete from cart");
+    }
+}
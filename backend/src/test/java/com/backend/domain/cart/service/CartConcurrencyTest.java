@@ -0,0 +1,174 @@
+package com.backend.domain.cart.service;
+
+import com.backend.domain.cart.controller.dto.request.CartAddRequest;
+import com.backend.domain.cart.controller.dto.request.CartItemOperation;
+import com.backend.domain.cart.controller.dto.response.CartResponse;
+import com.backend.domain.cart.entity.Cart;
+import com.backend.domain.cart.repository.CartRepository;
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.repository.MenuRepository;
+import com.backend.domain.payment.service.PaymentProcessor;
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.domain.user.user.entity.Users;
+import com.backend.domain.user.user.repository.UserRepository;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+import com.backend.global.sql.QueryBudget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 장바구니 담기 동시성 테스트
+ * - (userId, menuId) 유니크 제약 + upsert 한 문장으로 중복 행/수량 누락 방지
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CartConcurrencyTest {
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    private UserDto actor;
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        Users user = userRepository.save(new Users("cart-upsert-" + System.nanoTime() + "@example.com",
+                "password123", "010-1234-5678", 1));
+        actor = new UserDto(user);
+        menu = menuRepository.save(Menu.builder().name("동시성 원두").price(10000).build());
+    }
+
+    @Test
+    @DisplayName("같은 메뉴 동시 담기 - 행은 1개, 수량은 요청 합계")
+    void concurrentAdd_SingleRowWithSummedQuantity() throws Exception {
+        // Given
+        int threadCount = 16;
+        int quantityPerRequest = 2;
+        CartAddRequest request = addRequest(menu.getMenuId(), quantityPerRequest);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        List<Exception> exceptions = new CopyOnWriteArrayList<>();
+
+        // When - 모든 스레드가 동시에 같은 메뉴를 담음
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    cartService.addCartItem(actor, request);
+                } catch (Exception e) {
+                    exceptions.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await(10, TimeUnit.SECONDS);
+        start.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // Then
+        assertThat(exceptions).isEmpty();
+
+        List<Cart> rows = cartRepository.findByUser_UserId(actor.userId());
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getQuantity()).isEqualTo(threadCount * quantityPerRequest);
+        assertThat(rows.get(0).getOrderAmount()).isEqualTo(threadCount * quantityPerRequest * menu.getPrice());
+    }
+
+    @Test
+    @DisplayName("이미 담긴 메뉴 - 수량과 금액이 누적되고 같은 항목 ID 유지")
+    void add_ExistingItem_AccumulatesQuantity() throws Exception {
+        CartResponse first = cartService.addCartItem(actor, addRequest(menu.getMenuId(), 1));
+        CartResponse second = cartService.addCartItem(actor, addRequest(menu.getMenuId(), 3));
+
+        assertThat(second.getCartId()).isEqualTo(first.getCartId());
+        assertThat(second.getQuantity()).isEqualTo(4);
+        assertThat(second.getOrderAmount()).isEqualTo(4 * menu.getPrice());
+    }
+
+    @Test
+    @DisplayName("이미 담긴 메뉴 - 더한 수량은 최대 수량에서 멈추고 금액도 그 수량으로 계산")
+    void add_ExistingItem_ClampedAtMaxQuantity() throws Exception {
+        cartService.addCartItem(actor, addRequest(menu.getMenuId(), CartItemOperation.MAX_QUANTITY - 5));
+        CartResponse added = cartService.addCartItem(actor, addRequest(menu.getMenuId(), 20));
+
+        assertThat(added.getQuantity()).isEqualTo(CartItemOperation.MAX_QUANTITY);
+        assertThat(added.getOrderAmount()).isEqualTo(CartItemOperation.MAX_QUANTITY * menu.getPrice());
+    }
+
+    @Test
+    @DisplayName("담기 - 최대 수량을 넘는 요청은 EXCEEDED_MAX_QUANTITY")
+    void add_OverMaxQuantity() throws Exception {
+        CartAddRequest request = addRequest(menu.getMenuId(), CartItemOperation.MAX_QUANTITY + 1);
+
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> cartService.addCartItem(actor, request));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.EXCEEDED_MAX_QUANTITY);
+        assertThat(cartRepository.findByUser_UserId(actor.userId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("담기 - 사용자 조회 없이 upsert 1건 + 응답용 조회 1건 (메뉴는 2차 캐시)")
+    void add_StatementBudget() throws Exception {
+        menuRepository.findById(menu.getMenuId()); // 2차 캐시 적재
+
+        CartAddRequest request = addRequest(menu.getMenuId(), 1);
+        QueryBudget.of("POST /api/carts").maxStatements(3)
+                .verify(() -> cartService.addCartItem(actor, request));
+    }
+
+    @Test
+    @DisplayName("담기 - 수량이 0 이하이면 INVALID_QUANTITY")
+    void add_InvalidQuantity() throws Exception {
+        CartAddRequest request = addRequest(menu.getMenuId(), 0);
+
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> cartService.addCartItem(actor, request));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_QUANTITY);
+        assertThat(cartRepository.findByUser_UserId(actor.userId())).isEmpty();
+    }
+
+    private CartAddRequest addRequest(Long menuId, int quantity) throws Exception {
+        return objectMapper.readValue(
+                "{\"menuId\":" + menuId + ",\"quantity\":" + quantity + "}", CartAddRequest.class);
+    }
+}
@@ -0,0 +1,153 @@
+package com.backend.domain.cart.service;
+
+import com.backend.domain.cart.entity.Cart;
+import com.backend.domain.cart.repository.CartRepository;
+import com.backend.domain.menu.dto.MenuUpdateRequest;
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.event.MenuChangedEvent;
+import com.backend.domain.menu.repository.MenuRepository;
+import com.backend.domain.menu.service.MenuService;
+import com.backend.domain.payment.service.PaymentProcessor;
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.domain.user.user.entity.Users;
+import com.backend.domain.user.user.repository.UserRepository;
+import com.backend.global.sql.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메뉴 가격/품절 변경 후 장바구니 일괄 재계산 테스트
+ * - 메뉴 변경이 커밋되면 그 메뉴를 담은 장바구니만 UPDATE 한 문장(구간별)으로 갱신
+ * - 롤백된 변경은 반영하지 않음
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CartRepricerTest {
+
+    private static final int CART_COUNT = 10;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartRepricer cartRepricer;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    private Menu menu;
+    private Menu otherMenu;
+    private final List<Users> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        long seed = System.nanoTime();
+        menu = menuRepository.save(Menu.builder().name("재계산 원두 " + seed).price(10000).build());
+        otherMenu = menuRepository.save(Menu.builder().name("다른 원두 " + seed).price(8000).build());
+
+        users.clear();
+        for (int i = 0; i < CART_COUNT; i++) {
+            Users user = userRepository.save(new Users("reprice-" + i + "-" + seed + "@example.com",
+                    "password123", "010-1234-5678", 1));
+            users.add(user);
+            cartRepository.save(Cart.builder().user(user).menu(menu).quantity(i + 1).build());
+            cartRepository.save(Cart.builder().user(user).menu(otherMenu).quantity(1).build());
+        }
+    }
+
+    @Test
+    @DisplayName("가격 변경 - 커밋 후 담긴 장바구니 금액이 새 가격으로 재계산, 다른 메뉴는 그대로")
+    void priceChange_RepricesCarts() {
+        menuService.updateMenu(menu.getMenuId(), updateRequest(12000, false));
+
+        for (int i = 0; i < CART_COUNT; i++) {
+            assertThat(orderAmount(users.get(i), menu)).isEqualTo((i + 1) * 12000);
+            assertThat(orderAmount(users.get(i), otherMenu)).isEqualTo(8000);
+        }
+        assertThat(cartService.getCart(new UserDto(users.get(0))).getSubtotal()).isEqualTo(12000 + 8000);
+    }
+
+    @Test
+    @DisplayName("품절 변경 - 담긴 장바구니에 품절 표시, 해제하면 다시 지움")
+    void soldOutChange_FlagsCarts() {
+        UserDto actor = new UserDto(users.get(0));
+
+        menuService.updateMenuSoldOut(menu.getMenuId(), true);
+        assertThat(cartService.getCart(actor).getCartItems())
+                .allSatisfy(item -> assertThat(item.isSoldOut()).isEqualTo(item.getMenuId().equals(menu.getMenuId())));
+
+        menuService.updateMenuSoldOut(menu.getMenuId(), false);
+        assertThat(cartService.getCart(actor).getCartItems()).noneMatch(item -> item.isSoldOut());
+    }
+
+    @Test
+    @DisplayName("구간 나누기 - chunkSize 마다 UPDATE 한 문장, 모든 행이 한 번씩 갱신")
+    void chunked_UpdatesEveryRowOnce() throws Exception {
+        jdbcTemplate.update("update menu set price = 15000 where menu_id = ?", menu.getMenuId());
+
+        var statistics = QueryBudget.record(() -> cartRepricer.reprice(menu.getMenuId(), 3));
+        int updated = cartRepricer.reprice(menu.getMenuId(), 3);
+
+        // 10행 / 3 = 구간 4개 -> 구간마다 상한 조회 1건 + UPDATE 1건
+        assertThat(updated).isEqualTo(CART_COUNT);
+        assertThat(statistics.getStatementCount()).isEqualTo(4 * 2);
+        for (int i = 0; i < CART_COUNT; i++) {
+            assertThat(orderAmount(users.get(i), menu)).isEqualTo((i + 1) * 15000);
+        }
+    }
+
+    @Test
+    @DisplayName("롤백된 메뉴 변경 - 장바구니 재계산 없음")
+    void rolledBackChange_NotApplied() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("update menu set price = 99000 where menu_id = ?", menu.getMenuId());
+            eventPublisher.publishEvent(new MenuChangedEvent(menu.getMenuId(), true, false));
+            status.setRollbackOnly();
+        });
+
+        assertThat(orderAmount(users.get(0), menu)).isEqualTo(10000);
+    }
+
+    private int orderAmount(Users user, Menu target) {
+        return jdbcTemplate.queryForObject("select order_amount from cart where user_id = ? and menu_id = ?",
+                Integer.class, user.getUserId(), target.getMenuId());
+    }
+
+    private MenuUpdateRequest updateRequest(int price, boolean soldOut) {
+        return new MenuUpdateRequest(menu.getName(), price, soldOut, menu.getDescription(), menu.getImageUrl());
+    }
+}
@@ -0,0 +1,165 @@
+package com.backend.domain.cart.service;
+
+import com.backend.domain.cart.entity.Cart;
+import com.backend.domain.cart.repository.CartRepository;
+import com.backend.domain.payment.service.PaymentProcessor;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메뉴 가격 변경 후 장바구니 재계산 속도 (장바구니 100만 행)
+ * - 사용자 20만 명 x 메뉴 5개 = 100만 행, 메뉴마다 20만 행이 담긴 인기 메뉴
+ * - 행 단위: 엔티티를 읽어 updateQuantity 후 flush (재계산 기능 이전에 할 수 있던 방식) - 표본 2만 행으로 측정 후 환산
+ * - 한 문장: UPDATE 한 번에 20만 행
+ * - 구간별: 5000행 구간마다 별도 트랜잭션 UPDATE
+ * 전용 인메모리 DB 를 쓰고 끝나면 컨텍스트를 버림
+ * 기본 test 에서는 제외 - 실행: ./gradlew benchmarkTest (정확성은 CartRepricerTest 에서 확인)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reprice_${random.uuid};MODE=MySQL",
+        "spring.jpa.show-sql=false"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Tag("benchmark")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class CartRepricingBenchmarkTest {
+
+    private static final int USERS = 200_000;
+    private static final int MENUS = 5;
+    private static final int ROWS_PER_MENU = USERS;
+    private static final int PER_ROW_SAMPLE = 20_000;
+    private static final int CHUNK_SIZE = 5_000;
+    private static final int INSERT_BATCH = 5_000;
+
+    @Autowired
+    private CartRepricer cartRepricer;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    @BeforeAll
+    void seed() {
+        long started = System.nanoTime();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        for (int m = 1; m <= MENUS; m++) {
+            jdbcTemplate.update("insert into menu (menu_id, name, price, is_sold_out, create_date, modify_date)"
+                    + " values (?, ?, ?, false, ?, ?)", m, "재계산 벤치 원두 " + m, 10000, now, now);
+        }
+
+        List<Object[]> users = new ArrayList<>(INSERT_BATCH);
+        List<Object[]> carts = new ArrayList<>(INSERT_BATCH);
+        long cartId = 1;
+        for (int u = 1; u <= USERS; u++) {
+            users.add(new Object[]{u, "reprice-bench-" + u + "@example.com", "password123", "010-1234-5678", 1, now, now});
+            for (int m = 1; m <= MENUS; m++) {
+                int quantity = 1 + u % 3;
+                carts.add(new Object[]{cartId++, u, m, quantity, quantity * 10000, now, now});
+            }
+            if (users.size() == INSERT_BATCH || u == USERS) {
+                jdbcTemplate.batchUpdate("insert into users (user_id, email, password, phone_number, level, create_date, modify_date)"
+                        + " values (?, ?, ?, ?, ?, ?, ?)", users);
+                jdbcTemplate.batchUpdate("insert into cart (cart_id, user_id, menu_id, quantity, order_amount, sold_out, create_date, modify_date)"
+                        + " values (?, ?, ?, ?, ?, false, ?, ?)", carts);
+                users.clear();
+                carts.clear();
+            }
+        }
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from cart", Long.class))
+                .isEqualTo((long) USERS * MENUS);
+        System.out.printf("[재계산 벤치] 장바구니 %,d행 생성: %d ms%n", (long) USERS * MENUS,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @Test
+    @DisplayName("재계산 속도 - 행 단위 vs UPDATE 한 문장 vs 구간별 UPDATE")
+    void repricing_Throughput() {
+        // 행 단위 (표본) - 엔티티가 새 가격을 보도록 메뉴 2차 캐시를 비움
+        jdbcTemplate.update("update menu set price = 11000 where menu_id = 1");
+        entityManagerFactory.getCache().evictAll();
+        long perRowNanos = time(() -> transactionTemplate.executeWithoutResult(status -> {
+            List<Long> ids = cartRepository.findIdsByMenuAfter(1L, 0, Limit.of(PER_ROW_SAMPLE));
+            for (Cart cart : cartRepository.findAllById(ids)) {
+                cart.updateQuantity(cart.getQuantity());
+            }
+        }));
+        assertThat(staleRows(1, 11000)).isEqualTo(ROWS_PER_MENU - PER_ROW_SAMPLE);
+        double perRowRate = PER_ROW_SAMPLE / seconds(perRowNanos);
+
+        // UPDATE 한 문장 (구간 크기를 전체 행보다 크게)
+        jdbcTemplate.update("update menu set price = 12000 where menu_id = 2");
+        int[] single = new int[1];
+        long singleNanos = time(() -> single[0] = cartRepricer.reprice(2L, ROWS_PER_MENU + 1));
+
+        // 구간별 UPDATE
+        jdbcTemplate.update("update menu set price = 13000 where menu_id = 3");
+        int[] chunked = new int[1];
+        long chunkedNanos = time(() -> chunked[0] = cartRepricer.reprice(3L, CHUNK_SIZE));
+
+        System.out.printf("[재계산 벤치] 행 단위     : %,d행 %d ms -> %,.0f 행/s (메뉴 1개 %,d행 환산 %,.1f s)%n",
+                PER_ROW_SAMPLE, millis(perRowNanos), perRowRate, ROWS_PER_MENU, ROWS_PER_MENU / perRowRate);
+        System.out.printf("[재계산 벤치] UPDATE 한 문장: %,d행 %d ms -> %,.0f 행/s%n",
+                single[0], millis(singleNanos), single[0] / seconds(singleNanos));
+        System.out.printf("[재계산 벤치] 구간별(%,d)  : %,d행 %d ms -> %,.0f 행/s (구간 %d개)%n",
+                CHUNK_SIZE, chunked[0], millis(chunkedNanos), chunked[0] / seconds(chunkedNanos),
+                (chunked[0] + CHUNK_SIZE - 1) / CHUNK_SIZE);
+
+        assertThat(single[0]).isEqualTo(ROWS_PER_MENU);
+        assertThat(chunked[0]).isEqualTo(ROWS_PER_MENU);
+        assertThat(staleRows(2, 12000)).isZero();
+        assertThat(staleRows(3, 13000)).isZero();
+        assertThat(staleRows(4, 10000)).isZero();
+    }
+
+    private long staleRows(long menuId, int price) {
+        return jdbcTemplate.queryForObject("select count(*) from cart where menu_id = ? and order_amount <> quantity * ?",
+                Long.class, menuId, price);
+    }
+
+    private static long time(Runnable action) {
+        long started = System.nanoTime();
+        action.run();
+        return System.nanoTime() - started;
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -0,0 +1,142 @@
+package com.backend.domain.cart.service;
+
+import com.backend.domain.cart.controller.dto.response.CartListResponse;
+import com.backend.domain.cart.entity.Cart;
+import com.backend.domain.cart.repository.CartRepository;
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.repository.MenuRepository;
+import com.backend.domain.order.dto.request.OrderCreateRequest;
+import com.backend.domain.order.dto.request.OrderDetailsCreateRequest;
+import com.backend.domain.order.entity.Orders;
+import com.backend.domain.order.pricing.OrderPricing;
+import com.backend.domain.order.service.OrderService;
+import com.backend.domain.payment.service.PaymentProcessor;
+import com.backend.domain.user.address.dto.AddressDto;
+import com.backend.domain.user.address.entity.Address;
+import com.backend.domain.user.address.repository.AddressRepository;
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.domain.user.user.entity.Users;
+import com.backend.domain.user.user.repository.UserRepository;
+import com.backend.global.sql.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장바구니 조회 테스트
+ * - 항목 수와 무관하게 SQL 1건 (메뉴 조인 DTO 투영)
+ * - 상품 합계/배송비/총액을 서버에서 계산하고, 총액은 주문 생성 검증을 그대로 통과
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CartViewTest {
+
+    private static final int ITEM_COUNT = 20;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    private Users user;
+    private UserDto actor;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new Users("cart-view-" + System.nanoTime() + "@example.com",
+                "password123", "010-1234-5678", 1));
+        actor = new UserDto(user);
+    }
+
+    @Test
+    @DisplayName("장바구니 조회 - 항목 20개도 SQL 1건, N+1 없음")
+    void getCart_SingleStatement() throws Exception {
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            Menu menu = menuRepository.save(Menu.builder().name("조회 원두 " + i).price(1000).build());
+            cartRepository.save(Cart.builder().user(user).menu(menu).quantity(1).build());
+        }
+
+        var statistics = QueryBudget.record(() -> cartService.getCart(actor));
+        CartListResponse cart = QueryBudget.of("GET /api/carts").maxStatements(1)
+                .verify(() -> cartService.getCart(actor));
+
+        System.out.printf("[GET /api/carts] 항목 %d개 -> SQL %d건%n", ITEM_COUNT, statistics.getStatementCount());
+        assertThat(statistics.nPlusOneSuspects(2)).isEmpty();
+        assertThat(cart.getCartItems()).hasSize(ITEM_COUNT);
+        assertThat(cart.getCartItems()).allSatisfy(item -> assertThat(item.getName()).startsWith("조회 원두"));
+    }
+
+    @Test
+    @DisplayName("장바구니 조회 - 5만원 미만은 배송비 포함, 이상은 무료 배송")
+    void getCart_ShippingFee() throws Exception {
+        Menu menu = menuRepository.save(Menu.builder().name("배송비 원두").price(20000).build());
+        cartRepository.save(Cart.builder().user(user).menu(menu).quantity(2).build());
+
+        CartListResponse belowThreshold = cartService.getCart(actor);
+        assertThat(belowThreshold.getSubtotal()).isEqualTo(40000);
+        assertThat(belowThreshold.getShippingFee()).isEqualTo(OrderPricing.SHIPPING_FEE);
+        assertThat(belowThreshold.getGrandTotal()).isEqualTo(40000 + OrderPricing.SHIPPING_FEE);
+
+        // 트랜잭션 밖에서 읽은 항목은 메뉴가 지연 로딩 프록시라 수량 변경 대신 항목을 하나 더 담음
+        Menu another = menuRepository.save(Menu.builder().name("배송비 디카페인").price(20000).build());
+        cartRepository.save(Cart.builder().user(user).menu(another).quantity(1).build());
+
+        CartListResponse aboveThreshold = cartService.getCart(actor);
+        assertThat(aboveThreshold.getSubtotal()).isEqualTo(60000);
+        assertThat(aboveThreshold.getShippingFee()).isZero();
+        assertThat(aboveThreshold.getGrandTotal()).isEqualTo(60000);
+    }
+
+    @Test
+    @DisplayName("장바구니 조회 - 빈 장바구니는 배송비 없이 0원")
+    void getCart_Empty() {
+        CartListResponse cart = cartService.getCart(actor);
+
+        assertThat(cart.getCartItems()).isEmpty();
+        assertThat(cart.getShippingFee()).isZero();
+        assertThat(cart.getGrandTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("장바구니 총액 - 주문 생성의 금액 검증을 그대로 통과")
+    void grandTotal_AcceptedByCreateOrder() throws Exception {
+        Menu menu = menuRepository.save(Menu.builder().name("주문 원두").price(12000).build());
+        cartRepository.save(Cart.builder().user(user).menu(menu).quantity(3).build());
+        Address address = addressRepository.save(new Address(user,
+                new AddressDto(null, user.getUserId(), "서울시 강남구 테헤란로", "123번길 456호", "12345")));
+
+        CartListResponse cart = cartService.getCart(actor);
+        OrderCreateRequest request = new OrderCreateRequest(cart.getGrandTotal(), address.getAddressId(),
+                cart.getCartItems().stream()
+                        .map(item -> new OrderDetailsCreateRequest(item.getMenuId(), item.getName(),
+                                item.getQuantity(), item.getOrderAmount()))
+                        .toList());
+
+        Orders order = orderService.createOrder(actor, request);
+
+        assertThat(order.getOrderAmount()).isEqualTo(cart.getGrandTotal());
+        assertThat(cartService.getCart(actor).getCartItems()).isEmpty();
+    }
+}
@@ -0,0 +1,163 @@
+package com.backend.domain.cart.store;
+
+import com.backend.domain.cart.entity.Cart;
+import com.backend.domain.cart.repository.CartRepository;
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.repository.MenuRepository;
+import com.backend.domain.payment.service.PaymentProcessor;
+import com.backend.domain.user.user.entity.Users;
+import com.backend.domain.user.user.repository.UserRepository;
+import com.backend.global.sql.QueryBudget;
+import com.backend.global.sql.SqlRequestStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장바구니 수량 변경 처리량 (ops/s)
+ * - DB 직접 반영: 요청마다 메뉴 조회 + 장바구니 조회 + UPDATE (쓰기 지연 이전 CartService 경로)
+ * - 쓰기 지연: 메모리 반영 후 마지막에 한 번 flush (flush 시간 포함)
+ * - 사용자별 집계이므로 사용자가 다르면 스레드끼리 경합하지 않음
+ * 기본 test 에서는 제외 - 실행: ./gradlew benchmarkTest (정확성은 CartWriteBehindStoreTest 에서 확인)
+ */
+@SpringBootTest(properties = {
+        "custom.cart.write-behind.enabled=true",
+        "custom.cart.write-behind.flushIntervalMillis=3600000",
+        "spring.jpa.show-sql=false"
+})
+@ActiveProfiles("test")
+@Tag("benchmark")
+class CartWriteBehindBenchmarkTest {
+
+    private static final int USERS = 8;
+    private static final int LINES = 10;
+    private static final int OPERATIONS = 2_000;
+    private static final int CONCURRENT_OPERATIONS = 50_000;
+
+    @Autowired
+    private CartWriteBehindStore cartWriteBehindStore;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> menuIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < LINES; i++) {
+            menus.add(menuRepository.save(Menu.builder().name("처리량 원두 " + i).price(1000 + i).build()));
+            menuIds.add(menus.get(i).getMenuId());
+        }
+        for (int u = 0; u < USERS; u++) {
+            Users user = userRepository.save(new Users("cart-bench-" + u + "-" + System.nanoTime() + "@example.com",
+                    "password123", "010-1234-5678", 1));
+            userIds.add(user.getUserId());
+            for (Menu menu : menus) {
+                cartRepository.save(Cart.builder().user(user).menu(menu).quantity(1).build());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("수량 변경 처리량 - DB 직접 반영 vs 쓰기 지연")
+    void updateQuantity_Throughput() throws Exception {
+        Long userId = userIds.get(0);
+
+        // DB 직접 반영 (워밍업 후 측정)
+        writeThrough(userId, OPERATIONS / 10);
+        long started = System.nanoTime();
+        SqlRequestStatistics writeThroughSql = QueryBudget.record(() -> writeThrough(userId, OPERATIONS));
+        double writeThroughOps = OPERATIONS / ((System.nanoTime() - started) / 1e9);
+
+        // 쓰기 지연 (반영까지 포함)
+        writeBehind(userId, OPERATIONS / 10);
+        cartWriteBehindStore.flush();
+        started = System.nanoTime();
+        SqlRequestStatistics writeBehindSql = QueryBudget.record(() -> {
+            writeBehind(userId, OPERATIONS);
+            return cartWriteBehindStore.flush();
+        });
+        double writeBehindOps = OPERATIONS / ((System.nanoTime() - started) / 1e9);
+
+        System.out.printf("DB 직접 반영: %.0f ops/s, SQL %.2f개/변경%n",
+                writeThroughOps, (double) writeThroughSql.getStatementCount() / OPERATIONS);
+        System.out.printf("쓰기 지연   : %.0f ops/s, SQL %.4f개/변경%n",
+                writeBehindOps, (double) writeBehindSql.getStatementCount() / OPERATIONS);
+
+        // 변경 2,000건이 항목 수(10)만큼의 배치 UPDATE 로 합쳐짐
+        assertThat(writeBehindSql.getStatementCount()).isLessThanOrEqualTo(LINES);
+        assertThat(writeBehindOps).isGreaterThan(writeThroughOps);
+    }
+
+    @Test
+    @DisplayName("동시 수량 변경 처리량 - 사용자 8명, 스레드 8개")
+    void updateQuantity_ConcurrentThroughput() throws Exception {
+        userIds.forEach(cartWriteBehindStore::getCart);
+
+        ExecutorService executor = Executors.newFixedThreadPool(USERS);
+        try {
+            long started = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (Long userId : userIds) {
+                futures.add(executor.submit(() -> writeBehind(userId, CONCURRENT_OPERATIONS / USERS)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            int flushed = cartWriteBehindStore.flush();
+            double ops = CONCURRENT_OPERATIONS / ((System.nanoTime() - started) / 1e9);
+
+            System.out.printf("쓰기 지연 (%d 스레드): %.0f ops/s, UPDATE %d건%n", USERS, ops, flushed);
+            assertThat(flushed).isEqualTo(USERS * LINES);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int writeThrough(Long userId, int operations) {
+        for (int i = 0; i < operations; i++) {
+            Long menuId = menuIds.get(i % LINES);
+            int quantity = i % 9 + 1;
+            transactionTemplate.executeWithoutResult(status -> {
+                menuRepository.findById(menuId).orElseThrow();
+                cartRepository.findByUser_UserIdAndMenu_MenuId(userId, menuId).orElseThrow().updateQuantity(quantity);
+            });
+        }
+        return operations;
+    }
+
+    private int writeBehind(Long userId, int operations) {
+        for (int i = 0; i < operations; i++) {
+            cartWriteBehindStore.updateQuantity(userId, menuIds.get(i % LINES), i % 9 + 1);
+        }
+        return operations;
+    }
+}
@@ -0,0 +1,225 @@
+package com.backend.domain.cart.store;
+
+import com.backend.domain.cart.controller.dto.request.CartItemOperation;
+import com.backend.domain.cart.controller.dto.request.CartUpdateRequest;
+import com.backend.domain.cart.controller.dto.response.CartListResponse;
+import com.backend.domain.cart.controller.dto.response.CartResponse;
+import com.backend.domain.cart.entity.Cart;
+import com.backend.domain.cart.repository.CartRepository;
+import com.backend.domain.cart.service.CartService;
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.repository.MenuRepository;
+import com.backend.domain.order.dto.request.OrderCreateRequest;
+import com.backend.domain.order.dto.request.OrderDetailsCreateRequest;
+import com.backend.domain.order.service.OrderService;
+import com.backend.domain.payment.service.PaymentProcessor;
+import com.backend.domain.user.address.dto.AddressDto;
+import com.backend.domain.user.address.entity.Address;
+import com.backend.domain.user.address.repository.AddressRepository;
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.domain.user.user.entity.Users;
+import com.backend.domain.user.user.repository.UserRepository;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+import com.backend.global.sql.QueryBudget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 장바구니 쓰기 지연 테스트
+ * - 수량 변경 / 조회는 SQL 없이 메모리에서 처리하고, 반영 때 항목별 마지막 값만 기록
+ * - 주문 생성 / 롤백 시에도 모아 둔 변경이 유실되지 않는지
+ */
+@SpringBootTest(properties = {
+        "custom.cart.write-behind.enabled=true",
+        // 주기 반영이 테스트 중간에 끼어들지 않도록
+        "custom.cart.write-behind.flushIntervalMillis=3600000"
+})
+@ActiveProfiles("test")
+class CartWriteBehindStoreTest {
+
+    @SpyBean
+    private CartWriteBehindStore cartWriteBehindStore;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    private UserDto actor;
+    private Address address;
+    private Menu bean;
+    private Menu decaf;
+    private Cart beanCart;
+    private Cart decafCart;
+
+    @BeforeEach
+    void setUp() {
+        Users user = userRepository.save(new Users("write-behind-" + System.nanoTime() + "@example.com",
+                "password123", "010-1234-5678", 1));
+        actor = new UserDto(user);
+        address = addressRepository.save(new Address(user,
+                new AddressDto(null, user.getUserId(), "서울시 강남구 테헤란로", "123번길 456호", "12345")));
+        bean = menuRepository.save(Menu.builder().name("쓰기 지연 원두").price(10000).build());
+        decaf = menuRepository.save(Menu.builder().name("쓰기 지연 디카페인").price(12000).build());
+        beanCart = cartRepository.save(Cart.builder().user(user).menu(bean).quantity(1).build());
+        decafCart = cartRepository.save(Cart.builder().user(user).menu(decaf).quantity(1).build());
+    }
+
+    @Test
+    @DisplayName("수량 변경 - 쓰기 지연 모드에서는 트랜잭션을 열지 않음 (커넥션을 빌리지 않음)")
+    void updateQuantity_NoTransaction() throws Exception {
+        cartService.getCart(actor);
+        List<Boolean> transactionActive = new ArrayList<>();
+        doAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(cartWriteBehindStore).updateQuantity(any(), any(), anyInt());
+
+        CartResponse response = cartService.updateCartItemQuantity(actor, bean.getMenuId(),
+                objectMapper.readValue("{\"quantity\":3}", CartUpdateRequest.class));
+
+        assertThat(response.getQuantity()).isEqualTo(3);
+        assertThat(transactionActive).containsExactly(false);
+    }
+
+    @Test
+    @DisplayName("수량 변경 - 메모리에서만 처리하고 반영 때 항목별 마지막 값 한 건씩 기록")
+    void updates_CoalescedUntilFlush() throws Exception {
+        // Given - 첫 조회에서 한 번 적재
+        cartService.getCart(actor);
+
+        // When - +/- 연타
+        QueryBudget.of("PUT /api/carts/items/{menuId}").maxStatements(0).verify(() -> {
+            for (int quantity = 1; quantity <= 10; quantity++) {
+                cartWriteBehindStore.updateQuantity(actor.userId(), bean.getMenuId(), quantity);
+                cartWriteBehindStore.updateQuantity(actor.userId(), decaf.getMenuId(), 11 - quantity);
+            }
+            return cartService.updateCartItemQuantity(actor, bean.getMenuId(),
+                    objectMapper.readValue("{\"quantity\":7}", CartUpdateRequest.class));
+        });
+        CartListResponse cart = QueryBudget.of("GET /api/carts").maxStatements(0)
+                .verify(() -> cartService.getCart(actor));
+
+        // Then - 조회는 메모리 값, DB 는 아직 이전 값
+        assertThat(cart.getCartItems())
+                .extracting(CartResponse::getMenuId, CartResponse::getQuantity)
+                .containsExactlyInAnyOrder(tuple(bean.getMenuId(), 7), tuple(decaf.getMenuId(), 1));
+        assertThat(cart.getSubtotal()).isEqualTo(7 * 10000 + 12000);
+        assertThat(quantityInDb(beanCart)).isEqualTo(1);
+
+        // 반영 - 변경 21건이 항목별 한 건으로 합쳐짐
+        assertThat(cartWriteBehindStore.flush()).isEqualTo(2);
+        assertThat(quantityInDb(beanCart)).isEqualTo(7);
+        assertThat(jdbcTemplate.queryForObject("select order_amount from cart where cart_id = ?",
+                Integer.class, beanCart.getId())).isEqualTo(70000);
+        assertThat(cartWriteBehindStore.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 모아 둔 변경을 같은 트랜잭션에서 먼저 반영하고 집계를 다시 적재")
+    void createOrder_FlushesPendingChanges() throws Exception {
+        // Given
+        cartWriteBehindStore.updateQuantity(actor.userId(), bean.getMenuId(), 5);
+
+        // When - 디카페인만 주문
+        orderService.createOrder(actor, new OrderCreateRequest(15000, address.getAddressId(),
+                List.of(new OrderDetailsCreateRequest(decaf.getMenuId(), decaf.getName(), 1, 12000))));
+
+        // Then
+        assertThat(quantityInDb(beanCart)).isEqualTo(5);
+        assertThat(cartRepository.findById(decafCart.getId())).isEmpty();
+        assertThat(cartService.getCart(actor).getCartItems())
+                .extracting(CartResponse::getMenuId, CartResponse::getQuantity)
+                .containsExactly(tuple(bean.getMenuId(), 5));
+    }
+
+    @Test
+    @DisplayName("롤백 - 트랜잭션 안에서 기록했던 변경을 보관했다가 다음 반영 때 기록")
+    void rollback_KeepsPendingChanges() {
+        // Given
+        cartWriteBehindStore.updateQuantity(actor.userId(), bean.getMenuId(), 4);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            cartWriteBehindStore.flushForChange(actor.userId());
+            status.setRollbackOnly();
+        });
+
+        // Then - DB 는 그대로지만 다시 적재한 집계에는 보관한 값이 보임
+        assertThat(quantityInDb(beanCart)).isEqualTo(1);
+        assertThat(cartWriteBehindStore.getCart(actor.userId()).getCartItems())
+                .filteredOn(item -> item.getMenuId().equals(bean.getMenuId()))
+                .extracting(CartResponse::getQuantity)
+                .containsExactly(4);
+
+        assertThat(cartWriteBehindStore.flush()).isEqualTo(1);
+        assertThat(quantityInDb(beanCart)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("수량 변경 실패 - 장바구니에 없는 메뉴 / 0 이하 수량 / 최대 수량 초과")
+    void updateQuantity_Invalid() {
+        Menu other = menuRepository.save(Menu.builder().name("담지 않은 원두").price(9000).build());
+
+        BusinessException notInCart = assertThrows(BusinessException.class,
+                () -> cartWriteBehindStore.updateQuantity(actor.userId(), other.getMenuId(), 1));
+        BusinessException invalidQuantity = assertThrows(BusinessException.class,
+                () -> cartWriteBehindStore.updateQuantity(actor.userId(), bean.getMenuId(), 0));
+        BusinessException overMax = assertThrows(BusinessException.class, () -> cartWriteBehindStore.updateQuantity(
+                actor.userId(), bean.getMenuId(), CartItemOperation.MAX_QUANTITY + 1));
+
+        assertThat(notInCart.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_PRODUCT);
+        assertThat(invalidQuantity.getErrorCode()).isEqualTo(ErrorCode.INVALID_QUANTITY);
+        assertThat(overMax.getErrorCode()).isEqualTo(ErrorCode.EXCEEDED_MAX_QUANTITY);
+    }
+
+    private int quantityInDb(Cart cart) {
+        return jdbcTemplate.queryForObject("select quantity from cart where cart_id = ?", Integer.class, cart.getId());
+    }
+}
@@ -0,0 +1,128 @@
+package com.backend.domain.order.service;
+
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.repository.MenuRepository;
+import com.backend.domain.order.dto.request.OrderCreateRequest;
+import com.backend.domain.order.dto.request.OrderDetailsCreateRequest;
+import com.backend.domain.payment.service.PaymentProcessor;
+import com.backend.domain.user.address.dto.AddressDto;
+import com.backend.domain.user.address.entity.Address;
+import com.backend.domain.user.address.repository.AddressRepository;
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.domain.user.user.entity.Users;
+import com.backend.domain.user.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 생성 SQL 실행 수 / 지연 측정
+ * - 장바구니 크기별로 createOrder 를 반복 실행해 준비된 SQL 수와 평균 지연을 출력
+ * - 주문 상세 INSERT 가 JDBC 배치로 묶여 항목 수만큼 SQL 이 늘지 않는지 확인
+ * 기본 test 에서는 제외 - 실행: ./gradlew benchmarkTest
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@ActiveProfiles("test")
+@Tag("benchmark")
+class OrderCreateBenchmarkTest {
+
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    private UserDto userDto;
+    private Long addressId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Users user = userRepository.save(new Users("bench-" + System.nanoTime() + "@example.com",
+                "password123", "010-1234-5678", 1));
+        Address address = addressRepository.save(new Address(user,
+                new AddressDto(null, user.getUserId(), "서울시 강남구 테헤란로", "123번길 456호", "12345")));
+        userDto = new UserDto(user);
+        addressId = address.getAddressId();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest(name = "장바구니 {0}개")
+    @ValueSource(ints = {1, 5, 20, 50})
+    @DisplayName("장바구니 크기별 createOrder SQL 수와 지연")
+    void createOrder_StatementsAndLatency(int basketSize) throws Exception {
+        // Given
+        OrderCreateRequest request = newRequest(basketSize);
+        for (int i = 0; i < WARMUP; i++) {
+            orderService.createOrder(userDto, request);
+        }
+
+        // When
+        statistics.clear();
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            orderService.createOrder(userDto, request);
+        }
+        long elapsedNanos = System.nanoTime() - started;
+
+        // Then
+        double statementsPerOrder = (double) statistics.getPrepareStatementCount() / ITERATIONS;
+        double insertsPerOrder = (double) statistics.getEntityInsertCount() / ITERATIONS;
+        System.out.printf("장바구니 %d개: SQL %.1f개/주문 (엔티티 INSERT %.1f건), 평균 %.2fms%n",
+                basketSize, statementsPerOrder, insertsPerOrder, elapsedNanos / 1e6 / ITERATIONS);
+
+        assertThat(insertsPerOrder).isEqualTo(basketSize + 1);
+        // 메뉴 조회(항목당 1건) + 고정 조회/시퀀스/INSERT 문 - 주문 상세 INSERT 는 배치 1회
+        assertThat(statementsPerOrder).isLessThanOrEqualTo(basketSize + 8);
+    }
+
+    private OrderCreateRequest newRequest(int basketSize) {
+        List<OrderDetailsCreateRequest> items = new ArrayList<>();
+        int total = 0;
+        for (int i = 0; i < basketSize; i++) {
+            Menu menu = menuRepository.save(Menu.builder()
+                    .name("벤치마크 원두 " + i)
+                    .price(1000 + i)
+                    .description("벤치마크용")
+                    .build());
+            items.add(new OrderDetailsCreateRequest(menu.getMenuId(), menu.getName(), 2, menu.getPrice() * 2));
+            total += menu.getPrice() * 2;
+        }
+        if (total < 50000) {
+            total += 3000;
+        }
+        return new OrderCreateRequest(total, addressId, items);
+    }
+}
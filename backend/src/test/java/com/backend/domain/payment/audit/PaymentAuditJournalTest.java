@@ -0,0 +1,152 @@
+package com.backend.domain.payment.audit;
+
+import com.backend.domain.payment.entity.PaymentStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 감사 저널 테스트
+ * - 세그먼트 교체, 재시작 후 이어쓰기, 잘린 레코드 처리, 조건 조회
+ * - 다중 스레드 append 처리량 측정
+ */
+class PaymentAuditJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 교체되고 재시작 후 sequence 가 이어짐")
+    void rotateAndResume() throws IOException {
+        // Given - 세그먼트당 10건
+        int segmentSize = PaymentAuditRecord.SIZE * 10;
+        try (PaymentAuditJournal journal = new PaymentAuditJournal(dir, segmentSize, 0)) {
+            for (long paymentId = 1; paymentId <= 25; paymentId++) {
+                journal.append(PaymentAuditEvent.COMPLETED, PaymentStatus.PENDING, PaymentStatus.COMPLETED,
+                        paymentId, paymentId + 100, 7, 10000);
+            }
+        }
+
+        // When
+        long sequence;
+        try (PaymentAuditJournal journal = new PaymentAuditJournal(dir, segmentSize, 0)) {
+            sequence = journal.append(PaymentAuditEvent.CANCELED, PaymentStatus.COMPLETED, PaymentStatus.CANCELED,
+                    3, 103, 7, 10000);
+        }
+
+        // Then
+        assertThat(PaymentAuditJournalReader.segments(dir)).hasSize(3);
+        assertThat(sequence).isEqualTo(26);
+
+        List<PaymentAuditRecord> records = new ArrayList<>();
+        long count = PaymentAuditJournalReader.scan(dir, PaymentAuditJournalReader.Filter.all(), records::add);
+        assertThat(count).isEqualTo(26);
+        for (int i = 0; i < records.size(); i++) {
+            assertThat(records.get(i).sequence()).isEqualTo(i + 1);
+        }
+
+        List<PaymentAuditRecord> payment3 = new ArrayList<>();
+        PaymentAuditJournalReader.scan(dir, new PaymentAuditJournalReader.Filter(3L, null, null, null), payment3::add);
+        assertThat(payment3).extracting(PaymentAuditRecord::event)
+                .containsExactly(PaymentAuditEvent.COMPLETED, PaymentAuditEvent.CANCELED);
+        assertThat(payment3.get(1).fromStatus()).isEqualTo(PaymentStatus.COMPLETED);
+        assertThat(payment3.get(1).toStatus()).isEqualTo(PaymentStatus.CANCELED);
+        assertThat(payment3.get(1).orderId()).isEqualTo(103);
+    }
+
+    @Test
+    @DisplayName("잘린 레코드 이후는 조회하지 않고, 재시작 시 그 위치부터 덮어씀")
+    void tornRecord_IsOverwritten() throws IOException {
+        // Given
+        try (PaymentAuditJournal journal = new PaymentAuditJournal(dir, 1024 * 1024, 0)) {
+            for (long paymentId = 1; paymentId <= 3; paymentId++) {
+                journal.append(PaymentAuditEvent.FAILED, PaymentStatus.PENDING, PaymentStatus.FAILED,
+                        paymentId, paymentId, 1, 5000);
+            }
+        }
+
+        // 세 번째 레코드의 금액 일부만 바뀐 상태(CRC 불일치)로 만듦
+        Path segment = PaymentAuditJournalReader.segments(dir).get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1}), PaymentAuditRecord.SIZE * 2L + 48);
+        }
+        assertThat(PaymentAuditJournalReader.scan(dir, PaymentAuditJournalReader.Filter.all(), record -> {
+        })).isEqualTo(2);
+
+        // When
+        long sequence;
+        try (PaymentAuditJournal journal = new PaymentAuditJournal(dir, 1024 * 1024, 0)) {
+            sequence = journal.append(PaymentAuditEvent.DELETED, PaymentStatus.CANCELED, null, 9, 9, 1, 5000);
+        }
+
+        // Then
+        assertThat(sequence).isEqualTo(3);
+        List<PaymentAuditRecord> records = new ArrayList<>();
+        PaymentAuditJournalReader.scan(dir, PaymentAuditJournalReader.Filter.all(), records::add);
+        assertThat(records).hasSize(3);
+        assertThat(records.get(2).paymentId()).isEqualTo(9);
+        assertThat(records.get(2).toStatus()).isNull();
+    }
+
+    @Test
+    @DisplayName("처리량 - 4개 스레드가 100만 건 append")
+    void appendThroughput() throws Exception {
+        // Given
+        int threadCount = 4;
+        int perThread = 250_000;
+        PaymentAuditJournal journal = new PaymentAuditJournal(dir, 16 * 1024 * 1024, 1000);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        for (int t = 0; t < threadCount; t++) {
+            long base = (long) t * perThread;
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        journal.append(PaymentAuditEvent.COMPLETED, PaymentStatus.PENDING, PaymentStatus.COMPLETED,
+                                base + i, base + i, 1, 10000);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // When
+        long started = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        long elapsedNanos = System.nanoTime() - started;
+        journal.close();
+        executorService.shutdown();
+
+        // Then
+        long total = (long) threadCount * perThread;
+        System.out.printf("감사 저널 append: %d건, %.0f건/초%n", total, total * 1e9 / elapsedNanos);
+
+        long[] lastSequence = {0};
+        long count = PaymentAuditJournalReader.scan(dir, PaymentAuditJournalReader.Filter.all(), record -> {
+            assertThat(record.sequence()).isEqualTo(lastSequence[0] + 1);
+            lastSequence[0] = record.sequence();
+        });
+        assertThat(count).isEqualTo(total);
+    }
+}
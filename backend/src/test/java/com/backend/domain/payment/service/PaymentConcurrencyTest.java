@@ -16,8 +16,11 @@ import com.backend.domain.user.user.dto.UserDto;
 import com.backend.domain.user.user.entity.Users;
 import com.backend.domain.user.user.repository.UserRepository;
 import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -36,7 +39,7 @@ import static org.mockito.Mockito.when;
 /**
  * 결제 동시성 제어 테스트
  * - 낙관적 락 (@Version)
- * - DB 유니크 제약 조건
+ * - DB 유니크 제약 조건 (insert 우선 방식의 중복 결제 판별)
  */
 @SpringBootTest
 @ActiveProfiles("test")
@@ -436,4 +439,91 @@ class PaymentConcurrencyTest {
 
         assertThat(paymentsForOrder).isEqualTo(1);
     }
+
+    @ParameterizedTest(name = "동시 결제자 {0}명")
+    @ValueSource(ints = {8, 32, 128})
+    @DisplayName("동시 결제자 수별 처리량 비교 - 주문마다 중복 요청 1건 포함")
+    void concurrentPayers_Throughput(int payers) throws InterruptedException {
+        // Given - 결제자 수만큼 주문 생성, 주문마다 2건씩 동시에 결제 요청
+        Users savedUser = userRepository.save(
+                new Users("throughput" + payers + "@example.com", "password123", "010-1234-5678", 1)
+        );
+
+        AddressDto addressDto = new AddressDto(
+                null,
+                savedUser.getUserId(),
+                "서울시 강남구 테헤란로",
+                "123번길 456호",
+                "12345"
+        );
+
+        Address savedAddress = addressRepository.save(new Address(savedUser, addressDto));
+
+        List<Orders> orders = new ArrayList<>();
+        for (int i = 0; i < payers; i++) {
+            orders.add(orderRepository.save(
+                    new Orders(savedUser, 10000, OrderStatus.CREATED, savedAddress)
+            ));
+        }
+
+        UserDto userDto = new UserDto(savedUser);
+
+        when(paymentProcessor.process(any())).thenReturn(true);
+
+        int requestCount = payers * 2;
+        ExecutorService executorService = Executors.newFixedThreadPool(payers);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(requestCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger duplicateCount = new AtomicInteger(0);
+        AtomicInteger otherFailCount = new AtomicInteger(0);
+
+        for (int i = 0; i < requestCount; i++) {
+            Orders order = orders.get(i % payers);
+            PaymentCreateRequest request = new PaymentCreateRequest(
+                    order.getOrderId(),
+                    order.getOrderAmount(),
+                    PaymentMethod.CARD
+            );
+
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    paymentService.createPayment(request, userDto);
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.PAYMENT_ALREADY_COMPLETED) {
+                        duplicateCount.incrementAndGet();
+                    } else {
+                        otherFailCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    otherFailCount.incrementAndGet();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        // When
+        long startTime = System.nanoTime();
+        startLatch.countDown();
+        boolean finished = doneLatch.await(60, TimeUnit.SECONDS);
+        long durationNanos = System.nanoTime() - startTime;
+        executorService.shutdown();
+
+        // Then
+        double durationMillis = durationNanos / 1_000_000.0;
+        System.out.printf("=== 동시 결제자 %d명 ===%n", payers);
+        System.out.printf("요청 %d건, 성공 %d, 중복 %d, 기타 실패 %d%n",
+                requestCount, successCount.get(), duplicateCount.get(), otherFailCount.get());
+        System.out.printf("소요 시간 %.1fms, 처리량 %.1f req/s%n",
+                durationMillis, requestCount / (durationMillis / 1000.0));
+
+        assertThat(finished).isTrue();
+        assertThat(successCount.get()).isEqualTo(payers);
+        assertThat(duplicateCount.get()).isEqualTo(payers);
+        assertThat(otherFailCount.get()).isZero();
+    }
 }
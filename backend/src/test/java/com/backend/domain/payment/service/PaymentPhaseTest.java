@@ -0,0 +1,137 @@
+package com.backend.domain.payment.service;
+
+import com.backend.domain.order.entity.OrderStatus;
+import com.backend.domain.order.entity.Orders;
+import com.backend.domain.order.repository.OrderRepository;
+import com.backend.domain.payment.dto.request.PaymentCreateRequest;
+import com.backend.domain.payment.dto.response.PaymentCreateResponse;
+import com.backend.domain.payment.entity.PaymentMethod;
+import com.backend.domain.payment.entity.PaymentStatus;
+import com.backend.domain.user.address.dto.AddressDto;
+import com.backend.domain.user.address.entity.Address;
+import com.backend.domain.user.address.repository.AddressRepository;
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.domain.user.user.entity.Users;
+import com.backend.domain.user.user.repository.UserRepository;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결제 3단계 분리 테스트 (클래스 단위 트랜잭션 없음)
+ * - 1단계 예약이 처리기 호출 전에 커밋되어 다른 커넥션에서 PENDING 으로 보임
+ * - 처리기 호출 중에는 트랜잭션이 없음 (DB 커넥션 미점유)
+ * - 2단계 확정이 별도 트랜잭션으로 커밋됨
+ * - 처리기 타임아웃은 재시도 없이 PENDING 으로 남음
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PaymentPhaseTest {
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    private UserDto actor;
+    private Orders order;
+
+    @BeforeEach
+    void setUp() {
+        Users user = userRepository.save(new Users("payment-phase-" + System.nanoTime() + "@example.com",
+                "password123", "010-1234-5678", 1));
+        actor = new UserDto(user);
+        Address address = addressRepository.save(new Address(user,
+                new AddressDto(null, user.getUserId(), "서울시 강남구 테헤란로", "123번길 456호", "12345")));
+        order = orderRepository.save(new Orders(user, 10000, OrderStatus.CREATED, address));
+    }
+
+    @Test
+    @DisplayName("승인 - 처리기 호출 시점에 예약은 커밋되어 있고 트랜잭션은 없음, 이후 COMPLETED/PAID 커밋")
+    void approved_PhasesCommittedSeparately() {
+        List<Object> seenDuringCall = new ArrayList<>();
+        when(paymentProcessor.process(any())).thenAnswer(invocation -> {
+            seenDuringCall.add(TransactionSynchronizationManager.isActualTransactionActive());
+            seenDuringCall.add(paymentStatusInDb());
+            return true;
+        });
+
+        PaymentCreateResponse response = paymentService.createPayment(request(), actor);
+
+        assertThat(seenDuringCall).containsExactly(false, PaymentStatus.PENDING.name());
+        assertThat(paymentStatusInDb()).isEqualTo(PaymentStatus.COMPLETED.name());
+        assertThat(orderRepository.findById(order.getOrderId()).orElseThrow().getOrderStatus())
+                .isEqualTo(OrderStatus.PAID);
+        assertThat(response).isNotNull();
+    }
+
+    @Test
+    @DisplayName("거절 - 예약은 FAILED 로 확정 커밋, 주문은 CREATED 유지")
+    void declined_FailedCommitted() {
+        when(paymentProcessor.process(any())).thenReturn(false);
+
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> paymentService.createPayment(request(), actor));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.PAYMENT_FAILED);
+        assertThat(paymentStatusInDb()).isEqualTo(PaymentStatus.FAILED.name());
+        assertThat(orderRepository.findById(order.getOrderId()).orElseThrow().getOrderStatus())
+                .isEqualTo(OrderStatus.CREATED);
+    }
+
+    @Test
+    @DisplayName("처리기 타임아웃 - 결과를 알 수 없으므로 한 번만 호출하고 PENDING 유지")
+    void timeout_LeftPending() {
+        when(paymentProcessor.process(any())).thenThrow(new PaymentProcessorTimeoutException());
+
+        BusinessException ex = assertThrows(PaymentProcessorTimeoutException.class,
+                () -> paymentService.createPayment(request(), actor));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.PAYMENT_PROCESSOR_TIMEOUT);
+        verify(paymentProcessor, times(1)).process(any());
+        assertThat(paymentStatusInDb()).isEqualTo(PaymentStatus.PENDING.name());
+        assertThat(orderRepository.findById(order.getOrderId()).orElseThrow().getOrderStatus())
+                .isEqualTo(OrderStatus.CREATED);
+    }
+
+    private PaymentCreateRequest request() {
+        return new PaymentCreateRequest(order.getOrderId(), 10000, PaymentMethod.CARD);
+    }
+
+    // 트랜잭션 밖 JdbcTemplate 조회 - 커밋된 값만 보임
+    private String paymentStatusInDb() {
+        return jdbcTemplate.queryForObject("select payment_status from payment where order_id = ?",
+                String.class, order.getOrderId());
+    }
+}
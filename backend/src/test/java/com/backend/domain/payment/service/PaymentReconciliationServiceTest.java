@@ -0,0 +1,129 @@
+package com.backend.domain.payment.service;
+
+import com.backend.domain.order.entity.OrderStatus;
+import com.backend.domain.order.entity.Orders;
+import com.backend.domain.order.repository.OrderRepository;
+import com.backend.domain.payment.dto.request.PaymentCreateRequest;
+import com.backend.domain.payment.dto.response.ReconciliationResult;
+import com.backend.domain.payment.entity.DiscrepancyType;
+import com.backend.domain.payment.entity.Payment;
+import com.backend.domain.payment.entity.PaymentDiscrepancy;
+import com.backend.domain.payment.entity.PaymentMethod;
+import com.backend.domain.payment.repository.PaymentDiscrepancyRepository;
+import com.backend.domain.payment.repository.PaymentRepository;
+import com.backend.domain.user.address.dto.AddressDto;
+import com.backend.domain.user.address.entity.Address;
+import com.backend.domain.user.address.repository.AddressRepository;
+import com.backend.domain.user.user.entity.Users;
+import com.backend.domain.user.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정산 파일 대사 테스트
+ * - 배치 크기(2)보다 많은 줄을 넣어 여러 배치에 걸친 대사 확인
+ */
+@SpringBootTest(properties = "custom.payment.reconciliation.batchSize=2")
+@ActiveProfiles("test")
+class PaymentReconciliationServiceTest {
+
+    @Autowired
+    private PaymentReconciliationService paymentReconciliationService;
+
+    @Autowired
+    private PaymentDiscrepancyRepository paymentDiscrepancyRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("정산 파일 대사 - 금액/상태 불일치와 누락 결제 기록")
+    void reconcile_RecordsDiscrepancies() throws IOException {
+        // Given
+        Users user = userRepository.save(new Users("reconcile@example.com", "password123", "010-1234-5678", 1));
+        Address address = addressRepository.save(new Address(user,
+                new AddressDto(null, user.getUserId(), "서울시 강남구 테헤란로", "123번길 456호", "12345")));
+
+        Payment matched = savePayment(user, address, 10000, true);
+        Payment amountMismatch = savePayment(user, address, 20000, true);
+        Payment statusMismatch = savePayment(user, address, 30000, false);
+        long missingPaymentId = 1L; // Snowflake ID 로는 발급되지 않는 값
+
+        Path file = tempDir.resolve("settlement.csv");
+        Files.write(file, List.of(
+                "paymentId,amount,status",
+                matched.getPaymentId() + ",10000,COMPLETED",
+                amountMismatch.getPaymentId() + ",25000,COMPLETED",
+                statusMismatch.getPaymentId() + ",30000,COMPLETED",
+                "not-a-number,100,COMPLETED",
+                missingPaymentId + ",5000,COMPLETED"
+        ));
+        LocalDate settlementDate = LocalDate.of(2025, 1, 1);
+
+        // When - 같은 날짜를 두 번 대사해도 결과가 중복 기록되지 않아야 함
+        paymentReconciliationService.reconcile(file, settlementDate);
+        ReconciliationResult result = paymentReconciliationService.reconcile(file, settlementDate);
+
+        // Then
+        assertThat(result.totalLines()).isEqualTo(5);
+        assertThat(result.malformedLines()).isEqualTo(1);
+        assertThat(result.matchedCount()).isEqualTo(1);
+        assertThat(result.discrepancyCount()).isEqualTo(3);
+
+        Map<Long, PaymentDiscrepancy> discrepancies = paymentDiscrepancyRepository
+                .findBySettlementDate(settlementDate).stream()
+                .collect(Collectors.toMap(PaymentDiscrepancy::getPaymentId, Function.identity()));
+
+        assertThat(discrepancies).hasSize(3);
+        assertThat(discrepancies.get(amountMismatch.getPaymentId()).getDiscrepancyType())
+                .isEqualTo(DiscrepancyType.AMOUNT_MISMATCH);
+        assertThat(discrepancies.get(statusMismatch.getPaymentId()).getDiscrepancyType())
+                .isEqualTo(DiscrepancyType.STATUS_MISMATCH);
+        assertThat(discrepancies.get(missingPaymentId).getDiscrepancyType())
+                .isEqualTo(DiscrepancyType.MISSING_PAYMENT);
+        assertThat(discrepancies.get(missingPaymentId).getPaymentAmount()).isNull();
+    }
+
+    private Payment savePayment(Users user, Address address, int amount, boolean completed) {
+        Orders order = orderRepository.save(new Orders(user, amount, OrderStatus.CREATED, address));
+        Payment payment = new PaymentCreateRequest(order.getOrderId(), amount, PaymentMethod.CARD)
+                .createPayment(order);
+        if (completed) {
+            payment.complete();
+        } else {
+            payment.fail();
+        }
+        return paymentRepository.save(payment);
+    }
+}
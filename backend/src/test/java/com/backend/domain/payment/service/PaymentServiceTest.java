@@ -20,6 +20,7 @@ import com.backend.domain.user.user.entity.Users;
 import com.backend.domain.user.user.repository.UserRepository;
 import com.backend.global.exception.BusinessException;
 import com.backend.global.response.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -63,6 +64,9 @@ class PaymentServiceTest {
     @Autowired
     private AddressRepository addressRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @MockBean
     private PaymentProcessor paymentProcessor;
 
@@ -150,6 +154,8 @@ class PaymentServiceTest {
 
         // 무조건 실패하도록
         when(paymentProcessor.process(any())).thenReturn(false);
+        double retriesBefore = meterRegistry.counter("payment.retries").count();
+        double failedBefore = meterRegistry.counter("payment.results", "result", "failed").count();
 
         // When & Then
         BusinessException ex = assertThrows(
@@ -173,6 +179,10 @@ class PaymentServiceTest {
         Orders updatedOrder = orderRepository.findById(savedOrder.getOrderId()).orElseThrow();
         assertThat(updatedOrder.getOrderStatus()).isEqualTo(OrderStatus.CREATED);
         assertThat(updatedOrder.getPayment()).isNotNull();
+
+        // 지표 검증 - 1회 재시도 후 최종 실패
+        assertThat(meterRegistry.counter("payment.retries").count()).isEqualTo(retriesBefore + 1);
+        assertThat(meterRegistry.counter("payment.results", "result", "failed").count()).isEqualTo(failedBefore + 1);
     }
 
     // 성공 케이스: CANCELED 상태의 결제 삭제
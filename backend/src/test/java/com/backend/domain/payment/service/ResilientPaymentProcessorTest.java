@@ -0,0 +1,222 @@
+package com.backend.domain.payment.service;
+
+import com.backend.domain.payment.dto.request.PaymentCreateRequest;
+import com.backend.domain.payment.entity.PaymentMethod;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.retry.annotation.AnnotationAwareRetryOperationsInterceptor;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * ResilientPaymentProcessor 단위 테스트
+ * - 장애 주입용 처리기 스텁으로 서킷 브레이커, 벌크헤드, 타임아웃 동작 검증
+ */
+class ResilientPaymentProcessorTest {
+
+    private final PaymentCreateRequest request = new PaymentCreateRequest(1L, 10000, PaymentMethod.CARD);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FaultInjectingPaymentProcessor stub = new FaultInjectingPaymentProcessor();
+    private ResilientPaymentProcessor processor;
+
+    @AfterEach
+    void tearDown() {
+        stub.release();
+        if (processor != null) {
+            processor.close();
+        }
+    }
+
+    // 윈도우 4건, 최소 4건, 실패율 50%, OPEN 유지 200ms, HALF_OPEN 2건, 동시 2건, 타임아웃 300ms
+    private ResilientPaymentProcessor newProcessor() {
+        return new ResilientPaymentProcessor(stub, 4, 4, 50f, 200, 2, 2, 0, 300, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 서킷이 열리고 처리기 호출 없이 즉시 실패")
+    void circuitOpens_FailFast() {
+        // Given
+        processor = newProcessor();
+        stub.mode = Mode.THROW;
+
+        // When - 4건 중 4건 실패
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class, () -> processor.process(request));
+        }
+        int callsBeforeOpen = stub.calls.get();
+
+        // Then
+        assertThat(processor.getCircuitState()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+
+        BusinessException ex = assertThrows(PaymentProcessorUnavailableException.class,
+                () -> processor.process(request));
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.PAYMENT_PROCESSOR_UNAVAILABLE);
+        assertThat(stub.calls.get()).isEqualTo(callsBeforeOpen);
+
+        assertThat(meterRegistry.counter("payment.processor.circuit.transitions",
+                "from", "CLOSED", "to", "OPEN").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("결제 거절(false)은 장애로 집계하지 않음")
+    void declinedPayment_DoesNotOpenCircuit() {
+        // Given
+        processor = newProcessor();
+        stub.mode = Mode.DECLINE;
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThat(processor.process(request)).isFalse();
+        }
+
+        // Then
+        assertThat(processor.getCircuitState()).isEqualTo(PaymentCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("OPEN 대기 시간이 지나면 HALF_OPEN 시험 호출 성공 시 CLOSED 로 복귀")
+    void halfOpen_ClosesAfterSuccessfulTrialCalls() throws InterruptedException {
+        // Given
+        processor = newProcessor();
+        stub.mode = Mode.THROW;
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class, () -> processor.process(request));
+        }
+        assertThat(processor.getCircuitState()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+
+        // When - 처리기 복구 후 대기 시간 경과
+        stub.mode = Mode.APPROVE;
+        Thread.sleep(250);
+
+        // Then
+        assertThat(processor.process(request)).isTrue();
+        assertThat(processor.getCircuitState()).isEqualTo(PaymentCircuitBreaker.State.HALF_OPEN);
+        assertThat(processor.process(request)).isTrue();
+        assertThat(processor.getCircuitState()).isEqualTo(PaymentCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 OPEN")
+    void halfOpen_ReopensOnFailure() throws InterruptedException {
+        // Given
+        processor = newProcessor();
+        stub.mode = Mode.THROW;
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class, () -> processor.process(request));
+        }
+        Thread.sleep(250);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> processor.process(request));
+
+        // Then
+        assertThat(processor.getCircuitState()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.counter("payment.processor.circuit.transitions",
+                "from", "HALF_OPEN", "to", "OPEN").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("응답이 타임아웃을 넘으면 PAYMENT_PROCESSOR_TIMEOUT")
+    void slowProcessor_TimesOut() {
+        // Given
+        processor = newProcessor();
+        stub.mode = Mode.HANG;
+
+        // When & Then
+        BusinessException ex = assertThrows(PaymentProcessorTimeoutException.class, () -> processor.process(request));
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.PAYMENT_PROCESSOR_TIMEOUT);
+        assertThat(meterRegistry.counter("payment.processor.calls.timeout").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("타임아웃은 결과를 알 수 없으므로 PaymentRetry 가 재시도/복구하지 않음 - 처리기 호출 1회")
+    void timeout_NotRetriedOrRecovered() {
+        // Given
+        processor = newProcessor();
+        stub.mode = Mode.HANG;
+        PaymentRetry paymentRetry = withRetry(new PaymentRetry(processor, meterRegistry));
+
+        // When & Then
+        assertThrows(PaymentProcessorTimeoutException.class, () -> paymentRetry.processPaymentWithRetry(request));
+        assertThat(stub.calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("payment.retries").count()).isZero();
+        assertThat(meterRegistry.counter("payment.results", "result", "failed").count()).isZero();
+    }
+
+    // 스프링 컨텍스트 없이 @Retryable/@Recover 적용
+    private static PaymentRetry withRetry(PaymentRetry target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new AnnotationAwareRetryOperationsInterceptor());
+        return (PaymentRetry) proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("동시 호출 수를 넘는 요청은 벌크헤드에서 즉시 거절")
+    void bulkheadFull_RejectsExcessCalls() throws Exception {
+        // Given - 처리기가 멈춘 상태에서 2건이 벌크헤드를 점유
+        processor = new ResilientPaymentProcessor(stub, 4, 4, 50f, 200, 2, 2, 0, 5_000, meterRegistry);
+        stub.mode = Mode.HANG;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        for (int i = 0; i < 2; i++) {
+            executorService.submit(() -> processor.process(request));
+        }
+        assertThat(stub.started.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // When & Then
+        BusinessException ex = assertThrows(PaymentProcessorUnavailableException.class,
+                () -> processor.process(request));
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.PAYMENT_PROCESSOR_BUSY);
+
+        stub.release();
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    enum Mode {
+        APPROVE, DECLINE, THROW, HANG
+    }
+
+    /**
+     * 장애 주입용 결제 처리기 스텁
+     */
+    static class FaultInjectingPaymentProcessor implements PaymentProcessor {
+        volatile Mode mode = Mode.APPROVE;
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(2);
+        private final CountDownLatch hang = new CountDownLatch(1);
+
+        @Override
+        public boolean process(PaymentCreateRequest request) {
+            calls.incrementAndGet();
+            return switch (mode) {
+                case APPROVE -> true;
+                case DECLINE -> false;
+                case THROW -> throw new IllegalStateException("주입된 처리기 장애");
+                case HANG -> {
+                    started.countDown();
+                    try {
+                        hang.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    yield true;
+                }
+            };
+        }
+
+        void release() {
+            hang.countDown();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.backend.domain.payment.service;
+
+import com.backend.domain.payment.dto.request.PaymentCreateRequest;
+import com.backend.domain.payment.entity.PaymentMethod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimulatedPaymentProcessorTest {
+
+    private final PaymentCreateRequest request = new PaymentCreateRequest(1L, 10000, PaymentMethod.CARD);
+
+    private SimulatedPaymentProcessor newProcessor(Long seed) {
+        return SimulatedPaymentProcessor.builder()
+                .latencyDistribution(SimulatedPaymentProcessor.LatencyDistribution.FIXED)
+                .declineRate(0.3)
+                .errorRate(0.1)
+                .burstEveryCalls(50)
+                .burstLengthCalls(5)
+                .seed(seed)
+                .build();
+    }
+
+    private List<String> outcomes(SimulatedPaymentProcessor processor, int calls) {
+        List<String> outcomes = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            try {
+                outcomes.add(processor.process(request) ? "APPROVED" : "DECLINED");
+            } catch (IllegalStateException e) {
+                outcomes.add("ERROR");
+            }
+        }
+        return outcomes;
+    }
+
+    @Test
+    @DisplayName("같은 seed 는 같은 결과 순서를 만든다")
+    void sameSeed_SameOutcomes() {
+        List<String> first = outcomes(newProcessor(42L), 200);
+        List<String> second = outcomes(newProcessor(42L), 200);
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first).contains("APPROVED", "DECLINED", "ERROR");
+    }
+
+    @Test
+    @DisplayName("오류 버스트 구간의 호출은 모두 실패")
+    void burstWindow_AlwaysErrors() {
+        List<String> outcomes = outcomes(newProcessor(7L), 100);
+
+        assertThat(outcomes.subList(45, 50)).containsOnly("ERROR");
+        assertThat(outcomes.subList(95, 100)).containsOnly("ERROR");
+    }
+
+    @Test
+    @DisplayName("이웃한 호출의 난수열은 서로 겹치지 않는다 (한 칸 밀린 같은 난수열 아님)")
+    void adjacentCalls_IndependentDraws() {
+        SimulatedPaymentProcessor processor = newProcessor(42L);
+
+        List<Double> previous = draws(processor.randomFor(0));
+        for (long callIndex = 1; callIndex < 1_000; callIndex++) {
+            List<Double> current = draws(processor.randomFor(callIndex));
+            assertThat(current).doesNotContainAnyElementsOf(previous);
+            previous = current;
+        }
+    }
+
+    private static List<Double> draws(RandomGenerator random) {
+        List<Double> draws = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            draws.add(random.nextDouble());
+        }
+        return draws;
+    }
+
+    @Test
+    @DisplayName("LONG_TAIL 지연은 최소값 이상, 상한 이하")
+    void longTailLatency_WithinBounds() {
+        SimulatedPaymentProcessor processor = SimulatedPaymentProcessor.builder()
+                .latencyDistribution(SimulatedPaymentProcessor.LatencyDistribution.LONG_TAIL)
+                .latencyMillis(100)
+                .tailShape(1.2)
+                .maxLatencyMillis(5_000)
+                .build();
+        SplittableRandom random = new SplittableRandom(1L);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(processor.nextLatency(random)).isBetween(100L, 5_000L);
+        }
+    }
+}
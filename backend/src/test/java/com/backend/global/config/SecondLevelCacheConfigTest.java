@@ -0,0 +1,99 @@
+package com.backend.global.config;
+
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.repository.MenuRepository;
+import com.backend.domain.payment.service.PaymentProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 테스트
+ * - 트랜잭션이 달라도 두 번째 조회부터는 SQL 없이 캐시에서 읽는지
+ * - 변경 후에는 바뀐 값이 보이는지
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("메뉴 단건 조회 - 두 번째 트랜잭션부터 캐시 적중, 수정 후 새 가격 조회")
+    void menu_CachedAcrossTransactions() {
+        // Given
+        Long menuId = menuRepository.save(Menu.builder().name("캐시 원두").price(10000).build()).getMenuId();
+        transactionTemplate.executeWithoutResult(status -> menuRepository.findById(menuId).orElseThrow());
+
+        // When
+        statistics.clear();
+        int price = transactionTemplate.execute(status -> menuRepository.findById(menuId).orElseThrow().getPrice());
+
+        // Then
+        assertThat(price).isEqualTo(10000);
+        assertThat(statistics.getCacheRegionStatistics("menu").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // 수정이 커밋되면 캐시도 갱신
+        transactionTemplate.executeWithoutResult(status -> {
+            Menu menu = menuRepository.findById(menuId).orElseThrow();
+            menu.updateMenu(menu.getName(), 12000, false, menu.getDescription(), menu.getImageUrl());
+        });
+        int updatedPrice = transactionTemplate.execute(status -> menuRepository.findById(menuId).orElseThrow().getPrice());
+        assertThat(updatedPrice).isEqualTo(12000);
+
+        assertThat(meterRegistry.find("hibernate.cache.hit.ratio").tag("region", "menu").gauge())
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("판매 중 메뉴 목록 - 쿼리 캐시 적중, 품절 처리 후 무효화")
+    void availableMenus_QueryCache() {
+        // Given
+        Long menuId = menuRepository.save(Menu.builder().name("쿼리 캐시 원두").price(9000).build()).getMenuId();
+        int before = menuRepository.findByIsSoldOutFalse().size();
+
+        // When
+        statistics.clear();
+        int cached = menuRepository.findByIsSoldOutFalse().size();
+
+        // Then
+        assertThat(cached).isEqualTo(before);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        transactionTemplate.executeWithoutResult(status ->
+                menuRepository.findById(menuId).orElseThrow().setIsSoldOut(true));
+        assertThat(menuRepository.findByIsSoldOutFalse()).hasSize(before - 1);
+    }
+}
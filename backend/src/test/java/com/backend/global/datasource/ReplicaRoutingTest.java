@@ -0,0 +1,160 @@
+package com.backend.global.datasource;
+
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.repository.MenuRepository;
+import com.backend.domain.payment.service.PaymentProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 전용 복제본 라우팅 테스트 (primary + H2 복제본 2개)
+ * - 복제가 없으므로 하트비트 행을 테스트에서 복제본에 직접 써서 복제/지연을 흉내 냄
+ * - 어느 DB 로 갔는지는 H2 의 DATABASE() 로 확인
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.open-in-view=false",
+        "custom.datasource.replica.enabled=true",
+        "custom.datasource.replica.replicas[0].name=a",
+        "custom.datasource.replica.replicas[0].url=" + ReplicaRoutingTest.REPLICA_A,
+        "custom.datasource.replica.replicas[0].username=sa",
+        "custom.datasource.replica.replicas[0].password=",
+        "custom.datasource.replica.replicas[1].name=b",
+        "custom.datasource.replica.replicas[1].url=" + ReplicaRoutingTest.REPLICA_B,
+        "custom.datasource.replica.replicas[1].username=sa",
+        "custom.datasource.replica.replicas[1].password=",
+        "custom.datasource.replica.maxLagMillis=1000",
+        "custom.datasource.replica.heartbeatIntervalMillis=3600000",
+        "custom.datasource.replica.readYourWritesMillis=60000"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingTest {
+
+    static final String REPLICA_A = "jdbc:h2:mem:replica_a;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_B = "jdbc:h2:mem:replica_b;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    private final JdbcTemplate replicaA = replica(REPLICA_A);
+    private final JdbcTemplate replicaB = replica(REPLICA_B);
+
+    @BeforeEach
+    void setUp() {
+        // 복제가 한 번도 되지 않은 상태에서 시작
+        replicaA.execute("drop table if exists " + ReplicaLagMonitor.HEARTBEAT_TABLE);
+        replicaB.execute("drop table if exists " + ReplicaLagMonitor.HEARTBEAT_TABLE);
+        replicaLagMonitor.refreshLag();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("복제본 라우팅 - 지연 기준 제외, 라운드 로빈, 쓰기 트랜잭션은 primary")
+    void readOnly_RoutedToHealthyReplicas() {
+        // 하트비트를 읽을 수 없는 복제본은 사용하지 않음
+        assertThat(database(true)).isEqualToIgnoringCase("db_dev");
+
+        // Given - a 는 최신, b 는 5초 뒤처짐
+        long beat = writeHeartbeat();
+        replicate(replicaA, beat);
+        replicate(replicaB, beat - 5000);
+        replicaLagMonitor.refreshLag();
+
+        // Then
+        assertThat(List.of(database(true), database(true), database(true)))
+                .allMatch(name -> name.equalsIgnoreCase("replica_a"));
+
+        // b 가 따라잡으면 번갈아 사용
+        replicate(replicaB, beat);
+        replicaLagMonitor.refreshLag();
+        Set<String> routed = new HashSet<>();
+        routed.add(database(true).toLowerCase());
+        routed.add(database(true).toLowerCase());
+        assertThat(routed).containsExactlyInAnyOrder("replica_a", "replica_b");
+
+        assertThat(database(false)).isEqualToIgnoringCase("db_dev");
+    }
+
+    @Test
+    @DisplayName("복제본 라우팅 - 쓰기를 커밋한 사용자의 읽기만 primary")
+    void readYourWrites_StickToPrimary() {
+        // Given
+        long beat = writeHeartbeat();
+        replicate(replicaA, beat);
+        replicate(replicaB, beat);
+        replicaLagMonitor.refreshLag();
+
+        authenticate("writer@example.com");
+        assertThat(database(true)).startsWithIgnoringCase("replica_");
+
+        // When - 쓰기 커밋
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                menuRepository.save(Menu.builder().name("복제본 라우팅 원두 " + System.nanoTime()).price(1000).build()));
+
+        // Then
+        assertThat(database(true)).isEqualToIgnoringCase("db_dev");
+
+        authenticate("reader@example.com");
+        assertThat(database(true)).startsWithIgnoringCase("replica_");
+    }
+
+    private String database(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("select database()", String.class));
+    }
+
+    private long writeHeartbeat() {
+        replicaLagMonitor.writeHeartbeat();
+        return jdbcTemplate.queryForObject(
+                "select beat_millis from " + ReplicaLagMonitor.HEARTBEAT_TABLE + " where id = 1", Long.class);
+    }
+
+    private static void replicate(JdbcTemplate replica, long beat) {
+        replica.execute("create table if not exists " + ReplicaLagMonitor.HEARTBEAT_TABLE
+                + " (id int primary key, beat_millis bigint not null)");
+        replica.update("merge into " + ReplicaLagMonitor.HEARTBEAT_TABLE + " key(id) values (1, ?)", beat);
+    }
+
+    private static void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+
+    private static JdbcTemplate replica(String url) {
+        return new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+    }
+}
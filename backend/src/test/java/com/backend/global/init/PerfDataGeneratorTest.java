@@ -0,0 +1,127 @@
+package com.backend.global.init;
+
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.repository.MenuRepository;
+import com.backend.domain.order.dto.request.OrderCreateRequest;
+import com.backend.domain.order.dto.request.OrderDetailsCreateRequest;
+import com.backend.domain.order.entity.OrderDetails;
+import com.backend.domain.order.entity.Orders;
+import com.backend.domain.order.repository.OrderRepository;
+import com.backend.domain.order.service.OrderService;
+import com.backend.domain.payment.service.PaymentProcessor;
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.domain.user.user.repository.UserRepository;
+import com.backend.domain.user.user.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * perf 데이터 생성 테스트 (작은 생성량)
+ * - 같은 seed 면 같은 행, 주문 금액은 주문 생성 검증 규칙과 일치
+ * - 생성 후 JPA 로 새 주문을 저장해도 ID 가 겹치지 않음
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:perf_${random.uuid};MODE=MySQL",
+        "custom.perf-data.users=300",
+        "custom.perf-data.menus=50",
+        "custom.perf-data.orders=25000",
+        "custom.perf-data.days=30",
+        "custom.perf-data.endDate=2025-06-01",
+        "custom.perf-data.batchSize=500",
+        "custom.perf-data.threads=4"
+})
+@ActiveProfiles({"test", "perf"})
+class PerfDataGeneratorTest {
+
+    @Autowired
+    private PerfDataProperties properties;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    @Test
+    @DisplayName("같은 seed 면 묶음 처리 순서와 상관없이 같은 행 생성")
+    void dataset_IsDeterministic() {
+        PerfDataset first = new PerfDataset(properties, LocalDate.of(2025, 6, 1));
+        PerfDataset second = new PerfDataset(properties, LocalDate.of(2025, 6, 1));
+
+        assertThat(second.orderChunk(2)).isEqualTo(first.orderChunk(2));
+        assertThat(second.orderChunk(0)).isEqualTo(first.orderChunk(0));
+        assertThat(second.cartChunk(0)).isEqualTo(first.cartChunk(0));
+        assertThat(second.menus()).isEqualTo(first.menus());
+    }
+
+    @Test
+    @DisplayName("주문 ID 는 중복 없이 시간 순서, 금액은 상세 합계 + 배송비 규칙과 일치")
+    void dataset_OrdersAreConsistent() {
+        PerfDataset dataset = new PerfDataset(properties, LocalDate.of(2025, 6, 1));
+        Set<Long> ids = new HashSet<>();
+        long previousId = 0;
+
+        for (int chunk = 0; chunk < dataset.orderChunks(); chunk++) {
+            for (PerfDataset.OrderRow order : dataset.orderChunk(chunk)) {
+                assertThat(order.orderId()).isGreaterThan(previousId);
+                previousId = order.orderId();
+                assertThat(ids.add(order.orderId())).isTrue();
+
+                int total = order.details().stream().mapToInt(PerfDataset.DetailRow::orderPrice).sum();
+                assertThat(order.amount()).isEqualTo(total < 50000 ? total + 3000 : total);
+            }
+        }
+        assertThat(ids).hasSize((int) properties.orders());
+    }
+
+    @Test
+    @DisplayName("시작 시 생성된 데이터 건수와 계정, 생성 후 JPA 저장")
+    void generatedData_CountsAndNewInserts() throws Exception {
+        // Then - 생성량
+        assertThat(userRepository.count()).isEqualTo(properties.users() + 1);
+        assertThat(menuRepository.count()).isEqualTo(properties.menus());
+        assertThat(orderRepository.count()).isEqualTo(properties.orders());
+        assertThat(userService.login("admin@example.com", "admin1234").level()).isZero();
+
+        // 생성된 사용자로 주문하면 주문 상세 / 장바구니 시퀀스가 생성된 ID 와 겹치지 않아야 함
+        UserDto user = userService.login("perf-user-2@example.com", "user1234");
+        Menu menu = menuRepository.findByIsSoldOutFalse().get(0);
+        Orders order = orderService.createOrder(user, new OrderCreateRequest(
+                menu.getPrice() * 2 + (menu.getPrice() * 2 < 50000 ? 3000 : 0),
+                user.userId(),
+                List.of(new OrderDetailsCreateRequest(menu.getMenuId(), menu.getName(), 2, menu.getPrice() * 2))));
+
+        List<Long> detailIds = transactionTemplate.execute(status ->
+                orderRepository.findById(order.getOrderId()).orElseThrow()
+                        .getOrderDetails().stream().map(OrderDetails::getOrderItemId).toList());
+        assertThat(detailIds).allSatisfy(id -> assertThat(id).isGreaterThan(
+                properties.orders() * properties.maxItemsPerOrder()));
+    }
+}
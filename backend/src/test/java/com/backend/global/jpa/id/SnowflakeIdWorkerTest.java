@@ -0,0 +1,107 @@
+package com.backend.global.jpa.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Snowflake ID 발급기 테스트
+ * - 다중 스레드 경합 중 중복 없음 (스트레스)
+ * - 시계 역행 처리
+ */
+class SnowflakeIdWorkerTest {
+
+    @Test
+    @DisplayName("16개 스레드가 동시에 발급한 ID 320만 개에 중복이 없고 스레드별로 증가")
+    void concurrentIds_AreUnique() throws Exception {
+        // Given
+        int threadCount = 16;
+        int perThread = 200_000;
+        SnowflakeIdWorker worker = new SnowflakeIdWorker(7, 5000, System::currentTimeMillis);
+        long[][] ids = new long[threadCount][perThread];
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        // When
+        for (int t = 0; t < threadCount; t++) {
+            long[] out = ids[t];
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        out[i] = worker.nextId();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long started = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        long elapsedNanos = System.nanoTime() - started;
+        executorService.shutdown();
+
+        // Then
+        long total = (long) threadCount * perThread;
+        System.out.printf("Snowflake ID: %d개, %.0f개/초%n", total, total * 1e9 / elapsedNanos);
+
+        long[] all = new long[(int) total];
+        for (int t = 0; t < threadCount; t++) {
+            for (int i = 1; i < perThread; i++) {
+                assertThat(ids[t][i]).isGreaterThan(ids[t][i - 1]);
+            }
+            System.arraycopy(ids[t], 0, all, t * perThread, perThread);
+        }
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertThat(all[i]).isNotEqualTo(all[i - 1]);
+        }
+        assertThat(SnowflakeIdWorker.nodeIdOf(all[0])).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("허용 범위 내 시계 역행 시 마지막 시각을 이어 써 ID 가 계속 증가")
+    void smallClockRollback_KeepsOrder() {
+        // Given
+        AtomicLong clock = new AtomicLong(SnowflakeIdWorker.EPOCH + 10_000);
+        SnowflakeIdWorker worker = new SnowflakeIdWorker(1, 5000, clock::get);
+        long before = worker.nextId();
+
+        // When - 1초 역행
+        clock.addAndGet(-1000);
+        long after = worker.nextId();
+
+        // Then
+        assertThat(after).isGreaterThan(before);
+        assertThat(SnowflakeIdWorker.timestampOf(after)).isEqualTo(SnowflakeIdWorker.timestampOf(before));
+    }
+
+    @Test
+    @DisplayName("허용 범위를 넘는 시계 역행 시 발급 거부")
+    void largeClockRollback_Rejected() {
+        // Given
+        AtomicLong clock = new AtomicLong(SnowflakeIdWorker.EPOCH + 60_000);
+        SnowflakeIdWorker worker = new SnowflakeIdWorker(1, 5000, clock::get);
+        worker.nextId();
+
+        // When
+        clock.addAndGet(-10_000);
+
+        // Then
+        assertThrows(IllegalStateException.class, worker::nextId);
+    }
+}
@@ -0,0 +1,146 @@
+package com.backend.global.scheduler;
+
+import com.backend.domain.order.entity.OrderStatus;
+import com.backend.domain.order.entity.Orders;
+import com.backend.domain.order.repository.OrderRepository;
+import com.backend.domain.payment.dto.request.PaymentCreateRequest;
+import com.backend.domain.payment.entity.PaymentMethod;
+import com.backend.domain.payment.entity.PaymentStatus;
+import com.backend.domain.payment.repository.PaymentRepository;
+import com.backend.domain.payment.service.PaymentProcessor;
+import com.backend.domain.payment.service.PaymentTransactionService;
+import com.backend.domain.user.address.dto.AddressDto;
+import com.backend.domain.user.address.entity.Address;
+import com.backend.domain.user.address.repository.AddressRepository;
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.domain.user.user.entity.Users;
+import com.backend.domain.user.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 미확정(PENDING) 결제 복구 스케줄러 테스트
+ * - 클래스 단위 트랜잭션 없이 실행해 예약/확정/복구가 각각 실제 트랜잭션으로 커밋되는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PendingPaymentSchedulerTest {
+
+    @Autowired
+    private PendingPaymentScheduler pendingPaymentScheduler;
+
+    @SpyBean
+    private PaymentTransactionService paymentTransactionService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    @Value("${custom.payment.recovery.pendingTimeoutSeconds}")
+    private long pendingTimeoutSeconds;
+
+    private Users user;
+    private UserDto actor;
+    private Address address;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new Users("pending-sweep-" + System.nanoTime() + "@example.com",
+                "password123", "010-1234-5678", 1));
+        actor = new UserDto(user);
+        address = addressRepository.save(new Address(user,
+                new AddressDto(null, user.getUserId(), "서울시 강남구 테헤란로", "123번길 456호", "12345")));
+    }
+
+    @Test
+    @DisplayName("타임아웃이 지난 PENDING 결제는 FAILED 로 확정, 주문은 CREATED 유지")
+    void stalePending_Failed() {
+        Long paymentId = reserve();
+        makeStale(paymentId);
+
+        pendingPaymentScheduler.recoverPendingPayments();
+
+        assertThat(statusOf(paymentId)).isEqualTo(PaymentStatus.FAILED);
+        assertThat(orderRepository.findById(orderIdOf(paymentId)).orElseThrow().getOrderStatus())
+                .isEqualTo(OrderStatus.CREATED);
+    }
+
+    @Test
+    @DisplayName("스케줄러가 조회한 뒤 요청 쪽에서 확정된 결제는 버전 비교로 건너뜀")
+    void confirmedConcurrently_Skipped() {
+        Long paymentId = reserve();
+        makeStale(paymentId);
+
+        // 스케줄러의 조회와 실패 확정 사이에 요청 쪽 2단계(complete)가 먼저 커밋된 상황
+        doAnswer(invocation -> {
+            paymentTransactionService.complete(paymentId);
+            return invocation.callRealMethod();
+        }).when(paymentTransactionService).failStale(eq(paymentId), any());
+
+        pendingPaymentScheduler.recoverPendingPayments();
+
+        assertThat(statusOf(paymentId)).isEqualTo(PaymentStatus.COMPLETED);
+        assertThat(orderRepository.findById(orderIdOf(paymentId)).orElseThrow().getOrderStatus())
+                .isEqualTo(OrderStatus.PAID);
+    }
+
+    @Test
+    @DisplayName("타임아웃이 지나지 않은 PENDING 결제는 그대로 둠")
+    void freshPending_LeftAlone() {
+        Long paymentId = reserve();
+
+        pendingPaymentScheduler.recoverPendingPayments();
+
+        assertThat(statusOf(paymentId)).isEqualTo(PaymentStatus.PENDING);
+    }
+
+    // 1단계 예약만 커밋 (처리기 호출 도중 서버가 종료된 상황)
+    private Long reserve() {
+        Orders order = orderRepository.save(new Orders(user, 10000, OrderStatus.CREATED, address));
+        return paymentTransactionService.reserve(
+                new PaymentCreateRequest(order.getOrderId(), 10000, PaymentMethod.CARD), actor);
+    }
+
+    private void makeStale(Long paymentId) {
+        Timestamp staleDate = Timestamp.valueOf(LocalDateTime.now().minusSeconds(pendingTimeoutSeconds + 60));
+        jdbcTemplate.update("update payment set create_date = ? where payment_id = ?", staleDate, paymentId);
+    }
+
+    private PaymentStatus statusOf(Long paymentId) {
+        return paymentRepository.findById(paymentId).orElseThrow().getPaymentStatus();
+    }
+
+    private Long orderIdOf(Long paymentId) {
+        return jdbcTemplate.queryForObject("select order_id from payment where payment_id = ?", Long.class, paymentId);
+    }
+}
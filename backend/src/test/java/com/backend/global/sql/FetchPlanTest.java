@@ -0,0 +1,218 @@
+package com.backend.global.sql;
+
+import com.backend.domain.cart.entity.Cart;
+import com.backend.domain.cart.repository.CartRepository;
+import com.backend.domain.cart.service.CartService;
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.repository.MenuRepository;
+import com.backend.domain.order.dto.request.OrderCreateRequest;
+import com.backend.domain.order.dto.request.OrderDetailsCreateRequest;
+import com.backend.domain.order.entity.Orders;
+import com.backend.domain.order.service.AdminOrderService;
+import com.backend.domain.order.service.OrderService;
+import com.backend.domain.payment.entity.Payment;
+import com.backend.domain.payment.entity.PaymentMethod;
+import com.backend.domain.payment.repository.PaymentRepository;
+import com.backend.domain.payment.service.PaymentProcessor;
+import com.backend.domain.payment.service.PaymentService;
+import com.backend.domain.user.address.dto.AddressDto;
+import com.backend.domain.user.address.entity.Address;
+import com.backend.domain.user.address.repository.AddressRepository;
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.domain.user.user.entity.Users;
+import com.backend.domain.user.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeNode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OSIV 비활성화 + 조회 유스케이스별 엔티티 그래프 테스트
+ * - 서비스 호출은 SQL 1건으로 화면에 필요한 연관을 모두 읽음
+ * - 서비스가 끝나면 영속성 컨텍스트(커넥션)가 스레드에 남지 않고, 응답 직렬화 중 SQL 이 나가지 않음
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FetchPlanTest {
+
+    private static final int ORDER_COUNT = 3;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private AdminOrderService adminOrderService;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    private UserDto actor;
+    private UserDto admin;
+    private Orders order;
+    private Payment payment;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Users user = userRepository.save(new Users("fetch-plan-" + System.nanoTime() + "@example.com",
+                "password123", "010-1234-5678", 1));
+        Users adminUser = userRepository.save(new Users("fetch-plan-admin-" + System.nanoTime() + "@example.com",
+                "password123", "010-1234-5678", 0));
+        actor = new UserDto(user);
+        admin = new UserDto(adminUser);
+
+        Address address = addressRepository.save(new Address(user,
+                new AddressDto(null, user.getUserId(), "서울시 강남구 테헤란로", "123번길 456호", "12345")));
+        Menu menu = menuRepository.save(Menu.builder().name("그래프 원두").price(10000).build());
+        Menu otherMenu = menuRepository.save(Menu.builder().name("그래프 디카페인").price(12000).build());
+
+        OrderCreateRequest request = new OrderCreateRequest(35000, address.getAddressId(), List.of(
+                new OrderDetailsCreateRequest(menu.getMenuId(), menu.getName(), 2, 20000),
+                new OrderDetailsCreateRequest(otherMenu.getMenuId(), otherMenu.getName(), 1, 12000)));
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            order = orderService.createOrder(actor, request);
+        }
+        payment = paymentRepository.save(Payment.builder()
+                .paymentAmount(order.getOrderAmount())
+                .paymentMethod(PaymentMethod.CARD)
+                .orders(order)
+                .build());
+
+        cartRepository.save(Cart.builder().user(user).menu(menu).quantity(1).build());
+        cartRepository.save(Cart.builder().user(user).menu(otherMenu).quantity(3).build());
+    }
+
+    @Test
+    @DisplayName("OSIV 비활성화 - 요청 전체에 영속성 컨텍스트를 여는 인터셉터가 없음")
+    void openInView_Disabled() {
+        assertThat(applicationContext.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("장바구니 조회 - 메뉴까지 SQL 1건")
+    void cartView() throws Exception {
+        var cart = QueryBudget.of("GET /api/carts").maxStatements(1)
+                .verify(() -> cartService.getCart(actor));
+
+        assertThat(cart.getCartItems()).hasSize(2);
+        assertRenderedOutsideSession("GET /api/carts", cart);
+    }
+
+    @Test
+    @DisplayName("주문 목록 조회 - 주소/결제/상세/메뉴까지 SQL 1건")
+    void orderHistory() throws Exception {
+        var orders = QueryBudget.of("GET /api/orders").maxStatements(1)
+                .verify(() -> orderService.getOrdersByUserId(actor.userId()));
+
+        assertThat(orders).hasSize(ORDER_COUNT);
+        assertThat(orders).allSatisfy(summary -> assertThat(summary.items()).hasSize(2));
+        assertRenderedOutsideSession("GET /api/orders", orders);
+    }
+
+    @Test
+    @DisplayName("주문 단건 조회 - SQL 1건")
+    void orderDetail() throws Exception {
+        var detail = QueryBudget.of("GET /api/orders/{orderId}").maxStatements(1)
+                .verify(() -> orderService.getOrderByUserId(actor.userId(), order.getOrderId()));
+
+        assertThat(detail.paymentId()).isEqualTo(payment.getPaymentId());
+        assertRenderedOutsideSession("GET /api/orders/{orderId}", detail);
+    }
+
+    @Test
+    @DisplayName("주문 상태 변경 - 조회 1건 + UPDATE 1건, 응답은 서비스 안에서 변환")
+    void orderStatusUpdate() throws Exception {
+        var updated = QueryBudget.of("PUT /api/orders/{orderId}/status").maxStatements(2)
+                .verify(() -> orderService.updateOrderStatus(order.getOrderId(), "PAID"));
+
+        assertThat(updated.status()).isEqualTo("PAID");
+        assertThat(updated.details()).hasSize(2);
+        assertRenderedOutsideSession("PUT /api/orders/{orderId}/status", updated);
+    }
+
+    @Test
+    @DisplayName("관리자 주문 목록 - 주문자까지 SQL 1건")
+    void adminListing() throws Exception {
+        var orders = QueryBudget.of("GET /api/admin/orders").maxStatements(1)
+                .verify(() -> adminOrderService.getAllOrdersForAdmin());
+
+        assertThat(orders).hasSizeGreaterThanOrEqualTo(ORDER_COUNT);
+        assertRenderedOutsideSession("GET /api/admin/orders", orders);
+    }
+
+    @Test
+    @DisplayName("관리자 주문 목록 그래프 - 주문 상세 그래프에 주문자만 더해 등록")
+    void adminListingGraph_ExtendsDetailsGraph() {
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            assertThat(entityManager.getEntityGraph(Orders.ADMIN_LISTING_GRAPH).getAttributeNodes())
+                    .extracting(AttributeNode::getAttributeName)
+                    .containsExactlyInAnyOrder("user", "address", "payment", "orderDetails");
+        }
+    }
+
+    @Test
+    @DisplayName("결제 조회 - 사용자/관리자 모두 SQL 1건")
+    void paymentInquiry() throws Exception {
+        var mine = QueryBudget.of("GET /api/payments/{paymentId}").maxStatements(1)
+                .verify(() -> paymentService.getPayment(payment.getPaymentId(), actor));
+        var byAdmin = QueryBudget.of("GET /api/payments/{paymentId}").maxStatements(1)
+                .verify(() -> paymentService.getPayment(payment.getPaymentId(), admin));
+
+        assertThat(mine.orderId()).isEqualTo(order.getOrderId());
+        assertThat(byAdmin.orderId()).isEqualTo(order.getOrderId());
+        assertRenderedOutsideSession("GET /api/payments/{paymentId}", mine);
+    }
+
+    // 서비스 호출이 끝난 뒤 - 스레드에 묶인 영속성 컨텍스트/트랜잭션이 없고 JSON 변환 중 SQL 0건
+    private void assertRenderedOutsideSession(String endpoint, Object response) throws Exception {
+        assertThat(TransactionSynchronizationManager.hasResource(entityManagerFactory)).isFalse();
+        assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+
+        String json = QueryBudget.of(endpoint + " (직렬화)").maxStatements(0)
+                .verify(() -> objectMapper.writeValueAsString(response));
+        assertThat(json).isNotBlank();
+    }
+}
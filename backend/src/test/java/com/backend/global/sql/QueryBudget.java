@@ -0,0 +1,74 @@
+package com.backend.global.sql;
+
+import com.backend.global.sql.SqlRequestStatistics.NPlusOneSuspect;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트용 SQL 예산 검증
+ * <pre>
+ * QueryBudget.of("GET /api/orders").maxStatements(3)
+ *         .verify(() -> orderService.getOrdersByUserId(userId));
+ * </pre>
+ * - 블록 안에서 실행된 SQL 수가 예산을 넘거나 N+1 의심 SQL 이 있으면 실패
+ */
+public final class QueryBudget {
+
+    private static final int DEFAULT_N_PLUS_ONE_THRESHOLD = 3;
+
+    private final String endpoint;
+    private int maxStatements = Integer.MAX_VALUE;
+    private boolean allowNPlusOne;
+
+    private QueryBudget(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public static QueryBudget of(String endpoint) {
+        return new QueryBudget(endpoint);
+    }
+
+    public QueryBudget maxStatements(int maxStatements) {
+        this.maxStatements = maxStatements;
+        return this;
+    }
+
+    // 아직 N+1 이 남아 있는 엔드포인트의 SQL 수만 묶어 둘 때 사용
+    public QueryBudget allowNPlusOne() {
+        this.allowNPlusOne = true;
+        return this;
+    }
+
+    public <T> T verify(Action<T> action) throws Exception {
+        SqlRequestStatistics statistics = new SqlRequestStatistics();
+        T result;
+        try (SqlStatementContext.Scope ignored = SqlStatementContext.open(statistics)) {
+            result = action.run();
+        }
+
+        assertThat(statistics.getStatementCount())
+                .as("%s SQL 실행 수 %s", endpoint, statistics.getExecutions())
+                .isLessThanOrEqualTo(maxStatements);
+        if (!allowNPlusOne) {
+            List<NPlusOneSuspect> suspects = statistics.nPlusOneSuspects(DEFAULT_N_PLUS_ONE_THRESHOLD);
+            assertThat(suspects).as("%s N+1 의심 SQL", endpoint).isEmpty();
+        }
+        return result;
+    }
+
+    // 예산 검증 없이 실행된 SQL 만 수집
+    public static SqlRequestStatistics record(Action<?> action) throws Exception {
+        SqlRequestStatistics statistics = new SqlRequestStatistics();
+        try (SqlStatementContext.Scope ignored = SqlStatementContext.open(statistics)) {
+            action.run();
+        }
+        return statistics;
+    }
+
+    @FunctionalInterface
+    public interface Action<T> {
+        T run() throws Exception;
+    }
+}
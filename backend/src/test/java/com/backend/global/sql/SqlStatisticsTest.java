@@ -0,0 +1,125 @@
+package com.backend.global.sql;
+
+import com.backend.domain.menu.entity.Menu;
+import com.backend.domain.menu.repository.MenuRepository;
+import com.backend.domain.order.dto.request.OrderCreateRequest;
+import com.backend.domain.order.dto.request.OrderDetailsCreateRequest;
+import com.backend.domain.order.entity.Orders;
+import com.backend.domain.order.service.OrderService;
+import com.backend.domain.payment.service.PaymentProcessor;
+import com.backend.domain.user.address.dto.AddressDto;
+import com.backend.domain.user.address.entity.Address;
+import com.backend.domain.user.address.repository.AddressRepository;
+import com.backend.domain.user.user.dto.UserDto;
+import com.backend.domain.user.user.entity.Users;
+import com.backend.domain.user.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SQL 실행 통계 / N+1 탐지 테스트
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SqlStatisticsTest {
+
+    private static final int ORDER_COUNT = 5;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SqlStatisticsRegistry sqlStatisticsRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    private Users user;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        user = userRepository.save(new Users("sql-stats-" + System.nanoTime() + "@example.com",
+                "password123", "010-1234-5678", 1));
+        Address address = addressRepository.save(new Address(user,
+                new AddressDto(null, user.getUserId(), "서울시 강남구 테헤란로", "123번길 456호", "12345")));
+        Menu menu = menuRepository.save(Menu.builder().name("통계 원두").price(10000).build());
+
+        OrderCreateRequest request = new OrderCreateRequest(23000, address.getAddressId(),
+                List.of(new OrderDetailsCreateRequest(menu.getMenuId(), menu.getName(), 2, 20000)));
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orderService.createOrder(new UserDto(user), request);
+        }
+        sqlStatisticsRegistry.reset();
+    }
+
+    @Test
+    @DisplayName("지연 로딩 경로 - 주문마다 반복되는 상세 SELECT 를 N+1 로 탐지")
+    void lazyTraversal_DetectsNPlusOne() throws Exception {
+        // When - 엔티티 그래프 없이 주문을 읽고 상세를 하나씩 초기화
+        SqlRequestStatistics statistics = QueryBudget.record(() -> transactionTemplate.execute(status ->
+                entityManager.createQuery("SELECT o FROM Orders o WHERE o.user.userId = :userId", Orders.class)
+                        .setParameter("userId", user.getUserId())
+                        .getResultStream()
+                        .mapToInt(order -> order.getOrderDetails().size())
+                        .sum()));
+        sqlStatisticsRegistry.record("GET /api/orders", statistics);
+
+        // Then
+        assertThat(statistics.getStatementCount()).isGreaterThan(ORDER_COUNT);
+        assertThat(statistics.nPlusOneSuspects(3))
+                .anySatisfy(suspect -> assertThat(suspect.executions()).isGreaterThanOrEqualTo(ORDER_COUNT));
+
+        SqlStatisticsResponse endpoint = sqlStatisticsRegistry.getStatistics().get(0);
+        assertThat(endpoint.endpoint()).isEqualTo("GET /api/orders");
+        assertThat(endpoint.requests()).isEqualTo(1);
+        assertThat(endpoint.statements()).isEqualTo(statistics.getStatementCount());
+        assertThat(endpoint.nPlusOneRequests()).isEqualTo(1);
+        assertThat(endpoint.nPlusOneSuspects()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("주문 목록 조회 - 엔티티 그래프로 주문 수와 관계없이 SQL 1건")
+    void getOrdersByUserId_WithinBudget() throws Exception {
+        List<?> orders = QueryBudget.of("GET /api/orders")
+                .maxStatements(1)
+                .verify(() -> orderService.getOrdersByUserId(user.getUserId()));
+
+        assertThat(orders).hasSize(ORDER_COUNT);
+    }
+
+    @Test
+    @DisplayName("예산 초과 - 허용 SQL 수를 넘으면 실패")
+    void queryBudget_FailsWhenExceeded() {
+        assertThatThrownBy(() -> QueryBudget.of("GET /api/orders")
+                        .maxStatements(0)
+                        .verify(() -> orderService.getOrdersByUserId(user.getUserId())))
+                .isInstanceOf(AssertionError.class);
+    }
+}
@@ -0,0 +1,125 @@
+package com.backend.global.thread;
+
+import com.backend.domain.payment.service.PaymentProcessor;
+import com.backend.global.security.ConcurrencyLimitedPasswordEncoder;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 모드 테스트
+ * - @Async / @Scheduled 실행기가 가상 스레드를 쓰는지
+ * - Hikari 커넥션 대기 시간 상한, BCrypt 동시 실행 제한 적용
+ * - 동시 요청 상한(1)을 넘은 /api 요청은 503
+ */
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.hikari.connection-timeout=30000",
+        "custom.virtual-threads.maxConcurrentRequests=1",
+        "custom.virtual-threads.acquireTimeoutMillis=50"
+})
+@ActiveProfiles("test")
+class VirtualThreadModeTest {
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private RequestConcurrencyLimitFilter requestConcurrencyLimitFilter;
+
+    @MockBean
+    private PaymentProcessor paymentProcessor;
+
+    @Test
+    @DisplayName("가상 스레드 모드 - @Async / @Scheduled 실행기")
+    void executors_UseVirtualThreads() throws Exception {
+        boolean asyncVirtual = applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual())
+                .get(5, TimeUnit.SECONDS);
+
+        CompletableFuture<Boolean> scheduledVirtual = new CompletableFuture<>();
+        taskScheduler.schedule(() -> scheduledVirtual.complete(Thread.currentThread().isVirtual()), Instant.now());
+
+        assertThat(asyncVirtual).isTrue();
+        assertThat(scheduledVirtual.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드 - 커넥션 대기 시간 상한과 BCrypt 동시 실행 제한")
+    void poolGuard_And_PasswordEncoder() throws Exception {
+        assertThat(dataSource.unwrap(HikariDataSource.class).getConnectionTimeout()).isEqualTo(3000);
+
+        assertThat(passwordEncoder).isInstanceOf(ConcurrencyLimitedPasswordEncoder.class);
+        assertThat(passwordEncoder.matches("password123", passwordEncoder.encode("password123"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드 - 동시 요청 상한 초과 시 503")
+    void concurrencyLimit_RejectsWhenFull() throws Exception {
+        // Given - 첫 요청이 자리를 차지한 채 대기
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread first = Thread.ofVirtual().start(() -> {
+            try {
+                requestConcurrencyLimitFilter.doFilter(apiRequest(), new MockHttpServletResponse(), (request, response) -> {
+                    entered.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        requestConcurrencyLimitFilter.doFilter(apiRequest(), rejected, (request, response) -> {
+            throw new AssertionError("상한을 넘은 요청은 처리되면 안 됨");
+        });
+
+        release.countDown();
+        first.join();
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        requestConcurrencyLimitFilter.doFilter(apiRequest(), admitted, (request, response) -> {
+        });
+
+        // Then
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getContentAsString()).contains("S001");
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(admitted.getStatus()).isEqualTo(200);
+    }
+
+    private static MockHttpServletRequest apiRequest() {
+        return new MockHttpServletRequest("GET", "/api/menus");
+    }
+}
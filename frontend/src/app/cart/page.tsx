@@ -3,7 +3,7 @@
 
 import { useEffect, useState } from "react";
 import { fetchApi } from "@/lib/client";
-import { CartItemType, CartListType } from "@/types/cart";
+import { CartItemType, CartListType, CartOperationType, EMPTY_CART } from "@/types/cart";
 import CartItem from "@/components/cart-item";
 import CartSummary from "@/components/cart-summary";
 import AuthGuard from "@/components/auth/AuthGuard";
@@ -29,12 +29,21 @@ function CartPageContent() {
     } catch (error) {
       console.error("장바구니 조회 실패:", error);
       // ✅ 변경점: 에러 발생 시 빈 장바구니 상태로 설정하여 레이아웃 유지
-      setCart({ cartItems: [], grandTotal: 0 });
+      setCart(EMPTY_CART);
     } finally {
       setLoading(false);
     }
   };
 
+  // 일괄 변경 API - 응답으로 변경된 장바구니 전체를 받으므로 다시 조회하지 않음
+  const applyCartOperations = async (operations: CartOperationType[]) => {
+    const res = await fetchApi<CartListType>("/api/carts/items", {
+      method: "PATCH",
+      body: JSON.stringify({ operations }),
+    });
+    setCart(res.data);
+  };
+
   const handleUpdateQuantity = async (menuId: number, quantity: number) => {
     if (quantity <= 0) {
       if (confirm("상품을 장바구니에서 삭제하시겠습니까?")) {
@@ -43,11 +52,7 @@ function CartPageContent() {
       return;
     }
     try {
-      await fetchApi(`/api/carts/items/${menuId}`, {
-        method: "PUT",
-        body: JSON.stringify({ quantity }),
-      });
-      loadCart();
+      await applyCartOperations([{ type: "SET", menuId, quantity }]);
     } catch (error) {
       console.error("수량 변경 실패:", error);
       alert("수량 변경에 실패했습니다.");
@@ -56,11 +61,8 @@ function CartPageContent() {
 
   const handleDeleteItem = async (menuId: number) => {
     try {
-      await fetchApi(`/api/carts/items/${menuId}`, {
-        method: "DELETE",
-      });
+      await applyCartOperations([{ type: "REMOVE", menuId }]);
       alert("상품이 삭제되었습니다.");
-      loadCart();
     } catch (error) {
       console.error("상품 삭제 실패:", error);
       alert("상품 삭제에 실패했습니다.");
@@ -72,7 +74,7 @@ function CartPageContent() {
       try {
         await fetchApi("/api/carts", { method: "DELETE" });
         alert("장바구니를 비웠습니다.");
-        setCart({ cartItems: [], grandTotal: 0 });
+        setCart(EMPTY_CART);
       } catch (error) {
         console.error("장바구니 비우기 실패:", error);
         alert("장바구니를 비우는 데 실패했습니다.");
@@ -130,8 +132,8 @@ function CartPageContent() {
         {/* 주문 요약 */}
         <div className="lg:col-span-1">
           <CartSummary
-            // ✅ 변경점: 장바구니가 비어있으면 0을 전달
-            totalAmount={isCartEmpty ? 0 : cart.grandTotal}
+            // 금액은 서버가 계산한 값을 그대로 표시 (빈 장바구니는 모두 0)
+            cart={cart ?? EMPTY_CART}
             itemCount={isCartEmpty ? 0 : cart.cartItems.length}
           />
         </div>
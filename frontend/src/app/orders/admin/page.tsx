@@ -22,7 +22,7 @@ export default function AdminOrdersPage() {
     }
   }
 
-  async function updateStatus(orderId: number, newStatus: string) {
+  async function updateStatus(orderId: string, newStatus: string) {
     try {
       await fetchApi(`/api/orders/${orderId}/status`, {
         method: "PUT",
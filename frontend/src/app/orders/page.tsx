@@ -33,7 +33,7 @@ export default function OrdersPage() {
   )
 
   // ✅ 주문 취소 → status 변경 + 버튼 변경
-  const handleCancel = async (orderId: number) => {
+  const handleCancel = async (orderId: string) => {
     try {
       await fetchApi(`/api/orders/${orderId}/cancel`, {
         method: "PUT",
@@ -51,7 +51,7 @@ export default function OrdersPage() {
   }
 
   // ✅ 주문 삭제 → API 호출 + UI 제거
-  const handleDelete = async (orderId: number) => {
+  const handleDelete = async (orderId: string) => {
     if (confirm("정말 삭제하시겠습니까?")) {
       try {
         await fetchApi(`/api/orders/${orderId}/delete`, {
@@ -7,7 +7,7 @@ import { fetchApi } from "@/lib/client"
 import AuthGuard from "@/components/auth/AuthGuard"
 
 type PaymentDetail = {
-  paymentId: number
+  paymentId: string
   paymentAmount: number
   paymentMethod: string
   paymentStatus: string
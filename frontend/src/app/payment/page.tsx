@@ -33,6 +33,8 @@ type CartItem = {
 
 type CartResponse = {
   cartItems: CartItem[]
+  subtotal: number
+  shippingFee: number
   grandTotal: number
 }
 
@@ -91,8 +93,8 @@ function CheckoutPage() {
     }
 
     try {
-      const shippingFee = cart.grandTotal < 50000 ? 3000 : 0
-      const totalAmount = cart.grandTotal + shippingFee
+      // 배송비 포함 총액은 서버(장바구니 조회)가 주문 검증과 같은 규칙으로 계산한 값
+      const totalAmount = cart.grandTotal
 
       const items = cart.cartItems.map((c) => ({
         productId: c.menuId,
@@ -129,9 +131,9 @@ function CheckoutPage() {
     }
   }
 
-  const shippingFee = cart && cart.grandTotal < 50000 ? 3000 : 0
-  const productTotal = cart?.grandTotal ?? 0
-  const totalAmount = productTotal + shippingFee
+  const shippingFee = cart?.shippingFee ?? 0
+  const productTotal = cart?.subtotal ?? 0
+  const totalAmount = cart?.grandTotal ?? 0
 
   return (
     <div className="min-h-screen bg-gray-50">
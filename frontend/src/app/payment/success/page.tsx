@@ -15,12 +15,12 @@ interface OrderSummaryDetailResponse {
 }
 
 interface OrderSummaryResponse {
-  orderId: number
+  orderId: string
   orderTime: string
   orderAmount: number
   status: string
   address: string
-  paymentId: number
+  paymentId: string
   items: OrderSummaryDetailResponse[]
 }
 
@@ -5,7 +5,7 @@ import { AdminOrder } from "@/types/order"
 
 interface Props {
   order: AdminOrder
-  onUpdateStatus: (orderId: number, newStatus: string) => void
+  onUpdateStatus: (orderId: string, newStatus: string) => void
 }
 
 // ✅ 상태별 텍스트 + 색상 클래스 (OrderItemCard와 동일한 border 스타일 적용)
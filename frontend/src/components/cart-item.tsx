@@ -34,6 +34,9 @@ export default function CartItem({
         <div className="flex gap-2 mt-1">
           <span className="text-xs px-2 py-0.5 bg-gray-100 rounded">콜롬비아</span>
           <span className="text-xs px-2 py-0.5 bg-gray-100 rounded">미디엄 로스트</span>
+          {item.soldOut && (
+            <span className="text-xs px-2 py-0.5 bg-red-100 text-red-600 rounded">품절 - 주문 전 삭제 필요</span>
+          )}
         </div>
       </div>
 
@@ -2,15 +2,15 @@
 "use client";
 
 import Link from "next/link";
+import { CartListType } from "@/types/cart";
 
 type CartSummaryProps = {
-  totalAmount: number;
+  cart: CartListType;
   itemCount: number;
 };
 
-export default function CartSummary({ totalAmount, itemCount }: CartSummaryProps) {
-  const shippingFee = totalAmount >= 50000 ? 0 : 3000;
-  const finalAmount = totalAmount + shippingFee;
+export default function CartSummary({ cart, itemCount }: CartSummaryProps) {
+  const { subtotal, shippingFee, grandTotal } = cart;
 
   return (
     <div className="bg-white border rounded-lg p-6 sticky top-24">
@@ -18,7 +18,7 @@ export default function CartSummary({ totalAmount, itemCount }: CartSummaryProps
       <div className="space-y-2 text-sm">
         <div className="flex justify-between">
           <span className="text-gray-600">상품 금액</span>
-          <span>{totalAmount.toLocaleString()}원</span>
+          <span>{subtotal.toLocaleString()}원</span>
         </div>
         <div className="flex justify-between">
           <span className="text-gray-600">배송비</span>
@@ -28,7 +28,7 @@ export default function CartSummary({ totalAmount, itemCount }: CartSummaryProps
       <div className="border-t my-4"></div>
       <div className="flex justify-between font-bold">
         <span>총 결제 금액</span>
-        <span>{finalAmount.toLocaleString()}원</span>
+        <span>{grandTotal.toLocaleString()}원</span>
       </div>
 
       {/* 2. Link 컴포넌트로 버튼을 감싸줍니다. */}
@@ -8,9 +8,20 @@ export type CartItemType = {
   price: number;
   quantity: number;
   orderAmount: number; // price * quantity
+  soldOut: boolean; // 담은 뒤 메뉴가 품절됨
 };
 
 export type CartListType = {
   cartItems: CartItemType[];
-  grandTotal: number;
-};
\ No newline at end of file
+  subtotal: number; // 상품 금액 합계
+  shippingFee: number; // 서버 계산 (5만원 이상 무료)
+  grandTotal: number; // subtotal + shippingFee - 주문 생성 amount 로 사용
+};
+
+export const EMPTY_CART: CartListType = { cartItems: [], subtotal: 0, shippingFee: 0, grandTotal: 0 };
+// PATCH /api/carts/items 의 개별 작업 (REMOVE 는 quantity 생략)
+export type CartOperationType = {
+  type: "SET" | "ADD" | "REMOVE";
+  menuId: number;
+  quantity?: number;
+};
@@ -6,25 +6,25 @@ export type OrderItem = {
 }
 
 export type Order = {
-  orderId: number
+  orderId: string
   orderTime: string
   orderAmount: number
   status: string
   address: string
-  paymentId?: number
+  paymentId?: string
   items: OrderItem[]
 }
 
 
 export type AdminOrder = {
-  orderId: number
+  orderId: string
   orderTime: string
   orderAmount: number
   status: string
   userEmail: string
   userPhone: string
   address: string
-  paymentId?: number
+  paymentId?: string
   items: OrderItem[]
 }
 
@@ -37,8 +37,8 @@ export const ORDER_STATUS = {
 
 export type OrderItemCardProps = {
   order: Order
-  onCancel: (orderId: number) => void
-  onDelete: (orderId: number) => void
+  onCancel: (orderId: string) => void
+  onDelete: (orderId: string) => void
 }
 
 export type OrderStatus = typeof ORDER_STATUS[keyof typeof ORDER_STATUS]